@@ -6,6 +6,8 @@ package com.microsoft.recognizers.text.choice;
 public class Constants {
     public static final String SYS_BOOLEAN_TRUE = "boolean_true";
     public static final String SYS_BOOLEAN_FALSE = "boolean_false";
+    public static final String SYS_CHOICE_OPTION = "choice_option";
     // Model type name
     public static final String MODEL_BOOLEAN = "boolean";
+    public static final String MODEL_CHOICE = "choice";
 }
\ No newline at end of file
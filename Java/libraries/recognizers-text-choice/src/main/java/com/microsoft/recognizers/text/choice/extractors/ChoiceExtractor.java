@@ -5,25 +5,26 @@ package com.microsoft.recognizers.text.choice.extractors;
 
 import com.microsoft.recognizers.text.ExtractResult;
 import com.microsoft.recognizers.text.IExtractor;
-import com.microsoft.recognizers.text.choice.utilities.UnicodeUtils;
+import com.microsoft.recognizers.text.choice.utilities.Tokenizer;
 import com.microsoft.recognizers.text.utilities.Match;
 import com.microsoft.recognizers.text.utilities.RegExpUtility;
-import com.microsoft.recognizers.text.utilities.StringUtility;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Pattern;
 
 public class ChoiceExtractor implements IExtractor {
 
     private IChoiceExtractorConfiguration config;
 
+    private final Tokenizer tokenizer;
+
     public ChoiceExtractor(IChoiceExtractorConfiguration config) {
         this.config = config;
+        this.tokenizer = new Tokenizer(config.getTokenRegex());
     }
 
     @Override
@@ -32,7 +33,8 @@ public class ChoiceExtractor implements IExtractor {
         List<ExtractResult> results = new ArrayList<>();
         String trimmedText = text.toLowerCase();
         List<ExtractResult> partialResults = new ArrayList<>();
-        List<String> sourceTokens = tokenize(trimmedText);
+        List<String> sourceTokens = tokenizer.tokenize(trimmedText);
+        Map<String, Integer> sourcePositions = indexTokens(sourceTokens);
 
         if (text.isEmpty()) {
             return results;
@@ -47,11 +49,9 @@ public class ChoiceExtractor implements IExtractor {
 
             for (Match match : matches) {
 
-                List<String> matchToken = tokenize(match.value);
-                for (int i = 0; i < sourceTokens.size(); i++) {
-                    double score = matchValue(sourceTokens, matchToken, i);
-                    topScore = Math.max(topScore, score);
-                }
+                List<String> matchToken = tokenizer.tokenize(match.value);
+                double score = matchValue(sourcePositions, sourceTokens.size(), matchToken);
+                topScore = Math.max(topScore, score);
 
                 if (topScore > 0.0) {
                     int start = match.index;
@@ -99,14 +99,17 @@ public class ChoiceExtractor implements IExtractor {
         return results;
     }
 
-    private final double matchValue(List<String> source, List<String> match, int startPosition) {
+    // Tokens are found at their first position in the source, so the score does not depend on where
+    // the search starts and a single pass over the match tokens gives the best score of any start.
+    private final double matchValue(Map<String, Integer> sourcePositions, int sourceSize, List<String> match) {
 
         double matched = 0;
         double totalDeviation = 0;
         double score = 0;
+        int startPosition = 0;
 
         for (String token : match) {
-            int pos = indexOfToken(source, token, startPosition);
+            int pos = sourcePositions.getOrDefault(token, -1);
             if (pos >= 0) {
                 int distance = matched > 0 ? pos - startPosition : 0;
                 if (distance <= config.getMaxDistance()) {
@@ -120,54 +123,20 @@ public class ChoiceExtractor implements IExtractor {
         if (matched > 0 && (matched == match.size() || config.getAllowPartialMatch())) {
             double completeness = matched / match.size();
             double accuracy = completeness * (matched / (matched + totalDeviation));
-            double initialScore = accuracy * (matched / source.size());
+            double initialScore = accuracy * (matched / sourceSize);
             score = 0.4 + (0.6 * initialScore);
         }
 
         return score;
     }
 
-    private static int indexOfToken(List<String> tokens, String token, int startPos) {
-
-        if (tokens.size() <= startPos) {
-            return -1;
-        }
-
-        return tokens.indexOf(token);
-    }
-
-    private final List<String> tokenize(String text) {
-
-        List<String> tokens = new ArrayList<>();
-        List<String> letters = UnicodeUtils.letters(text);
-        String token = "";
-
-        for (String letter : letters) {
-
-            Optional<Match> isMatch = Arrays.stream(RegExpUtility.getMatches(this.config.getTokenRegex(), letter)).findFirst();
-            if (UnicodeUtils.isEmoji(letter)) {
-
-                // Character is in a Supplementary Unicode Plane. This is where emoji live so
-                // we're going to just break each character in this range out as its own token.
-                tokens.add(letter);
-                if (!StringUtility.isNullOrWhiteSpace(token)) {
-                    tokens.add(token);
-                    token = "";
-                }
-
-            } else if (!(isMatch.isPresent() || StringUtility.isNullOrWhiteSpace(letter))) {
-                token = token + letter;
-            } else if (!StringUtility.isNullOrWhiteSpace(token)) {
-                tokens.add(token);
-                token = "";
-            }
-        }
+    private static Map<String, Integer> indexTokens(List<String> tokens) {
 
-        if (!StringUtility.isNullOrWhiteSpace(token)) {
-            tokens.add(token);
-            token = "";
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            positions.putIfAbsent(tokens.get(i), i);
         }
 
-        return tokens;
+        return positions;
     }
 }
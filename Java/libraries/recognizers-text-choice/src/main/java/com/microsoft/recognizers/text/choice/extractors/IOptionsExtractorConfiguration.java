@@ -0,0 +1,14 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.choice.extractors;
+
+import java.util.List;
+import java.util.Map;
+
+public interface IOptionsExtractorConfiguration extends IChoiceExtractorConfiguration {
+    /**
+     * The values to choose from, in order, each with the synonyms that also select it.
+     */
+    public Map<String, List<String>> getOptions();
+}
@@ -0,0 +1,23 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.choice.extractors;
+
+import com.microsoft.recognizers.text.ExtractResult;
+
+import java.util.List;
+
+public class OptionsExtractDataResult extends ChoiceExtractDataResult {
+
+    public final String value;
+    public final int index;
+    public final String synonym;
+
+    public OptionsExtractDataResult(String extractDataSource, double extractDataScore, List<ExtractResult> extractDataOtherMatches,
+            String optionValue, int optionIndex, String optionSynonym) {
+        super(extractDataSource, extractDataScore, extractDataOtherMatches);
+        value = optionValue;
+        index = optionIndex;
+        synonym = optionSynonym;
+    }
+}
@@ -0,0 +1,247 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.choice.extractors;
+
+import com.microsoft.recognizers.text.ExtractResult;
+import com.microsoft.recognizers.text.IExtractor;
+import com.microsoft.recognizers.text.choice.Constants;
+import com.microsoft.recognizers.text.choice.utilities.Tokenizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Finds the options of a caller-provided list in text.
+ * The synonyms of every option are tokenized once, when the extractor is built, into an index from each token
+ * to the synonyms containing it. Only the synonyms sharing a token with the text are scored, so the cost of
+ * an extraction follows the text rather than the number of options.
+ */
+public class OptionsExtractor implements IExtractor {
+
+    private final IOptionsExtractorConfiguration config;
+
+    private final Tokenizer tokenizer;
+
+    private final Map<String, List<Synonym>> synonymsByToken = new HashMap<>();
+
+    private int synonymCount = 0;
+
+    public OptionsExtractor(IOptionsExtractorConfiguration config) {
+        this.config = config;
+        this.tokenizer = new Tokenizer(config.getTokenRegex());
+
+        int index = 0;
+        for (Map.Entry<String, List<String>> option : config.getOptions().entrySet()) {
+            addSynonym(option.getKey(), index, option.getKey());
+            for (String synonym : option.getValue()) {
+                addSynonym(option.getKey(), index, synonym);
+            }
+
+            index++;
+        }
+    }
+
+    @Override
+    public List<ExtractResult> extract(String text) {
+
+        List<ExtractResult> results = new ArrayList<>();
+        List<Tokenizer.Token> sourceTokens = tokenizer.getTokens(text);
+
+        // The positions of each token of the text, in increasing order
+        Map<String, List<Integer>> sourcePositions = new HashMap<>();
+        Set<Synonym> candidates = new LinkedHashSet<>();
+        for (int i = 0; i < sourceTokens.size(); i++) {
+            String token = sourceTokens.get(i).getText().toLowerCase();
+            sourcePositions.computeIfAbsent(token, t -> new ArrayList<>()).add(i);
+            candidates.addAll(synonymsByToken.getOrDefault(token, Collections.emptyList()));
+        }
+
+        List<OptionMatch> matches = new ArrayList<>();
+        for (Synonym synonym : candidates) {
+
+            // Without partial matches a synonym missing one of its tokens from the text cannot match
+            if (!this.config.getAllowPartialMatch() && !sourcePositions.keySet().containsAll(synonym.tokens)) {
+                continue;
+            }
+
+            // Starting anywhere between two occurrences of the tokens of the synonym finds the same tokens,
+            // so only the occurrences themselves need to be tried
+            TreeSet<Integer> starts = new TreeSet<>();
+            for (String token : synonym.tokens) {
+                starts.addAll(sourcePositions.getOrDefault(token, Collections.emptyList()));
+            }
+
+            for (int start : starts) {
+                OptionMatch match = matchValue(sourcePositions, sourceTokens.size(), synonym, start);
+                if (match != null) {
+                    matches.add(match);
+                }
+            }
+        }
+
+        if (matches.size() == 0) {
+            return results;
+        }
+
+        // The best scoring match of each option wins, as long as it takes no token already taken
+        matches.sort(Comparator.comparingDouble((OptionMatch m) -> m.score).reversed()
+                .thenComparingInt(m -> m.start)
+                .thenComparingInt(m -> m.synonym.order));
+        boolean[] usedTokens = new boolean[sourceTokens.size()];
+        Set<Integer> foundIndexes = new HashSet<>();
+        List<OptionMatch> accepted = new ArrayList<>();
+
+        for (OptionMatch match : matches) {
+
+            if (foundIndexes.contains(match.synonym.index) || isUsed(usedTokens, match.start, match.end)) {
+                continue;
+            }
+
+            accepted.add(match);
+            foundIndexes.add(match.synonym.index);
+            for (int i = match.start; i <= match.end; i++) {
+                usedTokens[i] = true;
+            }
+
+            if (this.config.getOnlyTopMatch()) {
+                break;
+            }
+        }
+
+        accepted.sort(Comparator.comparingInt(m -> m.start));
+        for (OptionMatch match : accepted) {
+            int start = sourceTokens.get(match.start).getStart();
+            int length = sourceTokens.get(match.end).getEnd() - start;
+            results.add(
+                new ExtractResult(
+                    start,
+                    length,
+                    text.substring(start, length + start),
+                    Constants.SYS_CHOICE_OPTION,
+                    new OptionsExtractDataResult(text, match.score, new ArrayList<>(), match.synonym.value, match.synonym.index, match.synonym.text)
+                )
+            );
+        }
+
+        return results;
+    }
+
+    private final OptionMatch matchValue(Map<String, List<Integer>> sourcePositions, int sourceSize, Synonym synonym, int startPosition) {
+
+        double matched = 0;
+        double totalDeviation = 0;
+        int start = -1;
+        int end = -1;
+
+        for (String token : synonym.tokens) {
+            int pos = indexOfToken(sourcePositions.get(token), startPosition);
+            if (pos >= 0) {
+                int distance = matched > 0 ? pos - startPosition : 0;
+                if (distance <= config.getMaxDistance()) {
+                    matched++;
+                    totalDeviation += distance;
+                    startPosition = pos + 1;
+
+                    if (start < 0) {
+                        start = pos;
+                    }
+
+                    end = pos;
+                }
+            }
+        }
+
+        if (matched > 0 && (matched == synonym.tokens.size() || config.getAllowPartialMatch())) {
+            double completeness = matched / synonym.tokens.size();
+            double accuracy = completeness * (matched / (matched + totalDeviation));
+            double initialScore = accuracy * (matched / sourceSize);
+            double score = 0.4 + (0.6 * initialScore);
+            return new OptionMatch(synonym, start, end, score);
+        }
+
+        return null;
+    }
+
+    // The first position at or after startPos, or -1 when there is none
+    private static int indexOfToken(List<Integer> positions, int startPos) {
+
+        if (positions == null) {
+            return -1;
+        }
+
+        int index = Collections.binarySearch(positions, startPos);
+        if (index < 0) {
+            index = -index - 1;
+        }
+
+        return index < positions.size() ? positions.get(index) : -1;
+    }
+
+    private static boolean isUsed(boolean[] usedTokens, int start, int end) {
+
+        for (int i = start; i <= end; i++) {
+            if (usedTokens[i]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void addSynonym(String value, int index, String text) {
+
+        List<String> tokens = new ArrayList<>();
+        for (Tokenizer.Token token : tokenizer.getTokens(text)) {
+            tokens.add(token.getText().toLowerCase());
+        }
+
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        Synonym synonym = new Synonym(value, index, synonymCount++, text, tokens);
+        for (String token : new HashSet<>(tokens)) {
+            synonymsByToken.computeIfAbsent(token, t -> new ArrayList<>()).add(synonym);
+        }
+    }
+
+    private static final class Synonym {
+        private final String value;
+        private final int index;
+        // The position of the synonym among all synonyms, which breaks ties between equal matches
+        private final int order;
+        private final String text;
+        private final List<String> tokens;
+
+        private Synonym(String value, int index, int order, String text, List<String> tokens) {
+            this.value = value;
+            this.index = index;
+            this.order = order;
+            this.text = text;
+            this.tokens = tokens;
+        }
+    }
+
+    private static final class OptionMatch {
+        private final Synonym synonym;
+        private final int start;
+        private final int end;
+        private final double score;
+
+        private OptionMatch(Synonym synonym, int start, int end, double score) {
+            this.synonym = synonym;
+            this.start = start;
+            this.end = end;
+            this.score = score;
+        }
+    }
+}
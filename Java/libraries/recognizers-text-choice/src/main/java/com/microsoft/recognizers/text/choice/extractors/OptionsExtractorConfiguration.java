@@ -0,0 +1,83 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.choice.extractors;
+
+import com.microsoft.recognizers.text.choice.resources.EnglishChoice;
+import com.microsoft.recognizers.text.utilities.RegExpUtility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public class OptionsExtractorConfiguration implements IOptionsExtractorConfiguration {
+    public static final Pattern defaultTokenRegex = RegExpUtility.getSafeRegExp(EnglishChoice.TokenizerRegex);
+
+    private final Map<String, List<String>> options;
+    private final Pattern tokenRegex;
+
+    public boolean allowPartialMatch = false;
+    public int maxDistance = 2;
+    public boolean onlyTopMatch = false;
+
+    public OptionsExtractorConfiguration(Map<String, ? extends List<String>> options, Pattern tokenRegex) {
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, ? extends List<String>> option : options.entrySet()) {
+            List<String> synonyms = option.getValue() != null ? option.getValue() : Collections.emptyList();
+            copy.put(option.getKey(), Collections.unmodifiableList(new ArrayList<>(synonyms)));
+        }
+
+        this.options = Collections.unmodifiableMap(copy);
+        this.tokenRegex = tokenRegex;
+    }
+
+    public OptionsExtractorConfiguration(Map<String, ? extends List<String>> options) {
+        this(options, defaultTokenRegex);
+    }
+
+    public OptionsExtractorConfiguration(List<String> values) {
+        this(OptionsExtractorConfiguration.withoutSynonyms(values));
+    }
+
+    @Override
+    public Map<String, List<String>> getOptions() {
+        return options;
+    }
+
+    @Override
+    public Map<Pattern, String> getMapRegexes() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Pattern getTokenRegex() {
+        return tokenRegex;
+    }
+
+    @Override
+    public boolean getAllowPartialMatch() {
+        return allowPartialMatch;
+    }
+
+    @Override
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    @Override
+    public boolean getOnlyTopMatch() {
+        return onlyTopMatch;
+    }
+
+    private static Map<String, List<String>> withoutSynonyms(List<String> values) {
+        Map<String, List<String>> options = new LinkedHashMap<>();
+        for (String value : values) {
+            options.put(value, Collections.emptyList());
+        }
+
+        return options;
+    }
+}
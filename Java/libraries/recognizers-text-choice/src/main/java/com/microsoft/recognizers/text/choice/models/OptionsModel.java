@@ -0,0 +1,49 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.choice.models;
+
+import com.microsoft.recognizers.text.IExtractor;
+import com.microsoft.recognizers.text.IParser;
+import com.microsoft.recognizers.text.ParseResult;
+import com.microsoft.recognizers.text.choice.Constants;
+import com.microsoft.recognizers.text.choice.extractors.OptionsExtractDataResult;
+import com.microsoft.recognizers.text.choice.extractors.OptionsExtractor;
+import com.microsoft.recognizers.text.choice.extractors.OptionsExtractorConfiguration;
+import com.microsoft.recognizers.text.choice.parsers.OptionsParser;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Recognizes the options of a caller-provided list. Building the model prepares the options,
+ * so a model should be kept and reused for as long as its list does not change.
+ */
+public class OptionsModel extends ChoiceModel {
+
+    public OptionsModel(IParser parser, IExtractor extractor) {
+        super(parser, extractor);
+    }
+
+    public OptionsModel(OptionsExtractorConfiguration config) {
+        this(new OptionsParser(), new OptionsExtractor(config));
+    }
+
+    public String getModelTypeName() {
+        return Constants.MODEL_CHOICE;
+    }
+
+    @Override
+    protected SortedMap<String, Object> getResolution(ParseResult parseResult) {
+
+        OptionsExtractDataResult parseResultData = (OptionsExtractDataResult)parseResult.getData();
+        SortedMap<String, Object> results = new TreeMap<String, Object>();
+
+        results.put("value", parseResult.getValue());
+        results.put("index", parseResultData.index);
+        results.put("score", parseResultData.score);
+        results.put("synonym", parseResultData.synonym);
+
+        return results;
+    }
+}
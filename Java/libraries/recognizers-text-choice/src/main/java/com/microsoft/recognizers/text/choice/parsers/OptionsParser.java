@@ -0,0 +1,21 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.choice.parsers;
+
+import com.microsoft.recognizers.text.ExtractResult;
+import com.microsoft.recognizers.text.IParser;
+import com.microsoft.recognizers.text.ParseResult;
+import com.microsoft.recognizers.text.choice.extractors.OptionsExtractDataResult;
+
+public class OptionsParser implements IParser {
+
+    public ParseResult parse(ExtractResult extractResult) {
+
+        ParseResult parseResult = new ParseResult(extractResult);
+        OptionsExtractDataResult data = (OptionsExtractDataResult)extractResult.getData();
+        parseResult.setValue(data.value);
+
+        return parseResult;
+    }
+}
@@ -0,0 +1,139 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.choice.utilities;
+
+import com.microsoft.recognizers.text.utilities.RegExpUtility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into the tokens choices are matched on.
+ * Whether a character separates tokens is decided by the token regex once per character,
+ * then read from a table for every later occurrence of it.
+ */
+public class Tokenizer {
+    private static final byte UNKNOWN = 0;
+    private static final byte SEPARATOR = 1;
+    private static final byte TOKEN = 2;
+
+    private final Pattern tokenRegex;
+
+    // The class of each character of the Basic Multilingual Plane, filled in as characters are met.
+    // Racing threads store the same value, so the table needs no locking.
+    private final byte[] classes = new byte[Character.MAX_VALUE + 1];
+
+    public Tokenizer(Pattern tokenRegex) {
+        this.tokenRegex = tokenRegex;
+    }
+
+    /**
+     * Returns the text of the tokens. A character of a Supplementary Unicode Plane that directly
+     * follows a token comes before that token, as choice scores have always been computed that way.
+     */
+    public List<String> tokenize(String text) {
+
+        List<Token> tokens = this.getTokens(text);
+        List<String> result = new ArrayList<>(tokens.size());
+
+        for (int i = 0; i < tokens.size(); i++) {
+
+            Token token = tokens.get(i);
+            Token next = i + 1 < tokens.size() ? tokens.get(i + 1) : null;
+            if (next != null && next.isSupplementary() && !token.isSupplementary() && token.getEnd() == next.getStart()) {
+                result.add(next.getText());
+                i++;
+            }
+
+            result.add(token.getText());
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the tokens with their position in the text, in text order.
+     */
+    public List<Token> getTokens(String text) {
+
+        List<Token> tokens = new ArrayList<>();
+        int tokenStart = -1;
+
+        for (int i = 0; i < text.length(); i++) {
+
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+
+                // Character is in a Supplementary Unicode Plane. This is where emoji live so
+                // we're going to just break each character in this range out as its own token.
+                if (tokenStart >= 0) {
+                    tokens.add(new Token(text, tokenStart, i));
+                    tokenStart = -1;
+                }
+
+                tokens.add(new Token(text, i, i + 2));
+                i++;
+            } else if (!this.isSeparator(c)) {
+                if (tokenStart < 0) {
+                    tokenStart = i;
+                }
+            } else if (tokenStart >= 0) {
+                tokens.add(new Token(text, tokenStart, i));
+                tokenStart = -1;
+            }
+        }
+
+        if (tokenStart >= 0) {
+            tokens.add(new Token(text, tokenStart, text.length()));
+        }
+
+        return tokens;
+    }
+
+    private boolean isSeparator(char c) {
+
+        // White space always separates tokens
+        if (c <= ' ') {
+            return true;
+        }
+
+        byte charClass = this.classes[c];
+        if (charClass == UNKNOWN) {
+            boolean isMatch = RegExpUtility.getMatches(this.tokenRegex, String.valueOf(c)).length > 0;
+            charClass = isMatch ? SEPARATOR : TOKEN;
+            this.classes[c] = charClass;
+        }
+
+        return charClass == SEPARATOR;
+    }
+
+    public static final class Token {
+        private final String text;
+        private final int start;
+        private final int end;
+
+        private Token(String source, int start, int end) {
+            this.text = source.substring(start, end);
+            this.start = start;
+            this.end = end;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        private boolean isSupplementary() {
+            return Character.isHighSurrogate(text.charAt(0));
+        }
+    }
+}
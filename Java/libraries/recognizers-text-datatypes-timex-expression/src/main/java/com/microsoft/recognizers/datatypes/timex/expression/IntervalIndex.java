@@ -0,0 +1,95 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.datatypes.timex.expression;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Half-open intervals [start, end) sorted by start, answering which of them contain a point
+ * or start within a range with a binary search. The intervals may overlap.
+ */
+class IntervalIndex<T extends Comparable<? super T>> {
+    private final List<T> starts;
+
+    private final List<T> ends;
+
+    // The greatest end among the intervals up to each position, which bounds the backward scan of containing()
+    private final List<T> maxEnds;
+
+    IntervalIndex(List<Pair<T, T>> intervals) {
+        List<Pair<T, T>> sorted = new ArrayList<Pair<T, T>>(intervals);
+        sorted.sort(Comparator.comparing(Pair::getLeft));
+
+        this.starts = new ArrayList<T>(sorted.size());
+        this.ends = new ArrayList<T>(sorted.size());
+        this.maxEnds = new ArrayList<T>(sorted.size());
+        for (Pair<T, T> interval : sorted) {
+            T end = interval.getRight();
+            T maxEnd = this.maxEnds.isEmpty() ? end : this.maxEnds.get(this.maxEnds.size() - 1);
+            this.starts.add(interval.getLeft());
+            this.ends.add(end);
+            this.maxEnds.add(end.compareTo(maxEnd) > 0 ? end : maxEnd);
+        }
+    }
+
+    public int size() {
+        return this.starts.size();
+    }
+
+    public T getStart(int index) {
+        return this.starts.get(index);
+    }
+
+    public T getEnd(int index) {
+        return this.ends.get(index);
+    }
+
+    /**
+     * Returns the positions of the intervals containing the point, in decreasing order.
+     */
+    public List<Integer> containing(T point) {
+        List<Integer> result = new ArrayList<Integer>();
+        for (int i = this.startingBefore(point, true) - 1; i >= 0 && this.maxEnds.get(i).compareTo(point) > 0; i--) {
+            if (this.ends.get(i).compareTo(point) > 0) {
+                result.add(i);
+            }
+        }
+
+        return result;
+    }
+
+    public boolean contains(T point) {
+        for (int i = this.startingBefore(point, true) - 1; i >= 0 && this.maxEnds.get(i).compareTo(point) > 0; i--) {
+            if (this.ends.get(i).compareTo(point) > 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the number of intervals starting before the point, or at it when inclusive is set.
+     * The intervals starting within [from, to) are the positions from startingBefore(from, false) to startingBefore(to, false).
+     */
+    public int startingBefore(T point, boolean inclusive) {
+        int low = 0;
+        int high = this.starts.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = this.starts.get(middle).compareTo(point);
+            if (comparison < 0 || (inclusive && comparison == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+}
@@ -6,50 +6,50 @@ package com.microsoft.recognizers.datatypes.timex.expression;
 import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 public class TimexFormat {
     public static String format(TimexProperty timex) {
-        HashSet<String> types = timex.getTypes().size() != 0 ? timex.getTypes() : TimexInference.infer(timex);
+        Set<TimexType> types = timex.getTypeSet();
 
-        if (types.contains(Constants.TimexTypes.PRESENT)) {
+        if (types.contains(TimexType.Present)) {
             return "PRESENT_REF";
         }
 
-        if ((types.contains(Constants.TimexTypes.DATE_TIME_RANGE) || types.contains(Constants.TimexTypes.DATE_RANGE) ||
-            types.contains(Constants.TimexTypes.TIME_RANGE)) && types.contains(Constants.TimexTypes.DURATION)) {
+        if ((types.contains(TimexType.DateTimeRange) || types.contains(TimexType.DateRange) ||
+            types.contains(TimexType.TimeRange)) && types.contains(TimexType.Duration)) {
             TimexRange range = TimexHelpers.expandDateTimeRange(timex);
             return String.format("(%1$s,%2$s,%3$s)", TimexFormat.format(range.getStart()),
                     TimexFormat.format(range.getEnd()), TimexFormat.format(range.getDuration()));
         }
 
-        if (types.contains(Constants.TimexTypes.DATE_TIME_RANGE)) {
+        if (types.contains(TimexType.DateTimeRange)) {
             return String.format("%1$s%2$s", TimexFormat.formatDate(timex), TimexFormat.formatTimeRange(timex));
         }
 
-        if (types.contains(Constants.TimexTypes.DATE_RANGE)) {
+        if (types.contains(TimexType.DateRange)) {
             return TimexFormat.formatDateRange(timex);
         }
 
-        if (types.contains(Constants.TimexTypes.TIME_RANGE)) {
+        if (types.contains(TimexType.TimeRange)) {
             return TimexFormat.formatTimeRange(timex);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE_TIME)) {
+        if (types.contains(TimexType.DateTime)) {
             return String.format("%1$s%2$s", TimexFormat.formatDate(timex), TimexFormat.formatTime(timex));
         }
 
-        if (types.contains(Constants.TimexTypes.DURATION)) {
+        if (types.contains(TimexType.Duration)) {
             return TimexFormat.formatDuration(timex);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE)) {
+        if (types.contains(TimexType.Date)) {
             return TimexFormat.formatDate(timex);
         }
 
-        if (types.contains(Constants.TimexTypes.TIME)) {
+        if (types.contains(TimexType.Time)) {
             return TimexFormat.formatTime(timex);
         }
 
@@ -10,9 +10,9 @@ import java.time.temporal.TemporalField;
 import java.time.temporal.WeekFields;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -33,9 +33,9 @@ public class TimexHelpers {
             TimexUnit.Second);
 
     public static TimexRange expandDateTimeRange(TimexProperty timex) {
-        HashSet<String> types = timex.getTypes().size() != 0 ? timex.getTypes() : TimexInference.infer(timex);
+        Set<TimexType> types = timex.getTypeSet();
 
-        if (types.contains(Constants.TimexTypes.DURATION)) {
+        if (types.contains(TimexType.Duration)) {
             TimexProperty start = TimexHelpers.cloneDateTime(timex);
             TimexProperty duration = TimexHelpers.cloneDuration(timex);
             return new TimexRange() {
@@ -77,7 +77,7 @@ public class TimexHelpers {
     }
 
     public static TimexRange expandTimeRange(TimexProperty timex) {
-        if (!timex.getTypes().contains(Constants.TimexTypes.TIME_RANGE)) {
+        if (!timex.hasType(TimexType.TimeRange)) {
             throw new IllegalArgumentException("argument must be a timerange: timex");
         }
 
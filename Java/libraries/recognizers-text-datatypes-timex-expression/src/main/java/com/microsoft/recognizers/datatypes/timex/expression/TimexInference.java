@@ -3,63 +3,73 @@
 
 package com.microsoft.recognizers.datatypes.timex.expression;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 
 public class TimexInference {
     public static HashSet<String> infer(TimexProperty timexProperty) {
         HashSet<String> types = new HashSet<String>();
+        for (TimexType type : TimexInference.inferTypes(timexProperty)) {
+            types.add(type.getTypeName());
+        }
+
+        return types;
+    }
+
+    public static EnumSet<TimexType> inferTypes(TimexProperty timexProperty) {
+        EnumSet<TimexType> types = EnumSet.noneOf(TimexType.class);
 
         if (TimexInference.isPresent(timexProperty)) {
-            types.add(Constants.TimexTypes.PRESENT);
+            types.add(TimexType.Present);
         }
 
         if (TimexInference.isDefinite(timexProperty)) {
-            types.add(Constants.TimexTypes.DEFINITE);
+            types.add(TimexType.Definite);
         }
 
         if (TimexInference.isDate(timexProperty)) {
-            types.add(Constants.TimexTypes.DATE);
+            types.add(TimexType.Date);
         }
 
         if (TimexInference.isDateRange(timexProperty)) {
-            types.add(Constants.TimexTypes.DATE_RANGE);
+            types.add(TimexType.DateRange);
         }
 
         if (TimexInference.isDuration(timexProperty)) {
-            types.add(Constants.TimexTypes.DURATION);
+            types.add(TimexType.Duration);
         }
 
         if (TimexInference.isTime(timexProperty)) {
-            types.add(Constants.TimexTypes.TIME);
+            types.add(TimexType.Time);
         }
 
         if (TimexInference.isTimeRange(timexProperty)) {
-            types.add(Constants.TimexTypes.TIME_RANGE);
+            types.add(TimexType.TimeRange);
         }
 
-        if (types.contains(Constants.TimexTypes.PRESENT)) {
-            types.add(Constants.TimexTypes.DATE);
-            types.add(Constants.TimexTypes.TIME);
+        if (types.contains(TimexType.Present)) {
+            types.add(TimexType.Date);
+            types.add(TimexType.Time);
         }
 
-        if (types.contains(Constants.TimexTypes.TIME) && types.contains(Constants.TimexTypes.DURATION)) {
-            types.add(Constants.TimexTypes.TIME_RANGE);
+        if (types.contains(TimexType.Time) && types.contains(TimexType.Duration)) {
+            types.add(TimexType.TimeRange);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE) && types.contains(Constants.TimexTypes.TIME)) {
-            types.add(Constants.TimexTypes.DATE_TIME);
+        if (types.contains(TimexType.Date) && types.contains(TimexType.Time)) {
+            types.add(TimexType.DateTime);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE) && types.contains(Constants.TimexTypes.DURATION)) {
-            types.add(Constants.TimexTypes.DATE_RANGE);
+        if (types.contains(TimexType.Date) && types.contains(TimexType.Duration)) {
+            types.add(TimexType.DateRange);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE_TIME) && types.contains(Constants.TimexTypes.DURATION)) {
-            types.add((Constants.TimexTypes.DATE_TIME_RANGE));
+        if (types.contains(TimexType.DateTime) && types.contains(TimexType.Duration)) {
+            types.add(TimexType.DateTimeRange);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE) && types.contains(Constants.TimexTypes.TIME_RANGE)) {
-            types.add(Constants.TimexTypes.DATE_TIME_RANGE);
+        if (types.contains(TimexType.Date) && types.contains(TimexType.TimeRange)) {
+            types.add(TimexType.DateTimeRange);
         }
 
         return types;
@@ -3,13 +3,19 @@
 
 package com.microsoft.recognizers.datatypes.timex.expression;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.math.BigDecimal;
 
+/**
+ * Parses timex strings straight into the fields of a TimexProperty.
+ * Each part is scanned once and accepts exactly what the patterns of TimexRegex accept.
+ */
 public class TimexParsing {
+    private static final String[] SEASONS = {"SP", "SU", "FA", "WI"};
+    private static final String[] PARTS_OF_DAY = {"DT", "NI", "MO", "AF", "EV"};
+
     public static void parseString(String timex, TimexProperty timexProperty) {
         // a reference to the present
-        if (timex == "PRESENT_REF") {
+        if (timex.equals("PRESENT_REF")) {
             timexProperty.setNow(true);
         } else if (timex.startsWith("P")) {
             // duration
@@ -18,17 +24,11 @@ public class TimexParsing {
             // range indicated with start and end dates and a duration
             TimexParsing.extractStartEndRange(timex, timexProperty);
         } else {
-            // date andt ime and their respective ranges
+            // date and time and their respective ranges
             TimexParsing.extractDateTime(timex, timexProperty);
         }
     }
 
-    private static void extractDuration(String s, TimexProperty timexProperty) {
-        Map<String, String> extracted = new HashMap<String, String>();
-        TimexRegex.extract("period", s, extracted);
-        timexProperty.assignProperties(extracted);
-    }
-
     private static void extractStartEndRange(String s, TimexProperty timexProperty) {
         String[] parts = s.substring(1, s.length() - 1).split(",");
 
@@ -39,18 +39,264 @@ public class TimexParsing {
     }
 
     private static void extractDateTime(String s, TimexProperty timexProperty) {
-        Integer indexOfT = s.indexOf("T");
+        int indexOfT = s.indexOf('T');
 
         if (indexOfT == -1) {
-            Map<String, String> extracted = new HashMap<String, String>();
-            TimexRegex.extract("date", s, extracted);
-            timexProperty.assignProperties(extracted);
-
+            TimexParsing.extractDate(s, s.length(), timexProperty);
         } else {
-            Map<String, String> extracted = new HashMap<String, String>();
-            TimexRegex.extract("date", s.substring(0, indexOfT), extracted);
-            TimexRegex.extract("time", s.substring(indexOfT), extracted);
-            timexProperty.assignProperties(extracted);
+            TimexParsing.extractDate(s, indexOfT, timexProperty);
+            TimexParsing.extractTime(s, indexOfT, timexProperty);
+        }
+    }
+
+    // Date and date range forms, all anchored at the start of s[0, end):
+    // YYYY, SS, (XXXX|YYYY)-SS, (XXXX|YYYY)-Www[-d|-WE], (XXXX|YYYY)-MM[-DD], (XXXX|YYYY)-MM-Www,
+    // (XXXX|YYYY)-MM-WXX-w[w][-d], XXXX-WXX-d and XXXX-XX-DD
+    private static void extractDate(String s, int end, TimexProperty timexProperty) {
+        String season = TimexParsing.codeAt(s, 0, end, SEASONS);
+        if (season != null) {
+            timexProperty.setSeason(season);
+        }
+
+        boolean hasYear = TimexParsing.isDigits(s, 0, 4, end);
+        if (!hasYear && !s.startsWith("XXXX")) {
+            return;
+        }
+
+        if (hasYear) {
+            timexProperty.setYear(TimexParsing.parseDigits(s, 0, 4));
+        }
+
+        if (!TimexParsing.isChar(s, 4, '-', end)) {
+            return;
+        }
+
+        season = TimexParsing.codeAt(s, 5, end, SEASONS);
+        if (season != null) {
+            timexProperty.setSeason(season);
+        }
+
+        if (TimexParsing.isChar(s, 5, 'W', end) && TimexParsing.isDigits(s, 6, 2, end)) {
+            timexProperty.setWeekOfYear(TimexParsing.parseDigits(s, 6, 2));
+            if (TimexParsing.isChar(s, 8, '-', end)) {
+                if (TimexParsing.isDigits(s, 9, 1, end)) {
+                    timexProperty.setDayOfWeek(TimexParsing.parseDigits(s, 9, 1));
+                } else if (s.startsWith("WE", 9) && end >= 11) {
+                    timexProperty.setWeekend(true);
+                }
+            }
+        }
+
+        if (TimexParsing.isDigits(s, 5, 2, end)) {
+            timexProperty.setMonth(TimexParsing.parseDigits(s, 5, 2));
+            if (TimexParsing.isChar(s, 7, '-', end)) {
+                if (TimexParsing.isDigits(s, 8, 2, end)) {
+                    timexProperty.setDayOfMonth(TimexParsing.parseDigits(s, 8, 2));
+                } else if (TimexParsing.isChar(s, 8, 'W', end) && TimexParsing.isDigits(s, 9, 2, end)) {
+                    timexProperty.setWeekOfMonth(TimexParsing.parseDigits(s, 9, 2));
+                } else if (s.startsWith("WXX-", 8) && end >= 12 && TimexParsing.isDigits(s, 12, 1, end)) {
+                    int length = TimexParsing.isDigits(s, 13, 1, end) ? 2 : 1;
+                    timexProperty.setWeekOfMonth(TimexParsing.parseDigits(s, 12, length));
+                    if (TimexParsing.isChar(s, 12 + length, '-', end) && TimexParsing.isDigits(s, 13 + length, 1, end)) {
+                        timexProperty.setDayOfWeek(TimexParsing.parseDigits(s, 13 + length, 1));
+                    }
+                }
+            }
+        } else if (!hasYear) {
+            if (s.startsWith("WXX-", 5) && end >= 9 && TimexParsing.isDigits(s, 9, 1, end)) {
+                timexProperty.setDayOfWeek(TimexParsing.parseDigits(s, 9, 1));
+            } else if (s.startsWith("XX-", 5) && end >= 8 && TimexParsing.isDigits(s, 8, 2, end)) {
+                timexProperty.setDayOfMonth(TimexParsing.parseDigits(s, 8, 2));
+            }
+        }
+    }
+
+    // Time and time range forms of s[start, length), where s[start] is the first 'T':
+    // ...Thh[Z], ...Thh:mm[Z], ...Thh:mm:ss[Z] at the end, or exactly TDT, TNI, TMO, TAF or TEV
+    private static void extractTime(String s, int start, TimexProperty timexProperty) {
+        int end = s.length();
+        if (end - start == 3) {
+            String partOfDay = TimexParsing.codeAt(s, start + 1, end, PARTS_OF_DAY);
+            if (partOfDay != null) {
+                timexProperty.setPartOfDay(partOfDay);
+            }
+        }
+
+        if (end > start && s.charAt(end - 1) == 'Z') {
+            end--;
+        }
+
+        if (TimexParsing.isTimeAt(s, end - 9, start, 3)) {
+            timexProperty.setHour(TimexParsing.parseDigits(s, end - 8, 2));
+            timexProperty.setMinute(TimexParsing.parseDigits(s, end - 5, 2));
+            timexProperty.setSecond(TimexParsing.parseDigits(s, end - 2, 2));
+        } else if (TimexParsing.isTimeAt(s, end - 6, start, 2)) {
+            timexProperty.setHour(TimexParsing.parseDigits(s, end - 5, 2));
+            timexProperty.setMinute(TimexParsing.parseDigits(s, end - 2, 2));
+        } else if (TimexParsing.isTimeAt(s, end - 3, start, 1)) {
+            timexProperty.setHour(TimexParsing.parseDigits(s, end - 2, 2));
+        }
+    }
+
+    // Durations: P<amount>(Y|M|W|D), or PT followed by one to three <amount>(H|M|S) parts.
+    // The hours are read when they come first, the seconds when they come last,
+    // and the minutes when they come alone, after the hours or before the seconds.
+    private static void extractDuration(String s, TimexProperty timexProperty) {
+        if (!s.startsWith("P")) {
+            return;
+        }
+
+        if (!s.startsWith("PT")) {
+            int amountEnd = TimexParsing.amountEnd(s, 1);
+            if (amountEnd == s.length() - 1) {
+                BigDecimal amount = new BigDecimal(s.substring(1, amountEnd));
+                switch (s.charAt(amountEnd)) {
+                    case 'Y':
+                        timexProperty.setYears(amount);
+                        break;
+                    case 'M':
+                        timexProperty.setMonths(amount);
+                        break;
+                    case 'W':
+                        timexProperty.setWeeks(amount);
+                        break;
+                    case 'D':
+                        timexProperty.setDays(amount);
+                        break;
+                    default:
+                }
+            }
+
+            return;
+        }
+
+        char[] units = new char[3];
+        int[] starts = new int[4];
+        int count = 0;
+        int position = 2;
+        while (position < s.length()) {
+            int amountEnd = TimexParsing.amountEnd(s, position);
+            if (count == 3 || amountEnd < 0 || amountEnd == s.length() || "HMS".indexOf(s.charAt(amountEnd)) < 0) {
+                return;
+            }
+
+            units[count] = s.charAt(amountEnd);
+            starts[count] = position;
+            position = amountEnd + 1;
+            count++;
+        }
+
+        starts[count] = position;
+        if (count == 0) {
+            return;
+        }
+
+        if (units[0] == 'H' && TimexParsing.allUnitsIn(units, 1, count, "MS")) {
+            timexProperty.setHours(TimexParsing.amountOf(s, starts, 0));
+        }
+
+        int minuteIndex = units[0] == 'H' ? 1 : 0;
+        if (count > minuteIndex && units[minuteIndex] == 'M' &&
+                (count == minuteIndex + 1 || (count == minuteIndex + 2 && units[minuteIndex + 1] == 'S'))) {
+            timexProperty.setMinutes(TimexParsing.amountOf(s, starts, minuteIndex));
+        }
+
+        if (units[count - 1] == 'S' && TimexParsing.allUnitsIn(units, 0, count - 1, "HM")) {
+            timexProperty.setSeconds(TimexParsing.amountOf(s, starts, count - 1));
+        }
+    }
+
+    // End of the amount \d*\.?\d+ starting at s[start], or -1 when there is none
+    private static int amountEnd(String s, int start) {
+        int position = start;
+        boolean hasDot = false;
+        boolean endsWithDigit = false;
+        while (position < s.length()) {
+            char c = s.charAt(position);
+            if (c == '.' && !hasDot) {
+                hasDot = true;
+                endsWithDigit = false;
+            } else if (c >= '0' && c <= '9') {
+                endsWithDigit = true;
+            } else {
+                break;
+            }
+
+            position++;
+        }
+
+        return endsWithDigit ? position : -1;
+    }
+
+    private static BigDecimal amountOf(String s, int[] starts, int index) {
+        return new BigDecimal(s.substring(starts[index], starts[index + 1] - 1));
+    }
+
+    private static boolean allUnitsIn(char[] units, int from, int to, String allowed) {
+        for (int i = from; i < to; i++) {
+            if (allowed.indexOf(units[i]) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Whether s[position, end) is T followed by the given number of colon separated two digit fields
+    private static boolean isTimeAt(String s, int position, int start, int fields) {
+        if (position < start || s.charAt(position) != 'T') {
+            return false;
+        }
+
+        for (int i = 0; i < fields; i++) {
+            int field = position + 1 + (i * 3);
+            if (!TimexParsing.isDigits(s, field, 2, s.length()) || (i > 0 && s.charAt(field - 1) != ':')) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static String codeAt(String s, int position, int end, String[] codes) {
+        if (position + 2 > end) {
+            return null;
+        }
+
+        for (String code : codes) {
+            if (s.startsWith(code, position)) {
+                return code;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isChar(String s, int position, char c, int end) {
+        return position < end && s.charAt(position) == c;
+    }
+
+    private static boolean isDigits(String s, int position, int count, int end) {
+        if (position + count > end) {
+            return false;
+        }
+
+        for (int i = position; i < position + count; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
         }
+
+        return true;
+    }
+
+    private static int parseDigits(String s, int position, int count) {
+        int value = 0;
+        for (int i = position; i < position + count; i++) {
+            value = (value * 10) + (s.charAt(i) - '0');
+        }
+
+        return value;
     }
 }
@@ -5,9 +5,11 @@ package com.microsoft.recognizers.datatypes.timex.expression;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -48,7 +50,7 @@ public class TimexProperty {
 
     private Boolean weekend;
 
-    public Integer weekOfMonth;
+    private Integer weekOfMonth;
 
     private Integer hour;
 
@@ -58,6 +60,12 @@ public class TimexProperty {
 
     private String partOfDay;
 
+    private Set<TimexType> typeSet;
+
+    private String canonicalValue;
+
+    private boolean frozen;
+
     public TimexProperty() {
 
     }
@@ -67,18 +75,44 @@ public class TimexProperty {
     }
 
     public String getTimexValue() {
-        return TimexFormat.format(this);
+        if (this.canonicalValue == null) {
+            this.canonicalValue = TimexFormat.format(this);
+        }
+
+        return this.canonicalValue;
     }
 
     public void setTimexValue(String withTimexValue) {
+        this.changing();
         this.timexValue = withTimexValue;
     }
 
     public HashSet<String> getTypes() {
-        return TimexInference.infer(this);
+        HashSet<String> types = new HashSet<String>();
+        for (TimexType type : this.getTypeSet()) {
+            types.add(type.getTypeName());
+        }
+
+        return types;
+    }
+
+    /**
+     * Returns the inferred types as a read-only view, computed once until the next change to this timex.
+     */
+    public Set<TimexType> getTypeSet() {
+        if (this.typeSet == null) {
+            this.typeSet = Collections.unmodifiableSet(TimexInference.inferTypes(this));
+        }
+
+        return this.typeSet;
+    }
+
+    public boolean hasType(TimexType type) {
+        return this.getTypeSet().contains(type);
     }
 
     public void setTypes(HashSet<String> withTypes) {
+        this.changing();
         this.types = withTypes;
     }
 
@@ -87,6 +121,7 @@ public class TimexProperty {
     }
 
     public void setNow(Boolean withNow) {
+        this.changing();
         this.now = withNow;
     }
 
@@ -95,6 +130,7 @@ public class TimexProperty {
     }
 
     public void setYears(BigDecimal withYears) {
+        this.changing();
         this.years = withYears;
     }
 
@@ -103,6 +139,7 @@ public class TimexProperty {
     }
 
     public void setMonths(BigDecimal withMonths) {
+        this.changing();
         this.months = withMonths;
     }
 
@@ -111,6 +148,7 @@ public class TimexProperty {
     }
 
     public void setWeeks(BigDecimal withWeeks) {
+        this.changing();
         this.weeks = withWeeks;
     }
 
@@ -119,6 +157,7 @@ public class TimexProperty {
     }
 
     public void setDays(BigDecimal withDays) {
+        this.changing();
         this.days = withDays;
     }
 
@@ -127,6 +166,7 @@ public class TimexProperty {
     }
 
     public void setHours(BigDecimal withHours) {
+        this.changing();
         this.hours = withHours;
     }
 
@@ -135,6 +175,7 @@ public class TimexProperty {
     }
 
     public void setMinutes(BigDecimal withMinutes) {
+        this.changing();
         this.minutes = withMinutes;
     }
 
@@ -143,6 +184,7 @@ public class TimexProperty {
     }
 
     public void setSeconds(BigDecimal withSeconds) {
+        this.changing();
         this.seconds = withSeconds;
     }
 
@@ -151,6 +193,7 @@ public class TimexProperty {
     }
 
     public void setYear(Integer withYear) {
+        this.changing();
         this.year = withYear;
     }
 
@@ -159,6 +202,7 @@ public class TimexProperty {
     }
 
     public void setMonth(Integer withMonth) {
+        this.changing();
         this.month = withMonth;
     }
 
@@ -167,6 +211,7 @@ public class TimexProperty {
     }
 
     public void setDayOfMonth(Integer withDayOfMonth) {
+        this.changing();
         this.dayOfMonth = withDayOfMonth;
     }
 
@@ -175,6 +220,7 @@ public class TimexProperty {
     }
 
     public void setDayOfWeek(Integer withDayOfWeek) {
+        this.changing();
         this.dayOfWeek = withDayOfWeek;
     }
 
@@ -183,6 +229,7 @@ public class TimexProperty {
     }
 
     public void setSeason(String withSeason) {
+        this.changing();
         this.season = withSeason;
     }
 
@@ -191,6 +238,7 @@ public class TimexProperty {
     }
 
     public void setWeekOfYear(Integer withWeekOfYear) {
+        this.changing();
         this.weekOfYear = withWeekOfYear;
     }
 
@@ -199,14 +247,20 @@ public class TimexProperty {
     }
 
     public void setWeekend(Boolean withWeekend) {
+        this.changing();
         this.weekend = withWeekend;
     }
 
+    /**
+     * The week of month used to be a public field. It is private now that the types and value of a timex are
+     * cached, since writing the field would not clear them; use this getter and {@link #setWeekOfMonth} instead.
+     */
     public Integer getWeekOfMonth() {
         return weekOfMonth;
     }
 
     public void setWeekOfMonth(Integer withWeekOfMonth) {
+        this.changing();
         this.weekOfMonth = withWeekOfMonth;
     }
 
@@ -219,6 +273,7 @@ public class TimexProperty {
     }
 
     public void setHour(Integer withHour) {
+        this.changing();
         if (withHour != null) {
             if (this.time == null) {
                 this.time = new Time(withHour, 0, 0);
@@ -239,6 +294,7 @@ public class TimexProperty {
     }
 
     public void setMinute(Integer withMinute) {
+        this.changing();
         if (withMinute != null) {
             if (this.time == null) {
                 time = new Time(0, withMinute, 0);
@@ -259,6 +315,7 @@ public class TimexProperty {
     }
 
     public void setSecond(Integer withSecond) {
+        this.changing();
         if (withSecond != null) {
             if (this.time == null) {
                 this.time = new Time(0, 0, withSecond);
@@ -275,9 +332,34 @@ public class TimexProperty {
     }
 
     public void setPartOfDay(String wthPartOfDay) {
+        this.changing();
         this.partOfDay = wthPartOfDay;
     }
 
+    /**
+     * Makes this timex read-only: its types and timex value are computed now and every setter throws from then on.
+     * Clones of a frozen timex can be changed again.
+     */
+    public TimexProperty freeze() {
+        this.getTypeSet();
+        this.getTimexValue();
+        this.frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    private void changing() {
+        if (this.frozen) {
+            throw new IllegalStateException("A frozen TimexProperty cannot be changed.");
+        }
+
+        this.typeSet = null;
+        this.canonicalValue = null;
+    }
+
     public static TimexProperty fromDate(LocalDateTime date) {
         TimexProperty timex = new TimexProperty() {
             {
@@ -426,6 +508,7 @@ public class TimexProperty {
     }
 
     private void assignDateDuration(Map<String, String> source) {
+        this.changing();
         switch (source.get("dateUnit")) {
             case "Y":
                 this.years = new BigDecimal(source.get("amount"));
@@ -4,38 +4,45 @@
 package com.microsoft.recognizers.datatypes.timex.expression;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.tuple.Pair;
+
 public class TimexRangeResolver {
     public static List<TimexProperty> evaluate(Set<String> candidates, List<String> constraints) {
         List<TimexProperty> timexConstraints = constraints.stream().map(x -> {
             return new TimexProperty(x);
         }).collect(Collectors.toList());
-        Set<String> candidatesWithDurationsResolved = TimexRangeResolver.resolveDurations(candidates, timexConstraints);
-        Set<String> candidatesAccordingToDate = TimexRangeResolver
+        Collection<TimexProperty> timexCandidates = candidates.stream().map(x -> {
+            return new TimexProperty(x);
+        }).collect(Collectors.toList());
+
+        // Each stage works on the parsed candidates, which are told apart by their timex value
+        Collection<TimexProperty> candidatesWithDurationsResolved = TimexRangeResolver.resolveDurations(timexCandidates, timexConstraints);
+        Collection<TimexProperty> candidatesAccordingToDate = TimexRangeResolver
                 .resolveByDateRangeConstraints(candidatesWithDurationsResolved, timexConstraints);
-        Set<String> candidatesWithAddedTime = TimexRangeResolver.resolveByTimeConstraints(candidatesAccordingToDate,
+        Collection<TimexProperty> candidatesWithAddedTime = TimexRangeResolver.resolveByTimeConstraints(candidatesAccordingToDate,
                 timexConstraints);
-        Set<String> candidatesFilteredByTime = TimexRangeResolver.resolveByTimeRangeConstraints(candidatesWithAddedTime,
+        Collection<TimexProperty> candidatesFilteredByTime = TimexRangeResolver.resolveByTimeRangeConstraints(candidatesWithAddedTime,
                 timexConstraints);
 
-        List<TimexProperty> timexResults = candidatesFilteredByTime.stream().map(x -> {
-            return new TimexProperty(x);
-        }).collect(Collectors.toList());
-
-        return timexResults;
+        return new ArrayList<TimexProperty>(candidatesFilteredByTime);
     }
 
     public static Set<String> resolveDurations(Set<String> candidates, List<TimexProperty> constraints) {
         Set<String> results = new HashSet<String>();
         for (String candidate : candidates) {
             TimexProperty timex = new TimexProperty(candidate);
-            if (timex.getTypes().contains(Constants.TimexTypes.DURATION)) {
+            if (timex.hasType(TimexType.Duration)) {
                 List<TimexProperty> r = TimexRangeResolver.resolveDuration(timex, constraints);
                 for (TimexProperty resolved : r) {
                     results.add(resolved.getTimexValue());
@@ -48,12 +55,27 @@ public class TimexRangeResolver {
         return results;
     }
 
+    private static Collection<TimexProperty> resolveDurations(Collection<TimexProperty> candidates, List<TimexProperty> constraints) {
+        Map<String, TimexProperty> results = new LinkedHashMap<String, TimexProperty>();
+        for (TimexProperty timex : candidates) {
+            if (timex.hasType(TimexType.Duration)) {
+                for (TimexProperty resolved : TimexRangeResolver.resolveDuration(timex, constraints)) {
+                    TimexRangeResolver.addResolved(results, resolved);
+                }
+            } else {
+                TimexRangeResolver.add(results, timex);
+            }
+        }
+
+        return results.values();
+    }
+
     private static List<TimexProperty> resolveDuration(TimexProperty candidate, List<TimexProperty> constraints) {
         List<TimexProperty> results = new ArrayList<TimexProperty>();
         for (TimexProperty constraint : constraints) {
-            if (constraint.getTypes().contains(Constants.TimexTypes.DATE_TIME)) {
+            if (constraint.hasType(TimexType.DateTime)) {
                 results.add(TimexHelpers.timexDateTimeAdd(constraint, candidate));
-            } else if (constraint.getTypes().contains(Constants.TimexTypes.TIME)) {
+            } else if (constraint.hasType(TimexType.Time)) {
                 results.add(TimexHelpers.timexTimeAdd(constraint, candidate));
             }
         }
@@ -61,10 +83,10 @@ public class TimexRangeResolver {
         return results;
     }
 
-    private static Set<String> resolveByDateRangeConstraints(Set<String> candidates,
+    private static Collection<TimexProperty> resolveByDateRangeConstraints(Collection<TimexProperty> candidates,
             List<TimexProperty> timexConstraints) {
         List<DateRange> dateRangeconstraints = timexConstraints.stream().filter(timex -> {
-            return timex.getTypes().contains(Constants.TimexTypes.DATE_RANGE);
+            return timex.hasType(TimexType.DateRange);
         }).map(timex -> {
             return TimexHelpers.dateRangeFromTimex(timex);
         }).collect(Collectors.toList());
@@ -75,28 +97,22 @@ public class TimexRangeResolver {
             return candidates;
         }
 
-        List<String> resolution = new ArrayList<String>();
-        for (String timex : candidates) {
-            List<String> r = TimexRangeResolver.resolveDate(new TimexProperty(timex), collapseDateRanges);
-            resolution.addAll(r);
-        }
-
-        return TimexRangeResolver.removeDuplicates(resolution);
-    }
+        IntervalIndex<LocalDateTime> index = new IntervalIndex<LocalDateTime>(collapseDateRanges.stream().map(r -> {
+            return Pair.of(r.getStart(), r.getEnd());
+        }).collect(Collectors.toList()));
 
-    private static List<String> resolveDate(TimexProperty timex, List<DateRange> constraints) {
-        List<String> result = new ArrayList<String>();
-        for (DateRange constraint : constraints) {
-            result.addAll(TimexRangeResolver.resolveDateAgainstConstraint(timex, constraint));
+        Map<String, TimexProperty> resolution = new LinkedHashMap<String, TimexProperty>();
+        for (TimexProperty timex : candidates) {
+            TimexRangeResolver.resolveDate(timex, index, resolution);
         }
 
-        return result;
+        return resolution.values();
     }
 
-    private static Set<String> resolveByTimeRangeConstraints(Set<String> candidates,
+    private static Collection<TimexProperty> resolveByTimeRangeConstraints(Collection<TimexProperty> candidates,
             List<TimexProperty> timexConstrainst) {
         List<TimeRange> timeRangeConstraints = timexConstrainst.stream().filter(timex -> {
-            return timex.getTypes().contains(Constants.TimexTypes.TIME_RANGE);
+            return timex.hasType(TimexType.TimeRange);
         }).map(timex -> {
             return TimexHelpers.timeRangeFromTimex(timex);
         }).collect(Collectors.toList());
@@ -107,138 +123,181 @@ public class TimexRangeResolver {
             return candidates;
         }
 
-        List<String> resolution = new ArrayList<String>();
-        for (String timex : candidates) {
-            TimexProperty t = new TimexProperty(timex);
-            if (t.getTypes().contains(Constants.TimexTypes.TIME_RANGE)) {
-                List<String> r = TimexRangeResolver.resolveTimeRange(t, collapsedTimeRanges);
-                resolution.addAll(r);
-            } else if (t.getTypes().contains(Constants.TimexTypes.TIME)) {
-                List<String> r = TimexRangeResolver.resolveTime(t, collapsedTimeRanges);
-                resolution.addAll(r);
+        IntervalIndex<Integer> index = new IntervalIndex<Integer>(collapsedTimeRanges.stream().map(r -> {
+            return Pair.of(r.getStart().getTime(), r.getEnd().getTime());
+        }).collect(Collectors.toList()));
+
+        Map<String, TimexProperty> resolution = new LinkedHashMap<String, TimexProperty>();
+        for (TimexProperty t : candidates) {
+            if (t.hasType(TimexType.TimeRange)) {
+                TimexRangeResolver.resolveTimeRange(t, index, resolution);
+            } else if (t.hasType(TimexType.Time)) {
+                Time time = new Time(t.getHour(), t.getMinute(), t.getSecond());
+                if (index.contains(time.getTime())) {
+                    TimexRangeResolver.addResolved(resolution, t);
+                }
             }
         }
 
-        return TimexRangeResolver.removeDuplicates(resolution);
+        return resolution.values();
     }
 
-    private static List<String> resolveTimeRange(TimexProperty timex, List<TimeRange> constraints) {
+    private static void resolveTimeRange(TimexProperty timex, IntervalIndex<Integer> constraints, Map<String, TimexProperty> resolution) {
         TimeRange candidate = TimexHelpers.timeRangeFromTimex(timex);
+        Integer candidateStart = candidate.getStart().getTime();
+        Integer candidateEnd = candidate.getEnd().getTime();
 
-        List<String> result = new ArrayList<String>();
-        for (TimeRange constraint : constraints) {
-            if (TimexConstraintsHelper.isOverlapping(candidate, constraint)) {
-                Integer start = Math.max(candidate.getStart().getTime(), constraint.getStart().getTime());
-                Time time = new Time(start);
-
-                // TODO: consider a method on TimexProperty to do this clone/overwrite pattern
-                TimexProperty resolved = timex.clone();
-                resolved.setPartOfDay(null);
-                resolved.setSeconds(null);
-                resolved.setMinutes(null);
-                resolved.setHours(null);
-                resolved.setSecond(time.getSecond());
-                resolved.setMinute(time.getMinute());
-                resolved.setHour(time.getHour());
-
-                result.add(resolved.getTimexValue());
-            }
+        // The constraints overlap the candidate when they contain its start or start within it,
+        // and the resolved time is the later of both starts
+        if (constraints.contains(candidateStart)) {
+            TimexRangeResolver.addResolved(resolution, TimexRangeResolver.timeRangeStart(timex, candidateStart));
         }
 
-        return result;
-    }
-
-    private static List<String> resolveTime(TimexProperty timex, List<TimeRange> constraints) {
-        List<String> result = new ArrayList<String>();
-        for (TimeRange constraint : constraints) {
-            result.addAll(TimexRangeResolver.resolveTimeAgainstConstraint(timex, constraint));
+        int last = constraints.startingBefore(candidateEnd, false);
+        for (int i = constraints.startingBefore(candidateStart, false); i < last; i++) {
+            TimexRangeResolver.addResolved(resolution, TimexRangeResolver.timeRangeStart(timex, constraints.getStart(i)));
         }
-
-        return result;
     }
 
-    private static List<String> resolveTimeAgainstConstraint(TimexProperty timex, TimeRange constraint) {
-        Time t = new Time(timex.getHour(), timex.getMinute(), timex.getSecond());
-        if (t.getTime() >= constraint.getStart().getTime() && t.getTime() < constraint.getEnd().getTime()) {
-            return new ArrayList<String>() {
-                {
-                    add(timex.getTimexValue());
-                }
-            };
-        }
-
-        return new ArrayList<String>();
-    }
-
-    private static Set<String> removeDuplicates(List<String> original) {
-        return new HashSet<String>(original);
-    }
+    private static TimexProperty timeRangeStart(TimexProperty timex, Integer start) {
+        Time time = new Time(start);
 
-    private static List<String> resolveDefiniteAgainstConstraint(TimexProperty timex, DateRange constraint) {
-        LocalDateTime timexDate = TimexHelpers.dateFromTimex(timex);
-        if (timexDate.compareTo(constraint.getStart()) >= 0 && timexDate.compareTo(constraint.getEnd()) < 0) {
-            return new ArrayList<String>() {
-                {
-                    add(timex.getTimexValue());
-                }
-            };
-        }
+        // TODO: consider a method on TimexProperty to do this clone/overwrite pattern
+        TimexProperty resolved = timex.clone();
+        resolved.setPartOfDay(null);
+        resolved.setSeconds(null);
+        resolved.setMinutes(null);
+        resolved.setHours(null);
+        resolved.setSecond(time.getSecond());
+        resolved.setMinute(time.getMinute());
+        resolved.setHour(time.getHour());
 
-        return new ArrayList<String>();
+        return resolved;
     }
 
-    private static List<String> resolveDateAgainstConstraint(TimexProperty timex, DateRange constraint) {
+    private static void resolveDate(TimexProperty timex, IntervalIndex<LocalDateTime> constraints, Map<String, TimexProperty> resolution) {
         if (timex.getMonth() != null && timex.getDayOfMonth() != null) {
-            List<String> result = new ArrayList<String>();
-            for (int year = constraint.getStart().getYear(); year <= constraint.getEnd()
-                    .getYear(); year++) {
+            for (int year : TimexRangeResolver.yearsOf(constraints)) {
                 TimexProperty t = timex.clone();
                 t.setYear(year);
-                result.addAll(TimexRangeResolver.resolveDefiniteAgainstConstraint(t, constraint));
+                if (constraints.contains(TimexHelpers.dateFromTimex(t))) {
+                    TimexRangeResolver.addResolved(resolution, t);
+                }
             }
 
-            return result;
+            return;
         }
 
         if (timex.getDayOfWeek() != null) {
             // convert between ISO day of week and .NET day of week
             DayOfWeek day = timex.getDayOfWeek() == 7 ? DayOfWeek.SUNDAY : DayOfWeek.of(timex.getDayOfWeek());
-            List<LocalDateTime> dates = TimexDateHelpers.datesMatchingDay(day, constraint.getStart(), constraint.getEnd());
-            List<String> result = new ArrayList<String>();
 
-            for (LocalDateTime d : dates) {
-                TimexProperty t = timex.clone();
-                t.setDayOfWeek(null);
-                t.setYear(d.getYear());
-                t.setMonth(d.getMonthValue());
-                t.setDayOfMonth(d.getDayOfMonth());
-                result.add(t.getTimexValue());
+            // The dates of a constraint run from its start date up to, but excluding, its end date
+            for (Pair<LocalDate, LocalDate> days : TimexRangeResolver.mergeDays(constraints, false)) {
+                List<LocalDateTime> dates = TimexDateHelpers.datesMatchingDay(day, days.getLeft().atStartOfDay(),
+                        days.getRight().atStartOfDay());
+                for (LocalDateTime d : dates) {
+                    TimexProperty t = timex.clone();
+                    t.setDayOfWeek(null);
+                    t.setYear(d.getYear());
+                    t.setMonth(d.getMonthValue());
+                    t.setDayOfMonth(d.getDayOfMonth());
+                    TimexRangeResolver.addResolved(resolution, t);
+                }
             }
 
-            return result;
+            return;
         }
 
         if (timex.getHour() != null) {
-            List<String> result = new ArrayList<String>();
-            LocalDateTime day = constraint.getStart();
-            while (day.compareTo(constraint.getEnd()) <= 0) {
-                TimexProperty t = timex.clone();
-                t.setYear(day.getYear());
-                t.setMonth(day.getMonthValue());
-                t.setDayOfMonth(day.getDayOfMonth());
-                result.addAll(TimexRangeResolver.resolveDefiniteAgainstConstraint(t, constraint));
-                day = day.plusDays(1);
+            int minute = timex.getMinute() != null ? timex.getMinute() : 0;
+            int second = timex.getSecond() != null ? timex.getSecond() : 0;
+
+            // Each day of a constraint is tried at the time of the constraint start, so its end date
+            // only counts when its end is not earlier in the day than its start
+            for (Pair<LocalDate, LocalDate> days : TimexRangeResolver.mergeDays(constraints, true)) {
+                for (LocalDate day = days.getLeft(); day.isBefore(days.getRight()); day = day.plusDays(1)) {
+                    LocalDateTime date = day.atTime(timex.getHour(), minute, second);
+                    if (TimexRangeResolver.isTriedAt(constraints, day, date)) {
+                        TimexProperty t = timex.clone();
+                        t.setYear(day.getYear());
+                        t.setMonth(day.getMonthValue());
+                        t.setDayOfMonth(day.getDayOfMonth());
+                        TimexRangeResolver.addResolved(resolution, t);
+                    }
+                }
             }
+        }
+    }
 
-            return result;
+    private static boolean isTriedAt(IntervalIndex<LocalDateTime> constraints, LocalDate day, LocalDateTime date) {
+        for (int i : constraints.containing(date)) {
+            if (!day.isAfter(TimexRangeResolver.lastDayTried(constraints.getStart(i), constraints.getEnd(i)))) {
+                return true;
+            }
         }
 
-        return new ArrayList<String>();
+        return false;
+    }
+
+    private static LocalDate lastDayTried(LocalDateTime start, LocalDateTime end) {
+        LocalDate last = end.toLocalDate();
+        return end.toLocalTime().isBefore(start.toLocalTime()) ? last.minusDays(1) : last;
     }
 
-    private static Set<String> resolveByTimeConstraints(Set<String> candidates, List<TimexProperty> timexConstrainst) {
+    // The union of the days of the constraints, as sorted and disjoint half-open ranges
+    private static List<Pair<LocalDate, LocalDate>> mergeDays(IntervalIndex<LocalDateTime> constraints, boolean includeLastDay) {
+        List<Pair<LocalDate, LocalDate>> result = new ArrayList<Pair<LocalDate, LocalDate>>();
+        LocalDate from = null;
+        LocalDate to = null;
+        for (int i = 0; i < constraints.size(); i++) {
+            LocalDateTime start = constraints.getStart(i);
+            LocalDateTime end = constraints.getEnd(i);
+            LocalDate first = start.toLocalDate();
+            LocalDate next = includeLastDay ? TimexRangeResolver.lastDayTried(start, end).plusDays(1) : end.toLocalDate();
+            if (!first.isBefore(next)) {
+                continue;
+            }
+
+            if (to != null && !first.isAfter(to)) {
+                to = next.isAfter(to) ? next : to;
+            } else {
+                if (to != null) {
+                    result.add(Pair.of(from, to));
+                }
+
+                from = first;
+                to = next;
+            }
+        }
+
+        if (to != null) {
+            result.add(Pair.of(from, to));
+        }
+
+        return result;
+    }
+
+    // The years spanned by the constraints, in increasing order
+    private static List<Integer> yearsOf(IntervalIndex<LocalDateTime> constraints) {
+        List<Integer> years = new ArrayList<Integer>();
+        for (int i = 0; i < constraints.size(); i++) {
+            int first = constraints.getStart(i).getYear();
+            if (!years.isEmpty()) {
+                first = Math.max(first, years.get(years.size() - 1) + 1);
+            }
+
+            for (int year = first; year <= constraints.getEnd(i).getYear(); year++) {
+                years.add(year);
+            }
+        }
+
+        return years;
+    }
+
+    private static Collection<TimexProperty> resolveByTimeConstraints(Collection<TimexProperty> candidates, List<TimexProperty> timexConstrainst) {
         List<Time> times = timexConstrainst.stream().filter(timex -> {
-            return timex.getTypes().contains(Constants.TimexTypes.TIME);
+            return timex.hasType(TimexType.Time);
         }).map(timex -> {
             return TimexHelpers.timeFromTimex(timex);
         }).collect(Collectors.toList());
@@ -247,20 +306,31 @@ public class TimexRangeResolver {
             return candidates;
         }
 
-        List<String> resolution = new ArrayList<String>();
-        for (TimexProperty timex : candidates.stream().map(t -> new TimexProperty(t)).collect(Collectors.toList())) {
-            if (timex.getTypes().contains(Constants.TimexTypes.DATE) && !timex.getTypes().contains(Constants.TimexTypes.TIME)) {
+        Map<String, TimexProperty> resolution = new LinkedHashMap<String, TimexProperty>();
+        for (TimexProperty timex : candidates) {
+            if (timex.hasType(TimexType.Date) && !timex.hasType(TimexType.Time)) {
                 for (Time time : times) {
-                    timex.setHour(time.getHour());
-                    timex.setMinute(time.getMinute());
-                    timex.setSecond(time.getSecond());
-                    resolution.add(timex.getTimexValue());
+                    TimexProperty t = timex.clone();
+                    t.setHour(time.getHour());
+                    t.setMinute(time.getMinute());
+                    t.setSecond(time.getSecond());
+                    TimexRangeResolver.addResolved(resolution, t);
                 }
             } else {
-                resolution.add(timex.getTimexValue());
+                TimexRangeResolver.add(resolution, timex);
             }
         }
 
-        return TimexRangeResolver.removeDuplicates(resolution);
+        return resolution.values();
+    }
+
+    private static void add(Map<String, TimexProperty> resolution, TimexProperty timex) {
+        resolution.putIfAbsent(timex.getTimexValue(), timex);
+    }
+
+    // A resolved timex may keep fields its timex value leaves out, such as a time under a part of the day,
+    // so it is kept as its value reads, as the candidates are
+    private static void addResolved(Map<String, TimexProperty> resolution, TimexProperty resolved) {
+        resolution.computeIfAbsent(resolved.getTimexValue(), TimexProperty::new);
     }
 }
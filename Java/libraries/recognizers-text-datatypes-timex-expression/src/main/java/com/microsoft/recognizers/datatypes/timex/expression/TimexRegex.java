@@ -55,9 +55,9 @@ public class TimexRegex {
 
     public static Boolean extract(String name, String timex, Map<String, String> result) {
         String lowerName = name.toLowerCase();
-        String[] nameGroup = new String[lowerName == DATE_TIME_COLLECTION_NAME ? 2 : 1];
+        String[] nameGroup = new String[lowerName.equals(DATE_TIME_COLLECTION_NAME) ? 2 : 1];
 
-        if (lowerName == DATE_TIME_COLLECTION_NAME) {
+        if (lowerName.equals(DATE_TIME_COLLECTION_NAME)) {
             nameGroup[0] = DATE_COLLECTION_NAME;
             nameGroup[1] = TIME_COLLECTION_NAME;
         } else {
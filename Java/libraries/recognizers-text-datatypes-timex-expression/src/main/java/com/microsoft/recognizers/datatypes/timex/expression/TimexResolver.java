@@ -11,66 +11,113 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 public class TimexResolver {
     public static Resolution resolve(String[] timexArray, LocalDateTime date) {
-        date = date != null ? date : LocalDateTime.now();
+        Reference reference = new Reference(date != null ? date : LocalDateTime.now());
         Resolution resolution = new Resolution();
         for (String timex : timexArray) {
             TimexProperty t = new TimexProperty(timex);
-            List<Resolution.Entry> r = TimexResolver.resolveTimex(t, date);
+            List<Resolution.Entry> r = TimexResolver.resolveTimex(t, reference);
             resolution.getValues().addAll(r);
         }
 
         return resolution;
     }
 
-    private static List<Resolution.Entry> resolveTimex(TimexProperty timex, LocalDateTime date) {
-        HashSet<String> types = timex.getTypes().size() != 0 ? timex.getTypes() : TimexInference.infer(timex);
+    /**
+     * Resolves each timex on its own against the same date, in the order given.
+     * The date is prepared once for the whole batch and a timex repeated in the batch is resolved once;
+     * the entries of every result are still distinct objects. With parallel set the timexes are resolved concurrently.
+     */
+    public static List<Resolution> resolveAll(List<String> timexes, LocalDateTime date, boolean parallel) {
+        Reference reference = new Reference(date != null ? date : LocalDateTime.now());
+        Resolution[] results = new Resolution[timexes.size()];
+        TimexResolver.range(timexes.size(), parallel).forEach(i -> {
+            results[i] = reference.resolve(timexes.get(i));
+        });
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Resolves each timex on its own against the date paired with it, in the order given.
+     * The pairs are grouped by date, so each distinct date is prepared once; a null date stands for now.
+     */
+    public static List<Resolution> resolveAll(List<Pair<String, LocalDateTime>> timexes, boolean parallel) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<LocalDateTime, Reference> references = new HashMap<LocalDateTime, Reference>();
+        Reference[] referenceOf = new Reference[timexes.size()];
+        for (int i = 0; i < timexes.size(); i++) {
+            LocalDateTime date = timexes.get(i).getRight() != null ? timexes.get(i).getRight() : now;
+            referenceOf[i] = references.computeIfAbsent(date, Reference::new);
+        }
+
+        Resolution[] results = new Resolution[timexes.size()];
+        TimexResolver.range(timexes.size(), parallel).forEach(i -> {
+            results[i] = referenceOf[i].resolve(timexes.get(i).getLeft());
+        });
+
+        return Arrays.asList(results);
+    }
+
+    private static IntStream range(int size, boolean parallel) {
+        IntStream range = IntStream.range(0, size);
+        return parallel ? range.parallel() : range;
+    }
+
+    private static List<Resolution.Entry> resolveTimex(TimexProperty timex, Reference reference) {
+        LocalDateTime date = reference.getDate();
+        Set<TimexType> types = timex.getTypeSet();
 
-        if (types.contains(Constants.TimexTypes.DATE_TIME_RANGE)) {
-            return TimexResolver.resolveDateTimeRange(timex, date);
+        if (types.contains(TimexType.DateTimeRange)) {
+            return TimexResolver.resolveDateTimeRange(timex, reference);
         }
 
-        if (types.contains(Constants.TimexTypes.DEFINITE) && types.contains(Constants.TimexTypes.TIME)) {
+        if (types.contains(TimexType.Definite) && types.contains(TimexType.Time)) {
             return TimexResolver.resolveDefiniteTime(timex, date);
         }
 
-        if (types.contains(Constants.TimexTypes.DEFINITE) && types.contains(Constants.TimexTypes.DATE_RANGE)) {
+        if (types.contains(TimexType.Definite) && types.contains(TimexType.DateRange)) {
             return TimexResolver.resolveDefiniteDateRange(timex, date);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE_RANGE)) {
+        if (types.contains(TimexType.DateRange)) {
             return TimexResolver.resolveDateRange(timex, date);
         }
 
-        if (types.contains(Constants.TimexTypes.DEFINITE)) {
+        if (types.contains(TimexType.Definite)) {
             return TimexResolver.resolveDefinite(timex);
         }
 
-        if (types.contains(Constants.TimexTypes.TIME_RANGE)) {
+        if (types.contains(TimexType.TimeRange)) {
             return TimexResolver.resolveTimeRange(timex, date);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE_TIME)) {
-            return TimexResolver.resolveDateTime(timex, date);
+        if (types.contains(TimexType.DateTime)) {
+            return TimexResolver.resolveDateTime(timex, reference);
         }
 
-        if (types.contains(Constants.TimexTypes.DURATION)) {
+        if (types.contains(TimexType.Duration)) {
             return TimexResolver.resolveDuration(timex);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE)) {
-            return TimexResolver.resolveDate(timex, date);
+        if (types.contains(TimexType.Date)) {
+            return TimexResolver.resolveDate(timex, reference);
         }
 
-        if (types.contains(Constants.TimexTypes.TIME)) {
+        if (types.contains(TimexType.Time)) {
             return TimexResolver.resolveTime(timex, date);
         }
 
@@ -122,8 +169,8 @@ public class TimexResolver {
         };
     }
 
-    private static List<Resolution.Entry> resolveDate(TimexProperty timex, LocalDateTime date) {
-        List<String> dateValueList = TimexResolver.getDateValues(timex, date);
+    private static List<Resolution.Entry> resolveDate(TimexProperty timex, Reference reference) {
+        List<String> dateValueList = TimexResolver.getDateValues(timex, reference);
         List<Resolution.Entry> result = new ArrayList<Resolution.Entry>();
         for (String dateValue : dateValueList) {
             result.add(new Resolution.Entry() {
@@ -138,7 +185,8 @@ public class TimexResolver {
         return result;
     }
 
-    private static String lastDateValue(TimexProperty timex, LocalDateTime date) {
+    private static String lastDateValue(TimexProperty timex, Reference reference) {
+        LocalDateTime date = reference.getDate();
         if (timex.getDayOfMonth() != null) {
             Integer year = date.getYear();
             Integer month = date.getMonth().getValue();
@@ -168,7 +216,7 @@ public class TimexResolver {
         }
 
         if (timex.getDayOfWeek() != null) {
-            LocalDateTime start = generateWeekDate(timex, date, true);
+            LocalDateTime start = generateWeekDate(timex, reference, true);
             return TimexValue.dateValue(new TimexProperty() {
                 {
                     setYear(start.getYear());
@@ -181,7 +229,8 @@ public class TimexResolver {
         return new String();
     }
 
-    private static String nextDateValue(TimexProperty timex, LocalDateTime date) {
+    private static String nextDateValue(TimexProperty timex, Reference reference) {
+        LocalDateTime date = reference.getDate();
         if (timex.getDayOfMonth() != null) {
             Integer year = date.getYear();
             Integer month = date.getMonth().getValue();
@@ -212,7 +261,7 @@ public class TimexResolver {
         }
 
         if (timex.getDayOfWeek() != null) {
-            LocalDateTime start = generateWeekDate(timex, date, false);
+            LocalDateTime start = generateWeekDate(timex, reference, false);
             return TimexValue.dateValue(new TimexProperty() {
                 {
                     setYear(start.getYear());
@@ -277,14 +326,15 @@ public class TimexResolver {
         return Pair.of(TimexValue.dateValue(monthWeekDateRange.getLeft()), TimexValue.dateValue(monthWeekDateRange.getRight()));
     }
 
-    private static LocalDateTime generateWeekDate(TimexProperty timex, LocalDateTime date, boolean isBefore) {
+    private static LocalDateTime generateWeekDate(TimexProperty timex, Reference reference, boolean isBefore) {
+        LocalDateTime date = reference.getDate();
         LocalDateTime start;
         if (timex.getWeekOfMonth() == null && timex.getWeekOfYear() == null) {
             DayOfWeek day = timex.getDayOfWeek() == 7 ? DayOfWeek.SUNDAY : DayOfWeek.of(timex.getDayOfWeek());
             if (isBefore) {
-                start = TimexDateHelpers.dateOfLastDay(day, date);
+                start = reference.getLastDay(day);
             } else {
-                start = TimexDateHelpers.dateOfNextDay(day, date);
+                start = reference.getNextDay(day);
             }
         } else {
             Integer dayOfWeek = timex.getDayOfWeek() - 1;
@@ -482,8 +532,9 @@ public class TimexResolver {
         }
     }
 
-    private static List<Resolution.Entry> resolveDateTime(TimexProperty timex, LocalDateTime date) {
-        List<Resolution.Entry> resolvedDates = TimexResolver.resolveDate(timex, date);
+    private static List<Resolution.Entry> resolveDateTime(TimexProperty timex, Reference reference) {
+        LocalDateTime date = reference.getDate();
+        List<Resolution.Entry> resolvedDates = TimexResolver.resolveDate(timex, reference);
         for (Resolution.Entry resolved : resolvedDates) {
             resolved.setType("datetime");
             resolved.setValue(String.format("%1$s %2$s", resolved.getValue(), TimexValue.timeValue(timex, date)));
@@ -492,14 +543,14 @@ public class TimexResolver {
         return resolvedDates;
     }
 
-    private static List<String> getDateValues(TimexProperty timex, LocalDateTime date) {
+    private static List<String> getDateValues(TimexProperty timex, Reference reference) {
         ArrayList<String> result = new ArrayList<String>();
         if (timex.getYear() != null && timex.getMonth() != null && timex.getDayOfMonth() != null) {
             result.add(TimexValue.dateValue(timex));
         } else {
-            result.add(lastDateValue(timex, date));
+            result.add(lastDateValue(timex, reference));
             if (timex.getYear() == null) {
-                result.add(nextDateValue(timex, date));
+                result.add(nextDateValue(timex, reference));
             }
         }
 
@@ -519,9 +570,10 @@ public class TimexResolver {
         return result;
     }
 
-    private static List<Resolution.Entry> resolveDateTimeRange(TimexProperty timex, LocalDateTime date) {
+    private static List<Resolution.Entry> resolveDateTimeRange(TimexProperty timex, Reference reference) {
+        LocalDateTime date = reference.getDate();
         if (timex.getPartOfDay() != null) {
-            List<String> dateValues = getDateValues(timex, date);
+            List<String> dateValues = getDateValues(timex, reference);
             Pair<String, String> timeRange = partOfDayTimeRange(timex);
             ArrayList<Resolution.Entry> result = new ArrayList<Resolution.Entry>();
             for (String dateValue : dateValues) {
@@ -539,8 +591,8 @@ public class TimexResolver {
 
         } else {
             TimexRange range = TimexHelpers.expandDateTimeRange(timex);
-            List<String> startDateValues = getDateValues(range.getStart(), date);
-            List<String> endDateValues = getDateValues(range.getEnd(), date);
+            List<String> startDateValues = getDateValues(range.getStart(), reference);
+            List<String> endDateValues = getDateValues(range.getEnd(), reference);
             List<Resolution.Entry> result = new ArrayList<Resolution.Entry>();
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
             LocalTime defaultTime = LocalDateTime.MIN.toLocalTime();
@@ -569,4 +621,70 @@ public class TimexResolver {
             return result;
         }
     }
+
+    /**
+     * A reference date with the calendar values resolving against it needs, computed once,
+     * and the entries of the timexes already resolved against it.
+     */
+    private static final class Reference {
+        private final LocalDateTime date;
+
+        private final LocalDateTime[] lastDays = new LocalDateTime[7];
+
+        private final LocalDateTime[] nextDays = new LocalDateTime[7];
+
+        private final Map<String, List<Resolution.Entry>> resolved = new ConcurrentHashMap<String, List<Resolution.Entry>>();
+
+        Reference(LocalDateTime date) {
+            this.date = date;
+        }
+
+        public LocalDateTime getDate() {
+            return this.date;
+        }
+
+        // Filled on first use; threads racing on a day store the same value
+        public LocalDateTime getLastDay(DayOfWeek day) {
+            LocalDateTime lastDay = this.lastDays[day.ordinal()];
+            if (lastDay == null) {
+                lastDay = TimexDateHelpers.dateOfLastDay(day, this.date);
+                this.lastDays[day.ordinal()] = lastDay;
+            }
+
+            return lastDay;
+        }
+
+        public LocalDateTime getNextDay(DayOfWeek day) {
+            LocalDateTime nextDay = this.nextDays[day.ordinal()];
+            if (nextDay == null) {
+                nextDay = TimexDateHelpers.dateOfNextDay(day, this.date);
+                this.nextDays[day.ordinal()] = nextDay;
+            }
+
+            return nextDay;
+        }
+
+        public Resolution resolve(String timex) {
+            List<Resolution.Entry> entries = this.resolved.computeIfAbsent(timex, t -> {
+                return TimexResolver.resolveTimex(new TimexProperty(t), this);
+            });
+
+            Resolution resolution = new Resolution();
+            for (Resolution.Entry entry : entries) {
+                resolution.getValues().add(TimexResolver.copyOf(entry));
+            }
+
+            return resolution;
+        }
+    }
+
+    private static Resolution.Entry copyOf(Resolution.Entry entry) {
+        Resolution.Entry copy = new Resolution.Entry();
+        copy.setTimex(entry.getTimex());
+        copy.setType(entry.getType());
+        copy.setValue(entry.getValue());
+        copy.setStart(entry.getStart());
+        copy.setEnd(entry.getEnd());
+        return copy;
+    }
 }
@@ -3,6 +3,13 @@
 
 package com.microsoft.recognizers.datatypes.timex.expression;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public class TimexSet {
     private TimexProperty timex;
 
@@ -17,4 +24,20 @@ public class TimexSet {
     public void setTimex(TimexProperty withTimex) {
         this.timex = withTimex;
     }
+
+    /**
+     * Returns the occurrences of this set starting within [start, end), in order, each computed only when asked for.
+     * Every Monday at 9am gives 2017-10-02T09, 2017-10-09T09, ...; every October gives 2017-10, 2018-10, ...;
+     * and a duration such as P2D steps from start.
+     * Sets tied to a year, season or week number are not supported and throw an IllegalArgumentException.
+     */
+    public Iterator<TimexProperty> occurrences(LocalDateTime start, LocalDateTime end) {
+        return new TimexSetIterator(this.timex, start, end);
+    }
+
+    public Stream<TimexProperty> occurrenceStream(LocalDateTime start, LocalDateTime end) {
+        Spliterator<TimexProperty> occurrences = Spliterators.spliteratorUnknownSize(this.occurrences(start, end),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(occurrences, false);
+    }
 }
@@ -0,0 +1,203 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.datatypes.timex.expression;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Walks the occurrences of a set timex starting within [start, end), in order.
+ * The occurrence at index k is computed directly from the first period of the window,
+ * so each step costs the same however far the window reaches.
+ */
+final class TimexSetIterator implements Iterator<TimexProperty> {
+    private enum Recurrence {
+        Duration,
+        Daily,
+        Weekly,
+        Monthly,
+        Yearly
+    }
+
+    private final TimexProperty timex;
+
+    private final Recurrence recurrence;
+
+    private final LocalDateTime start;
+
+    private final LocalDateTime end;
+
+    // The date of the first period and the time of day of the occurrences
+    private final LocalDate anchor;
+
+    private final LocalTime timeOfDay;
+
+    private long index;
+
+    private LocalDateTime next;
+
+    TimexSetIterator(TimexProperty timex, LocalDateTime start, LocalDateTime end) {
+        this.timex = timex.clone();
+        this.start = start;
+        this.end = end;
+
+        if (timex.getYear() != null || timex.getSeason() != null || timex.getWeekOfYear() != null ||
+                timex.getWeekOfMonth() != null || timex.getWeekend() != null) {
+            throw new IllegalArgumentException("unsupported set timex: " + timex.getTimexValue());
+        }
+
+        boolean hasTimeOfDay = timex.getHour() != null || timex.getPartOfDay() != null;
+        if (timex.getDayOfWeek() != null) {
+            this.recurrence = Recurrence.Weekly;
+            this.anchor = start.toLocalDate().with(TemporalAdjusters.previousOrSame(TimexSetIterator.dayOfWeek(timex)));
+        } else if (timex.getMonth() != null) {
+            this.recurrence = Recurrence.Yearly;
+            this.anchor = LocalDate.of(start.getYear(), 1, 1);
+        } else if (timex.getDayOfMonth() != null) {
+            this.recurrence = Recurrence.Monthly;
+            this.anchor = LocalDate.of(start.getYear(), start.getMonthValue(), 1);
+        } else if (hasTimeOfDay) {
+            this.recurrence = Recurrence.Daily;
+            this.anchor = start.toLocalDate();
+        } else if (timex.hasType(TimexType.Duration)) {
+            this.recurrence = Recurrence.Duration;
+            this.anchor = start.toLocalDate();
+        } else {
+            throw new IllegalArgumentException("unsupported set timex: " + timex.getTimexValue());
+        }
+
+        if (this.recurrence == Recurrence.Duration) {
+            this.timeOfDay = start.toLocalTime();
+            if (!this.durationStep(1).isAfter(start)) {
+                throw new IllegalArgumentException("set duration must be positive: " + timex.getTimexValue());
+            }
+        } else if (timex.getPartOfDay() != null) {
+            this.timeOfDay = TimexSetIterator.toLocalTime(TimexHelpers.timeFromTimex(TimexHelpers.expandTimeRange(timex).getStart()));
+        } else {
+            this.timeOfDay = TimexSetIterator.toLocalTime(TimexHelpers.timeFromTimex(timex));
+        }
+
+        // A day no period has would never be found
+        Integer day = timex.getDayOfMonth();
+        if (day != null && !YearMonth.of(2000, timex.getMonth() != null ? timex.getMonth() : 1).isValidDay(day)) {
+            throw new IllegalArgumentException("unsupported set timex: " + timex.getTimexValue());
+        }
+
+        this.next = this.find();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next != null;
+    }
+
+    @Override
+    public TimexProperty next() {
+        if (this.next == null) {
+            throw new NoSuchElementException();
+        }
+
+        LocalDateTime occurrence = this.next;
+        this.next = this.find();
+        return this.toTimex(occurrence);
+    }
+
+    // The next occurrence starting within the window, or null once past its end
+    private LocalDateTime find() {
+        while (true) {
+            LocalDateTime occurrence = this.occurrence(this.index++);
+            if (occurrence == null) {
+                // A date missing from its period, such as February 29 outside leap years
+                continue;
+            }
+
+            if (!occurrence.isBefore(this.end)) {
+                return null;
+            }
+
+            if (!occurrence.isBefore(this.start)) {
+                return occurrence;
+            }
+        }
+    }
+
+    private LocalDateTime occurrence(long k) {
+        switch (this.recurrence) {
+            case Duration:
+                return this.durationStep(k);
+            case Daily:
+                return this.anchor.plusDays(k).atTime(this.timeOfDay);
+            case Weekly:
+                return this.anchor.plusWeeks(k).atTime(this.timeOfDay);
+            case Monthly:
+                return TimexSetIterator.dayOf(YearMonth.from(this.anchor).plusMonths(k), this.timex.getDayOfMonth(), this.timeOfDay);
+            default:
+                YearMonth month = YearMonth.of(this.anchor.getYear(), this.timex.getMonth()).plusYears(k);
+                Integer day = this.timex.getDayOfMonth() != null ? this.timex.getDayOfMonth() : 1;
+                return TimexSetIterator.dayOf(month, day, this.timeOfDay);
+        }
+    }
+
+    private LocalDateTime durationStep(long k) {
+        return this.start
+                .plusYears(k * TimexSetIterator.amount(this.timex.getYears()))
+                .plusMonths(k * TimexSetIterator.amount(this.timex.getMonths()))
+                .plusWeeks(k * TimexSetIterator.amount(this.timex.getWeeks()))
+                .plusDays(k * TimexSetIterator.amount(this.timex.getDays()))
+                .plusHours(k * TimexSetIterator.amount(this.timex.getHours()))
+                .plusMinutes(k * TimexSetIterator.amount(this.timex.getMinutes()))
+                .plusSeconds(k * TimexSetIterator.amount(this.timex.getSeconds()));
+    }
+
+    private TimexProperty toTimex(LocalDateTime occurrence) {
+        if (this.recurrence == Recurrence.Duration) {
+            boolean hasTime = this.timex.getHours() != null || this.timex.getMinutes() != null || this.timex.getSeconds() != null;
+            return hasTime ? TimexProperty.fromDateTime(occurrence) : TimexProperty.fromDate(occurrence);
+        }
+
+        TimexProperty result = this.timex.clone();
+        result.setYear(occurrence.getYear());
+        if (this.timex.getMonth() != null && this.timex.getDayOfMonth() == null) {
+            // every October is every month of October
+            return result;
+        }
+
+        result.setDayOfWeek(null);
+        result.setMonth(occurrence.getMonthValue());
+        result.setDayOfMonth(occurrence.getDayOfMonth());
+        return result;
+    }
+
+    private static LocalDateTime dayOf(YearMonth month, int day, LocalTime timeOfDay) {
+        return month.isValidDay(day) ? month.atDay(day).atTime(timeOfDay) : null;
+    }
+
+    private static long amount(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+
+        try {
+            return amount.longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("set duration must be a whole number of units: " + amount.toPlainString());
+        }
+    }
+
+    private static DayOfWeek dayOfWeek(TimexProperty timex) {
+        // convert between ISO day of week and .NET day of week
+        return timex.getDayOfWeek() == 7 ? DayOfWeek.SUNDAY : DayOfWeek.of(timex.getDayOfWeek());
+    }
+
+    private static LocalTime toLocalTime(Time time) {
+        return LocalTime.of(time.getHour(), time.getMinute(), time.getSecond());
+    }
+}
@@ -0,0 +1,64 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.datatypes.timex.expression;
+
+public enum TimexType {
+    /**
+     * Present
+     */
+    Present(Constants.TimexTypes.PRESENT),
+
+    /**
+     * Definite
+     */
+    Definite(Constants.TimexTypes.DEFINITE),
+
+    /**
+     * Date
+     */
+    Date(Constants.TimexTypes.DATE),
+
+    /**
+     * DateTime
+     */
+    DateTime(Constants.TimexTypes.DATE_TIME),
+
+    /**
+     * DateRange
+     */
+    DateRange(Constants.TimexTypes.DATE_RANGE),
+
+    /**
+     * Duration
+     */
+    Duration(Constants.TimexTypes.DURATION),
+
+    /**
+     * Time
+     */
+    Time(Constants.TimexTypes.TIME),
+
+    /**
+     * TimeRange
+     */
+    TimeRange(Constants.TimexTypes.TIME_RANGE),
+
+    /**
+     * DateTimeRange
+     */
+    DateTimeRange(Constants.TimexTypes.DATE_TIME_RANGE);
+
+    private final String typeName;
+
+    TimexType(String typeName) {
+        this.typeName = typeName;
+    }
+
+    /**
+     * Returns the name of the type, as listed in Constants.TimexTypes.
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+}
@@ -4,48 +4,48 @@
 package com.microsoft.recognizers.datatypes.timex.expression.english;
 
 import com.microsoft.recognizers.datatypes.timex.expression.Constants;
-import com.microsoft.recognizers.datatypes.timex.expression.TimexInference;
 import com.microsoft.recognizers.datatypes.timex.expression.TimexProperty;
 import com.microsoft.recognizers.datatypes.timex.expression.TimexSet;
+import com.microsoft.recognizers.datatypes.timex.expression.TimexType;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
+import java.util.Set;
 
 public class TimexConvertEnglish {
     public static String convertTimexToString(TimexProperty timex) {
-        HashSet<String> types = timex.getTypes().size() != 0 ? timex.getTypes() : TimexInference.infer(timex);
+        Set<TimexType> types = timex.getTypeSet();
 
-        if (types.contains(Constants.TimexTypes.PRESENT)) {
+        if (types.contains(TimexType.Present)) {
             return TimexConstantsEnglish.NOW;
         }
 
-        if (types.contains(Constants.TimexTypes.DATE_TIME_RANGE)) {
+        if (types.contains(TimexType.DateTimeRange)) {
             return TimexConvertEnglish.convertDateTimeRange(timex);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE_RANGE)) {
+        if (types.contains(TimexType.DateRange)) {
             return TimexConvertEnglish.convertDateRange(timex);
         }
 
-        if (types.contains(Constants.TimexTypes.DURATION)) {
+        if (types.contains(TimexType.Duration)) {
             return TimexConvertEnglish.convertDuration(timex);
         }
 
-        if (types.contains(Constants.TimexTypes.TIME_RANGE)) {
+        if (types.contains(TimexType.TimeRange)) {
             return TimexConvertEnglish.convertTimeRange(timex);
         }
 
         // TODO: where appropriate delegate most the formatting delegate to
         // Date.toLocaleString(options)
-        if (types.contains(Constants.TimexTypes.DATE_TIME)) {
+        if (types.contains(TimexType.DateTime)) {
             return TimexConvertEnglish.convertDateTime(timex);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE)) {
+        if (types.contains(TimexType.Date)) {
             return TimexConvertEnglish.convertDate(timex);
         }
 
-        if (types.contains(Constants.TimexTypes.TIME)) {
+        if (types.contains(TimexType.Time)) {
             return TimexConvertEnglish.convertTime(timex);
         }
 
@@ -54,7 +54,7 @@ public class TimexConvertEnglish {
 
     public static String convertTimexSetToString(TimexSet timexSet) {
         TimexProperty timex = timexSet.getTimex();
-        if (timex.getTypes().contains(Constants.TimexTypes.DURATION)) {
+        if (timex.hasType(TimexType.Duration)) {
             return String.format("%1$s %2$s", TimexConstantsEnglish.EVERY,
                     TimexConvertEnglish.convertTimexDurationToString(timex, false));
         } else {
@@ -193,7 +193,7 @@ public class TimexConvertEnglish {
     }
 
     private static String convertDateTimeRange(TimexProperty timex) {
-        if (timex.getTypes().contains(Constants.TimexTypes.TIME_RANGE)) {
+        if (timex.hasType(TimexType.TimeRange)) {
             return String.format("%1$s %2$s", TimexConvertEnglish.convertDate(timex),
                     TimexConvertEnglish.convertTimeRange(timex));
         }
@@ -6,30 +6,30 @@ package com.microsoft.recognizers.datatypes.timex.expression.english;
 import com.microsoft.recognizers.datatypes.timex.expression.Constants;
 import com.microsoft.recognizers.datatypes.timex.expression.TimexConvert;
 import com.microsoft.recognizers.datatypes.timex.expression.TimexDateHelpers;
-import com.microsoft.recognizers.datatypes.timex.expression.TimexInference;
 import com.microsoft.recognizers.datatypes.timex.expression.TimexProperty;
+import com.microsoft.recognizers.datatypes.timex.expression.TimexType;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.Set;
 
 public class TimexRelativeConvertEnglish {
     public static String convertTimexToStringRelative(TimexProperty timex, LocalDateTime date) {
-        HashSet<String> types = timex.getTypes().size() != 0 ? timex.getTypes() : TimexInference.infer(timex);
+        Set<TimexType> types = timex.getTypeSet();
 
-        if (types.contains(Constants.TimexTypes.DATE_TIME_RANGE)) {
+        if (types.contains(TimexType.DateTimeRange)) {
             return TimexRelativeConvertEnglish.convertDateTimeRange(timex, date);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE_RANGE)) {
+        if (types.contains(TimexType.DateRange)) {
             return TimexRelativeConvertEnglish.convertDateRange(timex, date);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE_TIME)) {
+        if (types.contains(TimexType.DateTime)) {
             return TimexRelativeConvertEnglish.convertDateTime(timex, date);
         }
 
-        if (types.contains(Constants.TimexTypes.DATE)) {
+        if (types.contains(TimexType.Date)) {
             return TimexRelativeConvertEnglish.convertDate(timex, date);
         }
 
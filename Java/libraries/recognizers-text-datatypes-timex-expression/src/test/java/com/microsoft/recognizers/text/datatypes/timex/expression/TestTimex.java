@@ -5,6 +5,7 @@ package com.microsoft.recognizers.text.datatypes.timex.expression;
 
 import com.microsoft.recognizers.datatypes.timex.expression.Time;
 import com.microsoft.recognizers.datatypes.timex.expression.TimexProperty;
+import com.microsoft.recognizers.datatypes.timex.expression.TimexType;
 
 import java.time.LocalDateTime;
 
@@ -118,6 +119,41 @@ public class TestTimex {
         Assert.assertEquals("T23:59:30", TimexProperty.fromTime(time).getTimexValue());
     }
 
+    @Test
+    public void dataTypesTimexCachedValuesFollowChanges() {
+        TimexProperty timex = new TimexProperty("2017-09-27");
+        Assert.assertEquals("2017-09-27", timex.getTimexValue());
+        Assert.assertTrue(timex.hasType(TimexType.Date));
+        Assert.assertFalse(timex.hasType(TimexType.DateTime));
+
+        timex.setHour(14);
+        timex.setMinute(0);
+        timex.setSecond(0);
+        Assert.assertEquals("2017-09-27T14", timex.getTimexValue());
+        Assert.assertTrue(timex.hasType(TimexType.DateTime));
+        Assert.assertTrue(timex.getTypes().contains("datetime"));
+    }
+
+    @Test
+    public void dataTypesTimexFrozen() {
+        TimexProperty timex = new TimexProperty("XXXX-WXX-3").freeze();
+        Assert.assertTrue(timex.isFrozen());
+        Assert.assertEquals("XXXX-WXX-3", timex.getTimexValue());
+        Assert.assertSame(timex.getTypeSet(), timex.getTypeSet());
+
+        try {
+            timex.setDayOfWeek(4);
+            Assert.fail("a frozen timex must not change");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(Integer.valueOf(3), timex.getDayOfWeek());
+        }
+
+        TimexProperty copy = timex.clone();
+        copy.setDayOfWeek(4);
+        Assert.assertFalse(copy.isFrozen());
+        Assert.assertEquals("XXXX-WXX-4", copy.getTimexValue());
+    }
+
     private static void roundtrip(String timex) {
         Assert.assertEquals(timex, new TimexProperty(timex).getTimexValue());
     }
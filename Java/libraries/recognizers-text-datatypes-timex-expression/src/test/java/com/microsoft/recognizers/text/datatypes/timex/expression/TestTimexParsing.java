@@ -1297,4 +1297,39 @@ public class TestTimexParsing {
         Assert.assertEquals(new BigDecimal(45), timex.getSeconds());
         Assert.assertNull(timex.getNow());
     }
+
+    @Test
+    public void dataTypesParsingNowBuiltAtRuntime() {
+        TimexProperty timex = new TimexProperty(new StringBuilder("PRESENT").append("_REF").toString());
+        Assert.assertTrue(timex.getNow());
+        Assert.assertNull(timex.getHour());
+    }
+
+    @Test
+    public void dataTypesParsingDurationHoursMinutesAndSeconds() {
+        TimexProperty timex = new TimexProperty("PT1H30M15S");
+        HashSet<String> expected = new HashSet<String>() {
+            {
+                add(Constants.TimexTypes.DURATION);
+            }
+        };
+        HashSet<String> actual = timex.getTypes();
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(new BigDecimal(1), timex.getHours());
+        Assert.assertEquals(new BigDecimal(30), timex.getMinutes());
+        Assert.assertEquals(new BigDecimal(15), timex.getSeconds());
+        Assert.assertNull(timex.getDays());
+    }
+
+    @Test
+    public void dataTypesParsingWeekOfMonthAndDayOfWeek() {
+        TimexProperty timex = new TimexProperty("XXXX-05-WXX-12-3T10:30Z");
+        Assert.assertNull(timex.getYear());
+        Assert.assertEquals(5, (int)timex.getMonth());
+        Assert.assertEquals(12, (int)timex.getWeekOfMonth());
+        Assert.assertEquals(3, (int)timex.getDayOfWeek());
+        Assert.assertEquals(10, (int)timex.getHour());
+        Assert.assertEquals(30, (int)timex.getMinute());
+        Assert.assertEquals(0, (int)timex.getSecond());
+    }
 }
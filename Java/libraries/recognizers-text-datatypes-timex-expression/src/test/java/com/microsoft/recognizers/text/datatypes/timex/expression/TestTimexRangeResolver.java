@@ -1096,4 +1096,48 @@ public class TestTimexRangeResolver {
         Assert.assertEquals(1, resolutions.size());
         Assert.assertEquals(1, (int)resolutions.stream().findFirst().get().getMonth());
     }
+
+    @Test
+    public void dataTypesRangeResolveDayOfWeekAcrossSeparateDateRanges() {
+        Set<String> candidates = new HashSet<String>() {
+            {
+                add("XXXX-WXX-3");
+            }
+        };
+        ArrayList<String> constraints = new ArrayList<String>() {
+            {
+                add("(2017-09-01,2017-09-08,P7D)");
+                add("(2017-10-01,2017-10-08,P7D)");
+            }
+        };
+
+        List<TimexProperty> result = TimexRangeResolver.evaluate(candidates, constraints);
+
+        Set<String> r = result.stream().map(t -> {
+            return t.getTimexValue();
+        }).collect(Collectors.toSet());
+        Assert.assertTrue(r.contains("2017-09-06"));
+        Assert.assertTrue(r.contains("2017-10-04"));
+        Assert.assertEquals(2, r.size());
+    }
+
+    @Test
+    public void dataTypesRangeResolvePartOfDayIgnoresTimeConstraint() {
+        Set<String> candidates = new HashSet<String>() {
+            {
+                add("XXXX-WXX-7TEV");
+            }
+        };
+        ArrayList<String> constraints = new ArrayList<String>() {
+            {
+                add("T18:30");
+            }
+        };
+
+        List<TimexProperty> result = TimexRangeResolver.evaluate(candidates, constraints);
+
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals("XXXX-WXX-7TEV", result.get(0).getTimexValue());
+        Assert.assertNull(result.get(0).getHour());
+    }
 }
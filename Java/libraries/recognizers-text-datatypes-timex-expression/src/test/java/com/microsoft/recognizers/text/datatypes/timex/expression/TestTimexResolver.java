@@ -9,8 +9,12 @@ import com.microsoft.recognizers.datatypes.timex.expression.TimexResolver;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -945,4 +949,54 @@ public class TestTimexResolver {
         Assert.assertEquals("2021-01-01", resolution.getValues().get(1).getEnd());
         Assert.assertNull(resolution.getValues().get(1).getValue());
     }
+
+    @Test
+    public void dataTypesResolverBatchMatchesSingleResolution() {
+        LocalDateTime today = LocalDateTime.of(2017, 9, 26, 15, 30, 0);
+        List<String> timexes = new ArrayList<String>();
+        for (int i = 0; i < 50; i++) {
+            timexes.addAll(Arrays.asList("XXXX-WXX-6", "2017-09-28", "XXXX-05", "XXXX-WXX-3T04", "PT5M", "XXXX-WXX-1TEV"));
+        }
+
+        List<Resolution> sequential = TimexResolver.resolveAll(timexes, today, false);
+        List<Resolution> parallel = TimexResolver.resolveAll(timexes, today, true);
+
+        Assert.assertEquals(timexes.size(), parallel.size());
+        for (int i = 0; i < timexes.size(); i++) {
+            Resolution single = TimexResolver.resolve(new String[] { timexes.get(i) }, today);
+            TestTimexResolver.assertSameValues(single, sequential.get(i));
+            TestTimexResolver.assertSameValues(single, parallel.get(i));
+        }
+
+        Assert.assertNotSame(sequential.get(0).getValues().get(0), sequential.get(6).getValues().get(0));
+    }
+
+    @Test
+    public void dataTypesResolverBatchGroupsByReference() {
+        LocalDateTime tuesday = LocalDateTime.of(2017, 9, 26, 15, 30, 0);
+        LocalDateTime friday = LocalDateTime.of(2017, 9, 29, 15, 30, 0);
+        List<Pair<String, LocalDateTime>> timexes = Arrays.asList(Pair.of("XXXX-WXX-3", tuesday),
+                Pair.of("XXXX-WXX-3", friday), Pair.of("XXXX-WXX-3", tuesday));
+
+        List<Resolution> resolutions = TimexResolver.resolveAll(timexes, true);
+
+        Assert.assertEquals("2017-09-20", resolutions.get(0).getValues().get(0).getValue());
+        Assert.assertEquals("2017-09-27", resolutions.get(0).getValues().get(1).getValue());
+        Assert.assertEquals("2017-09-27", resolutions.get(1).getValues().get(0).getValue());
+        Assert.assertEquals("2017-10-04", resolutions.get(1).getValues().get(1).getValue());
+        TestTimexResolver.assertSameValues(resolutions.get(0), resolutions.get(2));
+    }
+
+    private static void assertSameValues(Resolution expected, Resolution actual) {
+        Assert.assertEquals(expected.getValues().size(), actual.getValues().size());
+        for (int i = 0; i < expected.getValues().size(); i++) {
+            Resolution.Entry e = expected.getValues().get(i);
+            Resolution.Entry a = actual.getValues().get(i);
+            Assert.assertEquals(e.getTimex(), a.getTimex());
+            Assert.assertEquals(e.getType(), a.getType());
+            Assert.assertEquals(e.getValue(), a.getValue());
+            Assert.assertEquals(e.getStart(), a.getStart());
+            Assert.assertEquals(e.getEnd(), a.getEnd());
+        }
+    }
 }
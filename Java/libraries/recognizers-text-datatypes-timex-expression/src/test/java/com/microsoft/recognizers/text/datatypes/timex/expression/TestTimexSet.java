@@ -0,0 +1,81 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.datatypes.timex.expression;
+
+import com.microsoft.recognizers.datatypes.timex.expression.TimexProperty;
+import com.microsoft.recognizers.datatypes.timex.expression.TimexSet;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestTimexSet {
+    private static final LocalDateTime START = LocalDateTime.of(2017, 10, 1, 12, 0);
+
+    @Test
+    public void dataTypesSetOccurrencesEveryMondayAtNine() {
+        Assert.assertEquals(Arrays.asList("2017-10-02T09", "2017-10-09T09", "2017-10-16T09"),
+                TestTimexSet.occurrences("XXXX-WXX-1T09", START, START.plusDays(21)));
+    }
+
+    @Test
+    public void dataTypesSetOccurrencesEverySunday() {
+        // Sunday the first starts before noon, so it is left out
+        Assert.assertEquals(Arrays.asList("2017-10-08", "2017-10-15"),
+                TestTimexSet.occurrences("XXXX-WXX-7", START, START.plusDays(15)));
+    }
+
+    @Test
+    public void dataTypesSetOccurrencesEveryEvening() {
+        Assert.assertEquals(Arrays.asList("2017-10-01TEV", "2017-10-02TEV"),
+                TestTimexSet.occurrences("TEV", START, START.plusDays(2)));
+    }
+
+    @Test
+    public void dataTypesSetOccurrencesEveryOctober() {
+        Assert.assertEquals(Arrays.asList("2018-10", "2019-10"),
+                TestTimexSet.occurrences("XXXX-10", START, LocalDateTime.of(2020, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void dataTypesSetOccurrencesSkipMissingDays() {
+        Assert.assertEquals(Arrays.asList("2020-02-29", "2024-02-29"),
+                TestTimexSet.occurrences("XXXX-02-29", START, LocalDateTime.of(2025, 1, 1, 0, 0)));
+        Assert.assertEquals(Arrays.asList("2017-10-31", "2017-12-31"),
+                TestTimexSet.occurrences("XXXX-XX-31", START, LocalDateTime.of(2018, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void dataTypesSetOccurrencesEveryTwoDays() {
+        Assert.assertEquals(Arrays.asList("2017-10-01", "2017-10-03", "2017-10-05"),
+                TestTimexSet.occurrences("P2D", START, START.plusDays(6)));
+        Assert.assertEquals(Arrays.asList("2017-10-01T12", "2017-10-01T14"),
+                TestTimexSet.occurrences("PT2H", START, START.plusHours(4)));
+    }
+
+    @Test
+    public void dataTypesSetOccurrencesAreLazy() {
+        Iterator<TimexProperty> occurrences = new TimexSet("T09").occurrences(START, LocalDateTime.MAX);
+        Assert.assertEquals("2017-10-02T09", occurrences.next().getTimexValue());
+        Assert.assertEquals("2017-10-03T09", occurrences.next().getTimexValue());
+
+        List<String> pageOfYears = new TimexSet("XXXX-05-29").occurrenceStream(START, LocalDateTime.MAX)
+                .skip(100).limit(2).map(TimexProperty::getTimexValue).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("2118-05-29", "2119-05-29"), pageOfYears);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void dataTypesSetOccurrencesNeedARecurrence() {
+        new TimexSet("2017-10-05").occurrences(START, START.plusDays(1));
+    }
+
+    private static List<String> occurrences(String timex, LocalDateTime start, LocalDateTime end) {
+        return new TimexSet(timex).occurrenceStream(start, end).map(TimexProperty::getTimexValue).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,73 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.datetime;
+
+import java.util.EnumSet;
+
+public enum DateTimeEntityType {
+    Date(Constants.SYS_DATETIME_DATE),
+    Time(Constants.SYS_DATETIME_TIME),
+    DateRange(Constants.SYS_DATETIME_DATEPERIOD),
+    TimeRange(Constants.SYS_DATETIME_TIMEPERIOD),
+    DateTime(Constants.SYS_DATETIME_DATETIME),
+    DateTimeRange(Constants.SYS_DATETIME_DATETIMEPERIOD),
+    Duration(Constants.SYS_DATETIME_DURATION),
+    Set(Constants.SYS_DATETIME_SET),
+    DateTimeAlt(Constants.SYS_DATETIME_DATETIMEALT),
+    TimeZone(Constants.SYS_DATETIME_TIMEZONE);
+
+    private final String typeName;
+
+    DateTimeEntityType(String typeName) {
+        this.typeName = typeName;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Finds the entity type of a result type name, with or without the "datetimeV2." prefix.
+     * Returns null for unknown names.
+     */
+    public static DateTimeEntityType fromTypeName(String typeName) {
+        String name = typeName.substring(typeName.lastIndexOf('.') + 1);
+        for (DateTimeEntityType type : values()) {
+            if (type.typeName.equals(name)) {
+                return type;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Entity types an extract result of the given type may resolve to, when dates and times are not split.
+     * Modifiers like "before" or "since" turn dates and times into ranges.
+     */
+    public static EnumSet<DateTimeEntityType> resolvableFrom(String extractType) {
+        switch (extractType) {
+            case Constants.SYS_DATETIME_DATE:
+                return EnumSet.of(Date, DateRange);
+            case Constants.SYS_DATETIME_TIME:
+                return EnumSet.of(Time, TimeRange);
+            case Constants.SYS_DATETIME_DATETIME:
+                return EnumSet.of(DateTime, DateTimeRange);
+            case Constants.SYS_DATETIME_DATEPERIOD:
+                return EnumSet.of(DateRange);
+            case Constants.SYS_DATETIME_TIMEPERIOD:
+                return EnumSet.of(TimeRange);
+            case Constants.SYS_DATETIME_DATETIMEPERIOD:
+                return EnumSet.of(DateTimeRange);
+            case Constants.SYS_DATETIME_DURATION:
+                return EnumSet.of(Duration);
+            case Constants.SYS_DATETIME_SET:
+                return EnumSet.of(Set);
+            case Constants.SYS_DATETIME_TIMEZONE:
+                return EnumSet.of(TimeZone);
+            default:
+                return EnumSet.allOf(DateTimeEntityType.class);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.microsoft.recognizers.text.datetime.extractors.config.IDateExtractorC
 import com.microsoft.recognizers.text.datetime.utilities.AgoLaterUtil;
 import com.microsoft.recognizers.text.datetime.utilities.ConditionalMatch;
 import com.microsoft.recognizers.text.datetime.utilities.DateUtil;
+import com.microsoft.recognizers.text.datetime.utilities.ExtractionMemo;
 import com.microsoft.recognizers.text.datetime.utilities.MatchingUtil;
 import com.microsoft.recognizers.text.datetime.utilities.RegexExtension;
 import com.microsoft.recognizers.text.datetime.utilities.Token;
@@ -68,8 +69,7 @@ public class BaseDateExtractor extends AbstractYearExtractor implements IDateTim
 
                 if (validateMatch(match, text)) {
                     // Cases that the relative term is before the detected date entity, like "this 5/12", "next friday 5/12"
-                    String preText = text.substring(0, match.index);
-                    ConditionalMatch relativeRegex = RegexExtension.matchEnd(config.getStrictRelativeRegex(), preText, true);
+                    ConditionalMatch relativeRegex = RegexExtension.matchEnd(config.getStrictRelativeRegex(), text, match.index, true);
                     if (relativeRegex.getSuccess()) {
                         result.add(new Token(relativeRegex.getMatch().get().index, match.index + match.length));
                     } else {
@@ -96,10 +96,8 @@ public class BaseDateExtractor extends AbstractYearExtractor implements IDateTim
             if (yearGroup.index + yearGroup.length != match.index + match.length) {
                 isValidMatch = true;
             } else {
-                String subText = text.substring(yearGroup.index);
-
                 // If the following text (include the "year" part) doesn't start with a Date entity, it's a valid match
-                if (!startsWithBasicDate(subText)) {
+                if (!startsWithBasicDate(text, yearGroup.index)) {
                     isValidMatch = true;
                 } else {
                     // If the following text (include the "year" part) starts with a Date entity,
@@ -107,9 +105,7 @@ public class BaseDateExtractor extends AbstractYearExtractor implements IDateTim
                     // the current match is still valid
                     // For example, "10-1-2018-10-2-2018". Match "10-1-2018" is valid because though "2018-10-2" a valid match
                     // (indicates the first year "2018" might belongs to the second Date entity), but "10-2-2018" is also a valid match.
-                    subText = text.substring(yearGroup.index + yearGroup.length).trim();
-                    subText = trimStartRangeConnectorSymbols(subText);
-                    isValidMatch = startsWithBasicDate(subText);
+                    isValidMatch = startsWithBasicDate(text, skipStartRangeConnectorSymbols(text, yearGroup.index + yearGroup.length));
                 }
             }
             
@@ -136,29 +132,26 @@ public class BaseDateExtractor extends AbstractYearExtractor implements IDateTim
         return isValidMatch;
     }
 
-    // TODO: Simplify this method to improve the performance
-    private String trimStartRangeConnectorSymbols(String text) {
-        Match[] rangeConnectorSymbolMatches = RegExpUtility.getMatches(config.getRangeConnectorSymbolRegex(), text);
-
-        for (Match symbolMatch : rangeConnectorSymbolMatches) {
-            int startSymbolLength = -1;
+    // The index of the text following the range connector symbol the text from start begins with, if any, and whitespace
+    private int skipStartRangeConnectorSymbols(String text, int start) {
+        int index = skipWhitespace(text, start);
+        Match symbolMatch = RegExpUtility.getMatchAt(config.getRangeConnectorSymbolRegex(), text, index, text.length());
 
-            if (symbolMatch.value != "" && symbolMatch.index == 0 && symbolMatch.length > startSymbolLength) {
-                startSymbolLength = symbolMatch.length;
-            }
+        return symbolMatch != null && symbolMatch.length > 0 ? skipWhitespace(text, index + symbolMatch.length) : index;
+    }
 
-            if (startSymbolLength > 0) {
-                text = text.substring(startSymbolLength);
-            }
+    private static int skipWhitespace(String text, int index) {
+        while (index < text.length() && text.charAt(index) <= ' ') {
+            index++;
         }
 
-        return text.trim();
+        return index;
     }
 
-    // TODO: Simplify this method to improve the performance
-    private boolean startsWithBasicDate(String text) {
+    // Whether the text from start begins with a Date entity, leading whitespace aside
+    private boolean startsWithBasicDate(String text, int start) {
         for (Pattern regex : config.getDateRegexList()) {
-            ConditionalMatch match = RegexExtension.matchBegin(regex, text, true);
+            ConditionalMatch match = RegexExtension.matchBegin(regex, text, start, true);
 
             if (match.getSuccess()) {
                 return true;
@@ -188,8 +181,8 @@ public class BaseDateExtractor extends AbstractYearExtractor implements IDateTim
     private Collection<Token> numberWithMonth(String text, LocalDateTime reference) {
         List<Token> tokens = new ArrayList<>();
 
-        List<ExtractResult> ers = config.getOrdinalExtractor().extract(text);
-        ers.addAll(config.getIntegerExtractor().extract(text));
+        List<ExtractResult> ers = ExtractionMemo.extract(config.getOrdinalExtractor(), text);
+        ers.addAll(ExtractionMemo.extract(config.getIntegerExtractor(), text));
 
         for (ExtractResult result : ers) {
             int num;
@@ -282,12 +275,11 @@ public class BaseDateExtractor extends AbstractYearExtractor implements IDateTim
                 }
 
                 // Handling cases like '20th of next month'
-                String suffixStr = text.substring(result.getStart() + result.getLength());
-                ConditionalMatch beginMatch = RegexExtension.matchBegin(config.getRelativeMonthRegex(), suffixStr.trim(), true);
-                if (beginMatch.getSuccess() && beginMatch.getMatch().get().index == 0) {
-                    int spaceLen = suffixStr.length() - suffixStr.trim().length();
+                int suffixStart = result.getStart() + result.getLength();
+                ConditionalMatch beginMatch = RegexExtension.matchBegin(config.getRelativeMonthRegex(), text, suffixStart, true);
+                if (beginMatch.getSuccess()) {
                     int resStart = result.getStart();
-                    int resEnd = resStart + result.getLength() + spaceLen + beginMatch.getMatch().get().length;
+                    int resEnd = beginMatch.getMatch().get().index + beginMatch.getMatch().get().length;
 
                     // Check if prefix contains 'the', include it if any
                     String prefix = text.substring(0, resStart);
@@ -300,13 +292,11 @@ public class BaseDateExtractor extends AbstractYearExtractor implements IDateTim
                 }
 
                 // Handling cases like 'second Sunday'
-                suffixStr = text.substring(result.getStart() + result.getLength());
-                beginMatch = RegexExtension.matchBegin(config.getWeekDayRegex(), suffixStr.trim(), true);
+                beginMatch = RegexExtension.matchBegin(config.getWeekDayRegex(), text, suffixStart, true);
                 if (beginMatch.getSuccess() && num >= 1 && num <= 5 && result.getType().equals("builtin.num.ordinal")) {
                     String weekDayStr = beginMatch.getMatch().get().getGroup("weekday").value.toLowerCase();
                     if (config.getDayOfWeek().containsKey(weekDayStr)) {
-                        int spaceLen = suffixStr.length() - suffixStr.trim().length();
-                        tokens.add(new Token(result.getStart(), result.getStart() + result.getLength() + spaceLen + beginMatch.getMatch().get().length));
+                        tokens.add(new Token(result.getStart(), beginMatch.getMatch().get().index + beginMatch.getMatch().get().length));
                     }
                 }
             }
@@ -9,6 +9,7 @@ import com.microsoft.recognizers.text.datetime.Constants;
 import com.microsoft.recognizers.text.datetime.extractors.config.IDatePeriodExtractorConfiguration;
 import com.microsoft.recognizers.text.datetime.extractors.config.ResultIndex;
 import com.microsoft.recognizers.text.datetime.utilities.ConditionalMatch;
+import com.microsoft.recognizers.text.datetime.utilities.ExtractionMemo;
 import com.microsoft.recognizers.text.datetime.utilities.RegexExtension;
 import com.microsoft.recognizers.text.datetime.utilities.Token;
 import com.microsoft.recognizers.text.utilities.Match;
@@ -49,7 +50,7 @@ public class BaseDatePeriodExtractor implements IDateTimeExtractor {
         tokens.addAll(matchSimpleCases(input));
 
         List<ExtractResult> simpleCasesResults = Token.mergeAllTokens(tokens, input, getExtractorName());
-        List<ExtractResult> ordinalExtractions = config.getOrdinalExtractor().extract(input);
+        List<ExtractResult> ordinalExtractions = ExtractionMemo.extract(config.getOrdinalExtractor(), input);
 
         tokens.addAll(mergeTwoTimePoints(input, reference));
         tokens.addAll(matchDuration(input, reference));
@@ -246,21 +247,18 @@ public class BaseDatePeriodExtractor implements IDateTimeExtractor {
             if (index >= 0) {
                 String prefix = beforeStr.substring(0, index).trim();
                 String durationText = input.substring(duration.getStart(), duration.getStart() + duration.getLength());
-                List<ExtractResult> numbersInPrefix = config.getCardinalExtractor().extract(prefix);
-                List<ExtractResult> numbersInDuration = config.getCardinalExtractor().extract(durationText);
+                List<ExtractResult> numbersInPrefix = ExtractionMemo.extract(config.getCardinalExtractor(), prefix);
+                List<ExtractResult> numbersInDuration = ExtractionMemo.extract(config.getCardinalExtractor(), durationText);
 
                 // Cases like "2 upcoming days", should be supported here
                 // Cases like "2 upcoming 3 days" is invalid, only extract "upcoming 3 days" by default
-                if (!numbersInPrefix.isEmpty() && numbersInDuration.isEmpty()) {
-                    ExtractResult lastNumber = numbersInPrefix.stream()
-                            .sorted(Comparator.comparingInt(x -> x.getStart() + x.getLength()))
-                            .reduce((acc, item) -> item).orElse(null);
-
-                    // Prefix should ends with the last number
-                    if (lastNumber.getStart() + lastNumber.getLength() == prefix.length()) {
-                        results.add(new Token(lastNumber.getStart(), duration.getEnd()));
-                    }
+                // Numbers further in the prefix are not part of it, as in "at 5, let's meet over the next couple weeks"
+                ExtractResult lastNumber = numbersInPrefix.stream()
+                        .sorted(Comparator.comparingInt(x -> x.getStart() + x.getLength()))
+                        .reduce((acc, item) -> item).orElse(null);
 
+                if (lastNumber != null && numbersInDuration.isEmpty() && lastNumber.getStart() + lastNumber.getLength() == prefix.length()) {
+                    results.add(new Token(lastNumber.getStart(), duration.getEnd()));
                 } else {
                     results.add(new Token(index, duration.getEnd()));
                 }
@@ -8,6 +8,7 @@ import com.microsoft.recognizers.text.datetime.Constants;
 import com.microsoft.recognizers.text.datetime.DateTimeOptions;
 import com.microsoft.recognizers.text.datetime.extractors.config.IDateTimePeriodExtractorConfiguration;
 import com.microsoft.recognizers.text.datetime.extractors.config.ResultIndex;
+import com.microsoft.recognizers.text.datetime.utilities.ExtractionMemo;
 import com.microsoft.recognizers.text.datetime.utilities.RegexExtension;
 import com.microsoft.recognizers.text.datetime.utilities.TimeZoneUtility;
 import com.microsoft.recognizers.text.datetime.utilities.Token;
@@ -279,8 +280,8 @@ public class BaseDateTimePeriodExtractor implements IDateTimeExtractor {
 
                 String prefix = beforeStr.substring(0, index).trim();
                 String durationText = input.substring(duration.getStart(), duration.getStart() + duration.getLength());
-                List<ExtractResult> numbersInPrefix = config.getCardinalExtractor().extract(prefix);
-                List<ExtractResult> numbersInDuration = config.getCardinalExtractor().extract(durationText);
+                List<ExtractResult> numbersInPrefix = ExtractionMemo.extract(config.getCardinalExtractor(), prefix);
+                List<ExtractResult> numbersInDuration = ExtractionMemo.extract(config.getCardinalExtractor(), durationText);
 
                 // Cases like "2 upcoming days", should be supported here
                 // Cases like "2 upcoming 3 days" is invalid, only extract "upcoming 3 days" by default
@@ -10,6 +10,7 @@ import com.microsoft.recognizers.text.datetime.DateTimeOptions;
 import com.microsoft.recognizers.text.datetime.extractors.config.IDurationExtractorConfiguration;
 import com.microsoft.recognizers.text.datetime.utilities.ConditionalMatch;
 import com.microsoft.recognizers.text.datetime.utilities.DurationParsingUtil;
+import com.microsoft.recognizers.text.datetime.utilities.ExtractionMemo;
 import com.microsoft.recognizers.text.datetime.utilities.RegexExtension;
 import com.microsoft.recognizers.text.datetime.utilities.Token;
 import com.microsoft.recognizers.text.utilities.Match;
@@ -74,10 +75,9 @@ public class BaseDurationExtractor implements IDateTimeExtractor {
 
     private List<ExtractResult> tagInequalityPrefix(String input, List<ExtractResult> result) {
         Stream<ExtractResult> resultStream = result.stream().map(er -> {
-            String beforeString = input.substring(0, er.getStart());
             boolean isInequalityPrefixMatched = false;
 
-            ConditionalMatch match = RegexExtension.matchEnd(this.config.getMoreThanRegex(), beforeString, true);
+            ConditionalMatch match = RegexExtension.matchEnd(this.config.getMoreThanRegex(), input, er.getStart(), true);
 
             // The second condition is necessary so for "1 week" in "more than 4 days and less than 1 week", it will not be tagged incorrectly as "more than"
             if (match.getSuccess()) {
@@ -86,7 +86,7 @@ public class BaseDurationExtractor implements IDateTimeExtractor {
             }
 
             if (!isInequalityPrefixMatched) {
-                match = RegexExtension.matchEnd(this.config.getLessThanRegex(), beforeString, true);
+                match = RegexExtension.matchEnd(this.config.getLessThanRegex(), input, er.getStart(), true);
 
                 if (match.getSuccess()) {
                     er.setData(Constants.LESS_THAN_MOD);
@@ -235,7 +235,7 @@ public class BaseDurationExtractor implements IDateTimeExtractor {
     // simple cases made by a number followed an unit
     private List<Token> numberWithUnit(String text) {
         List<Token> result = new ArrayList<>();
-        List<ExtractResult> ers = this.config.getCardinalExtractor().extract(text);
+        List<ExtractResult> ers = ExtractionMemo.extract(this.config.getCardinalExtractor(), text);
         for (ExtractResult er : ers) {
             String afterStr = text.substring(er.getStart() + er.getLength());
             ConditionalMatch match = RegexExtension.matchBegin(this.config.getFollowedUnit(), afterStr, true);
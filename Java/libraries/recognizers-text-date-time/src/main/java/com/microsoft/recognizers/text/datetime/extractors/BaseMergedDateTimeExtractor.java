@@ -6,11 +6,13 @@ package com.microsoft.recognizers.text.datetime.extractors;
 import com.microsoft.recognizers.text.ExtractResult;
 import com.microsoft.recognizers.text.Metadata;
 import com.microsoft.recognizers.text.datetime.Constants;
+import com.microsoft.recognizers.text.datetime.DateTimeEntityType;
 import com.microsoft.recognizers.text.datetime.DateTimeOptions;
 import com.microsoft.recognizers.text.datetime.extractors.config.IMergedExtractorConfiguration;
 import com.microsoft.recognizers.text.datetime.extractors.config.ProcessedSuperfluousWords;
 import com.microsoft.recognizers.text.datetime.extractors.config.ResultIndex;
 import com.microsoft.recognizers.text.datetime.utilities.ConditionalMatch;
+import com.microsoft.recognizers.text.datetime.utilities.ExtractionMemo;
 import com.microsoft.recognizers.text.datetime.utilities.MatchingUtil;
 import com.microsoft.recognizers.text.datetime.utilities.RegexExtension;
 import com.microsoft.recognizers.text.datetime.utilities.Token;
@@ -25,9 +27,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -35,19 +43,55 @@ import org.javatuples.Pair;
 
 public class BaseMergedDateTimeExtractor implements IDateTimeExtractor {
 
+    // How far the extractors of unrequested types look around the requested results, covering the longest entities
+    // and connectors that can join them to a requested result, such as "from ... to" ranges
+    private static final int WindowReach = 100;
+
     private final IMergedExtractorConfiguration config;
 
+    private final Executor executor;
+
     @Override
     public String getExtractorName() {
         return "";
     }
 
     public BaseMergedDateTimeExtractor(IMergedExtractorConfiguration config) {
+        this(config, null);
+    }
+
+    /**
+     * Creates an extractor that runs its independent sub-extractors concurrently on the given executor.
+     * Their results are still merged one by one in the usual order, so the output is the same as the
+     * sequential extraction. A null executor keeps the sequential behavior.
+     */
+    public BaseMergedDateTimeExtractor(IMergedExtractorConfiguration config, Executor executor) {
         this.config = config;
+        this.executor = executor;
     }
 
     @Override
     public List<ExtractResult> extract(String input, LocalDateTime reference) {
+        return this.extract(input, reference, EnumSet.allOf(DateTimeEntityType.class));
+    }
+
+    @Override
+    public List<ExtractResult> extract(String input) {
+        return this.extract(input, LocalDateTime.now());
+    }
+
+    /**
+     * Extracts like {@link #extract(String, LocalDateTime)}, but first runs only the sub-extractors whose results can
+     * resolve to one of the given types. When those find nothing, no result of these types is possible and an empty
+     * list is returned without running the others. Otherwise the others only run on the text around the results found,
+     * since they only take part in resolving overlaps there, so results of other types far from them are left out.
+     */
+    public List<ExtractResult> extract(String input, LocalDateTime reference, Set<DateTimeEntityType> types) {
+        // Sub-extractors extract numbers from the same texts over and over
+        return ExtractionMemo.run(() -> extractMerged(input, reference, types));
+    }
+
+    private List<ExtractResult> extractMerged(String input, LocalDateTime reference, Set<DateTimeEntityType> types) {
 
         List<ExtractResult> ret = new ArrayList<>();
         String originInput = input;
@@ -59,19 +103,32 @@ public class BaseMergedDateTimeExtractor implements IDateTimeExtractor {
             superfluousWordMatches = processedSuperfluousWords.getSuperfluousWordMatches();
         }
 
+        List<Pair<IDateTimeExtractor, String>> extractors = new ArrayList<>(Arrays.asList(
+            new Pair<>(this.config.getDateExtractor(), Constants.SYS_DATETIME_DATE),
+            new Pair<>(this.config.getTimeExtractor(), Constants.SYS_DATETIME_TIME),
+            new Pair<>(this.config.getDatePeriodExtractor(), Constants.SYS_DATETIME_DATEPERIOD),
+            new Pair<>(this.config.getDurationExtractor(), Constants.SYS_DATETIME_DURATION),
+            new Pair<>(this.config.getTimePeriodExtractor(), Constants.SYS_DATETIME_TIMEPERIOD),
+            new Pair<>(this.config.getDateTimePeriodExtractor(), Constants.SYS_DATETIME_DATETIMEPERIOD),
+            new Pair<>(this.config.getDateTimeExtractor(), Constants.SYS_DATETIME_DATETIME),
+            new Pair<>(this.config.getSetExtractor(), Constants.SYS_DATETIME_SET),
+            new Pair<>(this.config.getHolidayExtractor(), Constants.SYS_DATETIME_DATE)));
+
+        if (this.config.getOptions().match(DateTimeOptions.EnablePreview)) {
+            extractors.add(new Pair<>(this.config.getTimeZoneExtractor(), Constants.SYS_DATETIME_TIMEZONE));
+        }
+
+        List<List<ExtractResult>> extractorResults = extractRequestedFirst(extractors, input, reference, types);
+        if (extractorResults == null) {
+            return ret;
+        }
+
         // The order is important, since there is a problem in merging
-        addTo(ret, this.config.getDateExtractor().extract(input, reference), input);
-        addTo(ret, this.config.getTimeExtractor().extract(input, reference), input);
-        addTo(ret, this.config.getDatePeriodExtractor().extract(input, reference), input);
-        addTo(ret, this.config.getDurationExtractor().extract(input, reference), input);
-        addTo(ret, this.config.getTimePeriodExtractor().extract(input, reference), input);
-        addTo(ret, this.config.getDateTimePeriodExtractor().extract(input, reference), input);
-        addTo(ret, this.config.getDateTimeExtractor().extract(input, reference), input);
-        addTo(ret, this.config.getSetExtractor().extract(input, reference), input);
-        addTo(ret, this.config.getHolidayExtractor().extract(input, reference), input);
+        for (List<ExtractResult> results : extractorResults) {
+            addTo(ret, results, input);
+        }
 
         if (this.config.getOptions().match(DateTimeOptions.EnablePreview)) {
-            addTo(ret, this.config.getTimeZoneExtractor().extract(input, reference), input);
             ret = this.config.getTimeZoneExtractor().removeAmbiguousTimezone(ret);
         }
 
@@ -104,9 +161,130 @@ public class BaseMergedDateTimeExtractor implements IDateTimeExtractor {
         return ret;
     }
 
-    @Override
-    public List<ExtractResult> extract(String input) {
-        return this.extract(input, LocalDateTime.now());
+    // Runs the sub-extractors able to produce the requested types before the others, which only run around what
+    // the former found. Returns the results in the order of the extractors, or null if none was found.
+    private List<List<ExtractResult>> extractRequestedFirst(List<Pair<IDateTimeExtractor, String>> extractors, String input,
+                                                            LocalDateTime reference, Set<DateTimeEntityType> types) {
+        List<IDateTimeExtractor> requested = new ArrayList<>();
+        List<IDateTimeExtractor> others = new ArrayList<>();
+        for (Pair<IDateTimeExtractor, String> extractor : extractors) {
+            if (canProduce(extractor.getValue1(), types)) {
+                requested.add(extractor.getValue0());
+            } else {
+                others.add(extractor.getValue0());
+            }
+        }
+
+        List<List<ExtractResult>> requestedResults = extractAll(requested, input, reference);
+        if (others.isEmpty()) {
+            return requestedResults;
+        }
+
+        if (requestedResults.stream().allMatch(List::isEmpty)) {
+            return null;
+        }
+
+        Iterator<List<ExtractResult>> requestedIterator = requestedResults.iterator();
+        Iterator<List<ExtractResult>> otherIterator = extractAround(others, input, reference, requestedResults).iterator();
+        List<List<ExtractResult>> results = new ArrayList<>();
+        for (Pair<IDateTimeExtractor, String> extractor : extractors) {
+            results.add(canProduce(extractor.getValue1(), types) ? requestedIterator.next() : otherIterator.next());
+        }
+
+        return results;
+    }
+
+    // Results of other types only change the requested ones by overlapping them, directly or through results overlapping
+    // both, so the extractors of other types only run on the text around the requested results. Each window reaches
+    // WindowReach characters further on both sides, to whole words, and windows closer than that are merged.
+    private List<List<ExtractResult>> extractAround(List<IDateTimeExtractor> extractors, String input, LocalDateTime reference,
+                                                    List<List<ExtractResult>> requestedResults) {
+        List<ExtractResult> requested = requestedResults.stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingInt(ExtractResult::getStart))
+                .collect(Collectors.toList());
+
+        List<Token> windows = new ArrayList<>();
+        for (ExtractResult result : requested) {
+            int start = Math.max(0, result.getStart() - WindowReach);
+            while (start > 0 && !Character.isWhitespace(input.charAt(start - 1))) {
+                start--;
+            }
+
+            int end = Math.min(input.length(), result.getStart() + result.getLength() + WindowReach);
+            while (end < input.length() && !Character.isWhitespace(input.charAt(end))) {
+                end++;
+            }
+
+            Token last = windows.isEmpty() ? null : windows.get(windows.size() - 1);
+            if (last != null && start <= last.getEnd()) {
+                windows.set(windows.size() - 1, new Token(last.getStart(), Math.max(last.getEnd(), end)));
+            } else {
+                windows.add(new Token(start, end));
+            }
+        }
+
+        List<List<ExtractResult>> results = new ArrayList<>();
+        for (IDateTimeExtractor extractor : extractors) {
+            results.add(new ArrayList<>());
+        }
+
+        for (Token window : windows) {
+            List<List<ExtractResult>> windowResults = extractAll(extractors, input.substring(window.getStart(), window.getEnd()), reference);
+            for (int i = 0; i < extractors.size(); i++) {
+                for (ExtractResult result : windowResults.get(i)) {
+                    result.setStart(result.getStart() + window.getStart());
+                    results.get(i).add(result);
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private boolean canProduce(String extractType, Set<DateTimeEntityType> types) {
+        // Split and alternative results can take any type
+        if (this.config.getOptions().match(DateTimeOptions.SplitDateAndTime) || this.config.getOptions().match(DateTimeOptions.ExtendedTypes)) {
+            return true;
+        }
+
+        // Times ending with a number are only looked for after times and date times
+        if (extractType.equals(Constants.SYS_DATETIME_DATETIME) && (types.contains(DateTimeEntityType.Time) || types.contains(DateTimeEntityType.TimeRange))) {
+            return true;
+        }
+
+        return DateTimeEntityType.resolvableFrom(extractType).stream().anyMatch(types::contains);
+    }
+
+    private List<List<ExtractResult>> extractAll(List<IDateTimeExtractor> extractors, String input, LocalDateTime reference) {
+        List<List<ExtractResult>> results = new ArrayList<>();
+
+        if (executor == null) {
+            for (IDateTimeExtractor extractor : extractors) {
+                results.add(extractor.extract(input, reference));
+            }
+
+            return results;
+        }
+
+        List<CompletableFuture<List<ExtractResult>>> futures = new ArrayList<>();
+        for (IDateTimeExtractor extractor : extractors) {
+            futures.add(CompletableFuture.supplyAsync(ExtractionMemo.share(() -> extractor.extract(input, reference)), executor));
+        }
+
+        try {
+            for (CompletableFuture<List<ExtractResult>> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+
+            throw e;
+        }
+
+        return results;
     }
 
     private List<ExtractResult> filterAmbiguity(List<ExtractResult> extractResults, String input) {
@@ -190,7 +368,7 @@ public class BaseMergedDateTimeExtractor implements IDateTimeExtractor {
                 Optional<Match> match = Arrays.stream(RegExpUtility.getMatches(numberEndingPattern, stringAfter)).findFirst();
                 if (match.isPresent()) {
                     MatchGroup newTime = match.get().getGroup("newTime");
-                    List<ExtractResult> numRes = this.config.getIntegerExtractor().extract(newTime.value);
+                    List<ExtractResult> numRes = ExtractionMemo.extract(this.config.getIntegerExtractor(), newTime.value);
                     if (numRes.size() == 0) {
                         continue;
                     }
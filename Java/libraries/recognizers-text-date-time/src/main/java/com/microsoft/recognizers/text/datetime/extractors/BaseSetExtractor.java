@@ -8,6 +8,7 @@ import com.microsoft.recognizers.text.datetime.Constants;
 import com.microsoft.recognizers.text.datetime.extractors.config.ISetExtractorConfiguration;
 import com.microsoft.recognizers.text.datetime.utilities.Token;
 import com.microsoft.recognizers.text.utilities.Match;
+import com.microsoft.recognizers.text.utilities.MatchGroup;
 import com.microsoft.recognizers.text.utilities.RegExpUtility;
 import com.microsoft.recognizers.text.utilities.StringUtility;
 
@@ -16,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 public class BaseSetExtractor implements IDateTimeExtractor {
@@ -120,39 +122,36 @@ public class BaseSetExtractor implements IDateTimeExtractor {
     }
 
     public final List<Token> matchEach(IDateTimeExtractor extractor, String input, LocalDateTime reference) {
-        StringBuilder sb = new StringBuilder(input);
         List<Token> ret = new ArrayList<>();
-        Pattern setEachRegex = this.config.getSetEachRegex();
-        Match[] matches = RegExpUtility.getMatches(setEachRegex, input);
-        for (Match match : matches) {
-            if (match != null) {
-                String trimedText = sb.delete(match.index, match.index + match.length).toString();
-                List<ExtractResult> ers = extractor.extract(trimedText, reference);
-                for (ExtractResult er : ers) {
-                    if (er.getStart() <= match.index && (er.getStart() + er.getLength()) > match.index) {
-                        ret.add(new Token(er.getStart(), er.getStart() + er.getLength() + match.length));
+
+        // handle "every Monday", removing all the "each" markers so the extractor runs once whatever their number
+        Match[] matches = RegExpUtility.getMatches(this.config.getSetEachRegex(), input);
+        if (matches.length > 0) {
+            MarkedText trimmedText = new MarkedText(input, matches, match -> null);
+            List<ExtractResult> ers = extractor.extract(trimmedText.text, reference);
+            for (ExtractResult er : ers) {
+                int start = er.getStart();
+                int end = er.getStart() + er.getLength();
+                for (int position : trimmedText.markerPositions) {
+                    if (start <= position && end > position) {
+                        ret.add(trimmedText.toOriginal(start, end));
+                        break;
                     }
                 }
             }
         }
 
-        // handle "Mondays"
-        Pattern setWeekDayRegex = this.config.getSetWeekDayRegex();
-        matches = RegExpUtility.getMatches(setWeekDayRegex, input);
-        for (Match match : matches) {
-            if (match != null) {
-                sb = new StringBuilder(input);
-                sb.delete(match.index, match.index + match.length);
-                String trimedText = sb.insert(match.index, match.getGroup("weekday").value).toString();
-
-                List<ExtractResult> ers = extractor.extract(trimedText, reference);
-                for (ExtractResult er : ers) {
-                    if (er.getStart() <= match.index && er.getText().contains(match.getGroup("weekday").value)) {
-                        int len = er.getLength() + 1;
-                        if (match.getGroup(Constants.PrefixGroupName).value != "") {
-                            len += match.getGroup(Constants.PrefixGroupName).value.length();
-                        }
-                        ret.add(new Token(er.getStart(), er.getStart() + len));
+        // handle "Mondays", replacing all of them by their weekday
+        matches = RegExpUtility.getMatches(this.config.getSetWeekDayRegex(), input);
+        if (matches.length > 0) {
+            MarkedText trimmedText = new MarkedText(input, matches, match -> match.getGroup("weekday"));
+            List<ExtractResult> ers = extractor.extract(trimmedText.text, reference);
+            for (ExtractResult er : ers) {
+                int start = er.getStart();
+                for (int i = 0; i < matches.length; i++) {
+                    if (start <= trimmedText.markerPositions[i] && er.getText().contains(matches[i].getGroup("weekday").value)) {
+                        ret.add(trimmedText.toOriginal(start, start + er.getLength()));
+                        break;
                     }
                 }
             }
@@ -160,4 +159,54 @@ public class BaseSetExtractor implements IDateTimeExtractor {
 
         return ret;
     }
+
+    // The input with its set markers removed, or replaced by one of their groups, and the offsets to map entities back to the input.
+    // An entity starting at a marker, or ending at a replaced one, covers the whole marker.
+    private static class MarkedText {
+        private final String text;
+        private final int[] markerPositions;
+        private final int[] starts;
+        private final int[] ends;
+
+        MarkedText(String input, Match[] markers, Function<Match, MatchGroup> replacement) {
+            StringBuilder sb = new StringBuilder(input.length());
+            markerPositions = new int[markers.length];
+            starts = new int[input.length() + 1];
+            ends = new int[input.length() + 1];
+
+            int last = 0;
+            for (int i = 0; i < markers.length; i++) {
+                Match marker = markers[i];
+                append(sb, input, last, marker.index);
+                markerPositions[i] = sb.length();
+
+                MatchGroup group = replacement.apply(marker);
+                if (group != null && group.length > 0) {
+                    append(sb, input, group.index, group.index + group.length);
+                    ends[sb.length()] = marker.index + marker.length;
+                }
+
+                last = marker.index + marker.length;
+            }
+
+            append(sb, input, last, input.length());
+            text = sb.toString();
+
+            for (int i = markers.length - 1; i >= 0; i--) {
+                starts[markerPositions[i]] = markers[i].index;
+            }
+        }
+
+        private void append(StringBuilder sb, String input, int start, int end) {
+            for (int i = start; i < end; i++) {
+                starts[sb.length()] = i;
+                sb.append(input.charAt(i));
+                ends[sb.length()] = i + 1;
+            }
+        }
+
+        private Token toOriginal(int start, int end) {
+            return new Token(starts[start], ends[end]);
+        }
+    }
 }
@@ -9,6 +9,7 @@ import com.microsoft.recognizers.text.datetime.DateTimeOptions;
 import com.microsoft.recognizers.text.datetime.extractors.config.ITimePeriodExtractorConfiguration;
 import com.microsoft.recognizers.text.datetime.extractors.config.ResultIndex;
 import com.microsoft.recognizers.text.datetime.utilities.ConditionalMatch;
+import com.microsoft.recognizers.text.datetime.utilities.ExtractionMemo;
 import com.microsoft.recognizers.text.datetime.utilities.RegexExtension;
 import com.microsoft.recognizers.text.datetime.utilities.TimeZoneUtility;
 import com.microsoft.recognizers.text.datetime.utilities.Token;
@@ -143,7 +144,7 @@ public class BaseTimePeriodExtractor implements IDateTimeExtractor {
         List<ExtractResult> ers = this.config.getSingleTimeExtractor().extract(input, reference);
 
         // Handling ending number as a time point.
-        List<ExtractResult> numErs = this.config.getIntegerExtractor().extract(input);
+        List<ExtractResult> numErs = ExtractionMemo.extract(this.config.getIntegerExtractor(), input);
 
         // Check if it is an ending number
         if (numErs.size() > 0) {
@@ -0,0 +1,98 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.datetime.models;
+
+import com.microsoft.recognizers.text.ModelResult;
+import com.microsoft.recognizers.text.ModelResultCache;
+import com.microsoft.recognizers.text.ResolutionKey;
+import com.microsoft.recognizers.text.datetime.Constants;
+import com.microsoft.recognizers.text.datetime.DateTimeOptions;
+import com.microsoft.recognizers.text.datetime.DateTimeResolutionKey;
+import com.microsoft.recognizers.text.utilities.FormatUtility;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.javatuples.Pair;
+import org.javatuples.Quintet;
+
+/**
+ * DateTimeModel serving its results from a ModelResultCache. Queries are always parsed against their own reference,
+ * so results are the ones of the model. The results only depending on the date of the reference (dates, date ranges,
+ * durations and sets without a time) are cached for the whole unit of the given granularity the reference falls in,
+ * e.g. for the whole day with DAYS. The other results are cached for their exact reference only.
+ * Cached results are immutable.
+ */
+public class CachedDateTimeModel extends DateTimeModel {
+
+    private final DateTimeModel model;
+    private final String culture;
+    private final DateTimeOptions options;
+    private final ModelResultCache cache;
+    private final ChronoUnit referenceGranularity;
+
+    public CachedDateTimeModel(DateTimeModel model, String culture, DateTimeOptions options, ModelResultCache cache, ChronoUnit referenceGranularity) {
+        super(model.parser, model.extractor);
+
+        if (referenceGranularity.getDuration().compareTo(ChronoUnit.DAYS.getDuration()) > 0) {
+            throw new IllegalArgumentException("Reference granularity must be at most a day");
+        }
+
+        this.model = model;
+        this.culture = culture;
+        this.options = options;
+        this.cache = cache;
+        this.referenceGranularity = referenceGranularity;
+    }
+
+    public DateTimeModel getModel() {
+        return model;
+    }
+
+    @Override
+    public List<ModelResult> parse(String query, LocalDateTime reference) {
+        String normalizedQuery = FormatUtility.preprocess(query);
+
+        // The truncated reference is paired with the granularity to never equal an exact reference
+        Pair<LocalDateTime, ChronoUnit> sharedReference = new Pair<>(reference.truncatedTo(referenceGranularity), referenceGranularity);
+        Quintet<String, Type, String, String, Object> sharedKey = ModelResultCache.getKey(culture, model.getClass(), options, normalizedQuery, sharedReference);
+        Quintet<String, Type, String, String, Object> exactKey = ModelResultCache.getKey(culture, model.getClass(), options, normalizedQuery, reference);
+
+        List<Quintet<String, Type, String, String, Object>> keys = Arrays.asList(sharedKey, exactKey);
+
+        return cache.get(keys, () -> model.parse(query, reference), results -> dependOnDateOnly(results) ? sharedKey : exactKey);
+    }
+
+    private static boolean dependOnDateOnly(List<ModelResult> results) {
+        for (ModelResult result : results) {
+            Object values = result.resolution != null ? result.resolution.get(ResolutionKey.ValueSet) : null;
+            if (!(values instanceof List)) {
+                return false;
+            }
+
+            for (Object value : (List<?>)values) {
+                if (!(value instanceof Map) || !dependsOnDateOnly((Map<?, ?>)value)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    // Times, and dates and times like "now", depend on the time of the reference
+    private static boolean dependsOnDateOnly(Map<?, ?> value) {
+        Object type = value.get(ResolutionKey.Type);
+        Object timex = value.get(DateTimeResolutionKey.Timex);
+        if (!(timex instanceof String) || ((String)timex).contains("T")) {
+            return false;
+        }
+
+        return Constants.SYS_DATETIME_DATE.equals(type) || Constants.SYS_DATETIME_DATEPERIOD.equals(type) ||
+            Constants.SYS_DATETIME_DURATION.equals(type) || Constants.SYS_DATETIME_SET.equals(type);
+    }
+}
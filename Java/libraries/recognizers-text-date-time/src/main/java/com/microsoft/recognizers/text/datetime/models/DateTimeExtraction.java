@@ -0,0 +1,85 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.datetime.models;
+
+import com.microsoft.recognizers.text.ExtractResult;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extraction stage of a DateTimeModel, reusable to resolve the same query against several references.
+ * Extractors only read the year and month of the reference (e.g. to check "Thursday the 21st"),
+ * so an extraction is valid for any reference within the same month.
+ */
+public final class DateTimeExtraction {
+
+    private final String query;
+    private final YearMonth referenceMonth;
+    private final List<ExtractResult> extractResults;
+
+    DateTimeExtraction(String query, LocalDateTime reference, List<ExtractResult> extractResults) {
+        this.query = query;
+        this.referenceMonth = YearMonth.from(reference);
+        this.extractResults = Collections.unmodifiableList(new ArrayList<>(extractResults));
+    }
+
+    /**
+     * @return the pre-processed query
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    public YearMonth getReferenceMonth() {
+        return referenceMonth;
+    }
+
+    public boolean isValidFor(LocalDateTime reference) {
+        return referenceMonth.equals(YearMonth.from(reference));
+    }
+
+    /**
+     * Gets copies of the extract results, parsers update the results they are given.
+     */
+    public List<ExtractResult> getExtractResults() {
+        List<ExtractResult> results = new ArrayList<>(extractResults.size());
+        for (ExtractResult result : extractResults) {
+            results.add(copy(result));
+        }
+
+        return results;
+    }
+
+    private static ExtractResult copy(ExtractResult result) {
+        return new ExtractResult(result.getStart(), result.getLength(), result.getText(), result.getType(), copyData(result.getData()), result.getMetadata());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyData(Object data) {
+        if (data instanceof ExtractResult) {
+            return copy((ExtractResult)data);
+        } else if (data instanceof LinkedHashMap) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            ((Map<Object, Object>)data).forEach((key, value) -> map.put(key, copyData(value)));
+            return map;
+        } else if (data instanceof HashMap) {
+            Map<Object, Object> map = new HashMap<>();
+            ((Map<Object, Object>)data).forEach((key, value) -> map.put(key, copyData(value)));
+            return map;
+        } else if (data instanceof ArrayList) {
+            List<Object> list = new ArrayList<>();
+            ((List<Object>)data).forEach(item -> list.add(copyData(item)));
+            return list;
+        }
+
+        return data;
+    }
+}
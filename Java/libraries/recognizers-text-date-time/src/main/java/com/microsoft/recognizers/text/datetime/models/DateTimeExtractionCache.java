@@ -0,0 +1,84 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.datetime.models;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.javatuples.Triplet;
+
+/**
+ * Bounded LRU cache of the extraction stage of DateTimeModels, keyed by model, query and reference month.
+ * Re-resolving a known query for another reference of the same month then skips the extraction entirely:
+ * <pre>
+ *     DateTimeExtraction extraction = cache.extract(model, query, reference);
+ *     List&lt;ModelResult&gt; results = model.resolve(extraction, reference);
+ * </pre>
+ * Safe to share between threads and models.
+ */
+public class DateTimeExtractionCache {
+
+    private final Map<Triplet<DateTimeModel, String, YearMonth>, DateTimeExtraction> cache;
+
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    public DateTimeExtractionCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache maximum size must be positive");
+        }
+
+        this.cache = new LinkedHashMap<Triplet<DateTimeModel, String, YearMonth>, DateTimeExtraction>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Triplet<DateTimeModel, String, YearMonth>, DateTimeExtraction> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    public DateTimeExtraction extract(DateTimeModel model, String query, LocalDateTime reference) {
+        Triplet<DateTimeModel, String, YearMonth> key = new Triplet<>(model, query, YearMonth.from(reference));
+
+        synchronized (this) {
+            DateTimeExtraction extraction = cache.get(key);
+            if (extraction != null) {
+                hitCount++;
+                return extraction;
+            }
+
+            missCount++;
+        }
+
+        // Extract outside the lock, concurrent misses on the same key may extract it more than once
+        DateTimeExtraction extraction = model.extract(query, reference);
+
+        synchronized (this) {
+            cache.put(key, extraction);
+        }
+
+        return extraction;
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double)hitCount / requestCount;
+    }
+
+    public synchronized void invalidateAll() {
+        cache.clear();
+    }
+}
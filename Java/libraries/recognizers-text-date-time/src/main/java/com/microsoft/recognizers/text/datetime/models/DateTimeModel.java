@@ -7,15 +7,20 @@ import com.microsoft.recognizers.text.ExtractResult;
 import com.microsoft.recognizers.text.IModel;
 import com.microsoft.recognizers.text.ModelResult;
 import com.microsoft.recognizers.text.datetime.Constants;
+import com.microsoft.recognizers.text.datetime.DateTimeEntityType;
+import com.microsoft.recognizers.text.datetime.extractors.BaseMergedDateTimeExtractor;
 import com.microsoft.recognizers.text.datetime.extractors.IDateTimeExtractor;
+import com.microsoft.recognizers.text.datetime.parsers.BaseMergedDateTimeParser;
 import com.microsoft.recognizers.text.datetime.parsers.DateTimeParseResult;
 import com.microsoft.recognizers.text.datetime.parsers.IDateTimeParser;
 import com.microsoft.recognizers.text.utilities.FormatUtility;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.stream.Collectors;
 
@@ -40,14 +45,48 @@ public class DateTimeModel implements IModel {
     }
 
     public List<ModelResult> parse(String query, LocalDateTime reference) {
+        return this.resolve(this.extract(query, reference), reference);
+    }
+
+    /**
+     * Recognizes the given entity types only. The results are the ones of {@link #parse(String, LocalDateTime)}
+     * having one of these types, but extractors and parsers that cannot contribute to them are skipped.
+     */
+    public List<ModelResult> parse(String query, LocalDateTime reference, Set<DateTimeEntityType> types) {
         query = FormatUtility.preprocess(query);
+        List<ModelResult> results = resolveResults(query, extractResults(query, reference, types), reference, types);
+
+        return results.stream()
+                .filter(r -> types.contains(DateTimeEntityType.fromTypeName(r.typeName)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs the extraction stage only. The extraction can be resolved against any reference,
+     * without extracting again as long as the reference is in the same month.
+     */
+    public DateTimeExtraction extract(String query, LocalDateTime reference) {
+        query = FormatUtility.preprocess(query);
+        return extractPreprocessed(query, reference);
+    }
 
+    public List<ModelResult> resolve(DateTimeExtraction extraction, LocalDateTime reference) {
+        if (!extraction.isValidFor(reference)) {
+            extraction = extractPreprocessed(extraction.getQuery(), reference);
+        }
+
+        return resolveResults(extraction.getQuery(), extraction.getExtractResults(), reference, EnumSet.allOf(DateTimeEntityType.class));
+    }
+
+    private List<ModelResult> resolveResults(String query, List<ExtractResult> extractResults, LocalDateTime reference, Set<DateTimeEntityType> types) {
         List<DateTimeParseResult> parsedDateTimes = new ArrayList<>();
 
         try {
-            List<ExtractResult> extractResults = extractor.extract(query, reference);
-
             for (ExtractResult result : extractResults) {
+                if (parser instanceof BaseMergedDateTimeParser && !((BaseMergedDateTimeParser)parser).canResolveTo(result, types)) {
+                    continue;
+                }
+
                 DateTimeParseResult parseResult = parser.parse(result, reference);
 
                 if (parseResult.getValue() instanceof List) {
@@ -69,6 +108,24 @@ public class DateTimeModel implements IModel {
         return parsedDateTimes.stream().map(this::getModelResult).collect(Collectors.toList());
     }
 
+    private DateTimeExtraction extractPreprocessed(String query, LocalDateTime reference) {
+        return new DateTimeExtraction(query, reference, extractResults(query, reference, EnumSet.allOf(DateTimeEntityType.class)));
+    }
+
+    private List<ExtractResult> extractResults(String query, LocalDateTime reference, Set<DateTimeEntityType> types) {
+        try {
+            if (extractor instanceof BaseMergedDateTimeExtractor) {
+                return ((BaseMergedDateTimeExtractor)extractor).extract(query, reference, types);
+            }
+
+            return extractor.extract(query, reference);
+        } catch (Exception e) {
+            // Nothing to do. Exceptions in parse should not break users of recognizers.
+            // No result.
+            return new ArrayList<>();
+        }
+    }
+
     private ModelResult getModelResult(DateTimeParseResult parsedDateTime) {
 
         int start = parsedDateTime.getStart();
@@ -112,6 +112,9 @@ public class BaseDateParser implements IDateTimeParser {
     }
 
     // parse basic patterns in DateRegexList
+    // The patterns are matched again against the extracted text alone, in order, instead of reusing the match found by the extractor.
+    // The first pattern matching the text alone isn't always the one that matched it in the whole input, and reusing the extractor
+    // match changes resolutions, e.g. "this Friday 7.6" loses its relative term and "10/1-11/2/2017" ends on Feb 11.
     private DateTimeResolutionResult parseBasicRegexMatch(String text, LocalDateTime referenceDate) {
         String trimmedText = text.trim();
 
@@ -130,7 +133,7 @@ public class BaseDateParser implements IDateTimeParser {
             }
 
             if (match.isPresent()) {
-                ConditionalMatch relativeRegex = RegexExtension.matchEnd(config.getStrictRelativeRegex(), text.substring(0, match.get().index), true);
+                ConditionalMatch relativeRegex = RegexExtension.matchEnd(config.getStrictRelativeRegex(), text, match.get().index, true);
                 boolean isContainRelative = relativeRegex.getSuccess() && match.get().index + match.get().length == trimmedText.length();
                 if ((match.get().index == offset && match.get().length == trimmedText.length()) || isContainRelative) {
                     // Handing cases which contain relative term like "this 5/12"
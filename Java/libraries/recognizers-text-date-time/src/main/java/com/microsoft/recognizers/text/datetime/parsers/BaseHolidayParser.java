@@ -5,7 +5,6 @@ package com.microsoft.recognizers.text.datetime.parsers;
 
 import static java.lang.Integer.parseInt;
 
-import com.google.common.collect.ImmutableMap;
 import com.microsoft.recognizers.text.ExtractResult;
 import com.microsoft.recognizers.text.ParseResult;
 import com.microsoft.recognizers.text.datetime.Constants;
@@ -15,6 +14,7 @@ import com.microsoft.recognizers.text.datetime.utilities.ConditionalMatch;
 import com.microsoft.recognizers.text.datetime.utilities.DateTimeFormatUtil;
 import com.microsoft.recognizers.text.datetime.utilities.DateTimeResolutionResult;
 import com.microsoft.recognizers.text.datetime.utilities.DateUtil;
+import com.microsoft.recognizers.text.datetime.utilities.HolidayTable;
 import com.microsoft.recognizers.text.datetime.utilities.RegexExtension;
 import com.microsoft.recognizers.text.utilities.Match;
 import com.microsoft.recognizers.text.utilities.StringUtility;
@@ -23,16 +23,16 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.function.IntFunction;
 import java.util.regex.Pattern;
-import java.util.stream.StreamSupport;
 
 public class BaseHolidayParser implements IDateTimeParser {
 
     private final IHolidayParserConfiguration config;
+    private final HolidayTable holidayTable;
 
     public BaseHolidayParser(IHolidayParserConfiguration config) {
         this.config = config;
+        this.holidayTable = new HolidayTable(config);
     }
 
     @Override
@@ -127,31 +127,19 @@ public class BaseHolidayParser implements IDateTimeParser {
             year = referenceDate.getYear();
         }
 
-        String holidayKey = "";
-        for (ImmutableMap.Entry<String, Iterable<String>> holidayPair : this.config.getHolidayNames().entrySet()) {
-            if (StreamSupport.stream(holidayPair.getValue().spliterator(), false).anyMatch(name -> holidayStr.equals(name))) {
-                holidayKey = holidayPair.getKey();
-                break;
-            }
-        }
+        String holidayKey = holidayTable.getHolidayKey(holidayStr);
 
         String timexStr = "";
         if (!StringUtility.isNullOrEmpty(holidayKey)) {
             
-            LocalDateTime value = referenceDate;
-            IntFunction<LocalDateTime> function = this.config.getHolidayFuncDictionary().get(holidayKey);
-            if (function != null) {
-                
-                value = function.apply(year);
-
-                timexStr = this.config.getVariableHolidaysTimexDictionary().get(holidayKey);
-                if (StringUtility.isNullOrEmpty(timexStr)) {
-                    timexStr = String.format("-%02d-%02d", value.getMonthValue(), value.getDayOfMonth());
-                }
+            LocalDateTime value = holidayTable.getDate(holidayKey, year);
+            if (value == null) {
+                return ret;
             }
 
-            if (function == null) {
-                return ret;
+            timexStr = this.config.getVariableHolidaysTimexDictionary().get(holidayKey);
+            if (StringUtility.isNullOrEmpty(timexStr)) {
+                timexStr = String.format("-%02d-%02d", value.getMonthValue(), value.getDayOfMonth());
             }
 
             if (value.equals(DateUtil.minValue())) {
@@ -184,10 +172,7 @@ public class BaseHolidayParser implements IDateTimeParser {
     private LocalDateTime getFutureValue(LocalDateTime value, LocalDateTime referenceDate, String holiday) {
 
         if (value.isBefore(referenceDate)) {
-            IntFunction<LocalDateTime> function = this.config.getHolidayFuncDictionary().get(holiday);
-            if (function != null) {
-                return function.apply(value.getYear() + 1);
-            }
+            return holidayTable.getDate(holiday, value.getYear() + 1);
         }
 
         return value;
@@ -196,10 +181,7 @@ public class BaseHolidayParser implements IDateTimeParser {
     private LocalDateTime getPastValue(LocalDateTime value, LocalDateTime referenceDate, String holiday) {
 
         if (value.isAfter(referenceDate) || value == referenceDate) {
-            IntFunction<LocalDateTime> function = this.config.getHolidayFuncDictionary().get(holiday);
-            if (function != null) {
-                return function.apply(value.getYear() - 1);
-            }
+            return holidayTable.getDate(holiday, value.getYear() - 1);
         }
 
         return value;
@@ -8,6 +8,7 @@ import com.microsoft.recognizers.text.ParseResult;
 import com.microsoft.recognizers.text.ResolutionKey;
 import com.microsoft.recognizers.text.datetime.Constants;
 import com.microsoft.recognizers.text.datetime.DatePeriodTimexType;
+import com.microsoft.recognizers.text.datetime.DateTimeEntityType;
 import com.microsoft.recognizers.text.datetime.DateTimeOptions;
 import com.microsoft.recognizers.text.datetime.DateTimeResolutionKey;
 import com.microsoft.recognizers.text.datetime.TimeTypeConstants;
@@ -33,6 +34,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
@@ -376,6 +378,18 @@ public class BaseMergedDateTimeParser implements IDateTimeParser {
         return timexEndInclusive;
     }
 
+    /**
+     * Tells whether parsing the extract result may give one of the entity types,
+     * so that callers only interested in some types can skip the others.
+     */
+    public boolean canResolveTo(ExtractResult er, Set<DateTimeEntityType> types) {
+        if (config.getOptions().match(DateTimeOptions.SplitDateAndTime)) {
+            return true;
+        }
+
+        return DateTimeEntityType.resolvableFrom(er.getType()).stream().anyMatch(types::contains);
+    }
+
     public String determineDateTimeType(String type, boolean hasMod) {
         if (config.getOptions().match(DateTimeOptions.SplitDateAndTime)) {
             if (type.equals(Constants.SYS_DATETIME_DATETIME)) {
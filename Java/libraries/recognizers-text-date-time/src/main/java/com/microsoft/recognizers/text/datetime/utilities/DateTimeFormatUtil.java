@@ -12,7 +12,6 @@ import com.microsoft.recognizers.text.utilities.StringUtility;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.time.temporal.IsoFields;
 import java.util.ArrayList;
 import java.util.regex.Matcher;
@@ -23,40 +22,46 @@ public class DateTimeFormatUtil {
     private static final Pattern HourTimexRegex = Pattern.compile("(?<!P)T(\\d{2})");
     private static final Pattern WeekDayTimexRegex = Pattern.compile("XXXX-WXX-(\\d)");
 
+    // Every resolved entity formats several timex and value strings, so they are written into a per-thread buffer
+    private static final ThreadLocal<StringBuilder> Buffer = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    private static final LocalDateTime MinValue = DateUtil.minValue();
+    private static final String MinDateString = "0001-01-01";
+    private static final String MinDateTimeString = "0001-01-01 00:00:00";
+
     public static String luisDate(int year) {
 
         if (year == Constants.InvalidYear) {
             return Constants.TimexFuzzyYear;
         }
-        return String.format("%04d", year);
+
+        StringBuilder sb = buffer();
+        appendPadded(sb, year, 4);
+        return sb.toString();
     }
 
     public static String luisDate(int year, int month) {
+        StringBuilder sb = buffer();
         if (year == Constants.InvalidYear) {
+            sb.append(Constants.TimexFuzzyYear).append(Constants.DateTimexConnector);
             if (month == Constants.InvalidMonth) {
-                return String.join(Constants.DateTimexConnector, Constants.TimexFuzzyYear, Constants.TimexFuzzyMonth);
+                return sb.append(Constants.TimexFuzzyMonth).toString();
             }
 
-            return String.join(Constants.DateTimexConnector, Constants.TimexFuzzyYear, String.format("%02d", month));
+            appendPadded(sb, month, 2);
+            return sb.toString();
         }
 
-        return String.join(Constants.DateTimexConnector, String.format("%04d", year), String.format("%02d", month));
+        appendPadded(sb, year, 4);
+        sb.append(Constants.DateTimexConnector);
+        appendPadded(sb, month, 2);
+        return sb.toString();
     }
 
     public static String luisDate(int year, int month, int day) {
-        if (year == -1) {
-            if (month == -1) {
-                if (day == -1) {
-                    return String.join(Constants.DateTimexConnector, Constants.TimexFuzzyYear, Constants.TimexFuzzyMonth, Constants.TimexFuzzyDay);
-                }
-
-                return String.join(Constants.DateTimexConnector, Constants.TimexFuzzyYear, Constants.TimexFuzzyMonth, String.format("%02d", day));
-            }
-
-            return String.join(Constants.DateTimexConnector, Constants.TimexFuzzyYear, String.format("%02d", month), String.format("%02d", day));
-        }
-
-        return String.join(Constants.DateTimexConnector, String.format("%04d", year), String.format("%02d", month), String.format("%02d", day));
+        StringBuilder sb = buffer();
+        appendLuisDate(sb, year, month, day);
+        return sb.toString();
     }
 
     public static String luisDate(LocalDateTime date) {
@@ -90,15 +95,9 @@ public class DateTimeFormatUtil {
     }
 
     public static String luisTime(int hour, int min, int second) {
-
-        String result;
-        if (second == Constants.InvalidSecond) {
-            result = String.join(Constants.TimeTimexConnector, String.format("%02d", hour), String.format("%02d", min));
-        } else {
-            result = String.join(Constants.TimeTimexConnector, String.format("%02d", hour), String.format("%02d", min), String.format("%02d", second));
-        }
-
-        return result;
+        StringBuilder sb = buffer();
+        appendLuisTime(sb, hour, min, second);
+        return sb.toString();
     }
 
     public static String luisTime(LocalDateTime time) {
@@ -106,23 +105,39 @@ public class DateTimeFormatUtil {
     }
 
     public static String luisDateTime(LocalDateTime time) {
-        return luisDate(time) + "T" + luisTime(time.getHour(), time.getMinute(), time.getSecond());
+        StringBuilder sb = buffer();
+        appendLuisDate(sb, time.getYear(), time.getMonthValue(), time.getDayOfMonth());
+        sb.append('T');
+        appendLuisTime(sb, time.getHour(), time.getMinute(), time.getSecond());
+        return sb.toString();
     }
 
     public static String formatDate(LocalDateTime date) {
-        return String.join(
-                Constants.DateTimexConnector,
-                String.format("%04d", date.getYear()),
-                String.format("%02d", date.getMonthValue()),
-                String.format("%02d", date.getDayOfMonth()));
+        if (date.equals(MinValue)) {
+            return MinDateString;
+        }
+
+        StringBuilder sb = buffer();
+        appendDate(sb, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        return sb.toString();
     }
-    
+
     public static String formatTime(LocalDateTime time) {
-        return String.join(Constants.TimeTimexConnector, String.format("%02d", time.getHour()), String.format("%02d", time.getMinute()), String.format("%02d", time.getSecond()));
+        StringBuilder sb = buffer();
+        appendLuisTime(sb, time.getHour(), time.getMinute(), time.getSecond());
+        return sb.toString();
     }
 
     public static String formatDateTime(LocalDateTime datetime) {
-        return String.join(" ", formatDate(datetime), formatTime(datetime));
+        if (datetime.equals(MinValue)) {
+            return MinDateTimeString;
+        }
+
+        StringBuilder sb = buffer();
+        appendDate(sb, datetime.getYear(), datetime.getMonthValue(), datetime.getDayOfMonth());
+        sb.append(' ');
+        appendLuisTime(sb, datetime.getHour(), datetime.getMinute(), datetime.getSecond());
+        return sb.toString();
     }
 
     public static String shortTime(int hour) {
@@ -134,43 +149,20 @@ public class DateTimeFormatUtil {
     }
 
     public static String shortTime(int hour, int min, int second) {
-        String timeString;
+        StringBuilder sb = buffer();
+        sb.append(Constants.TimeTimexPrefix);
 
         if (min == Constants.InvalidSecond && second == Constants.InvalidSecond) {
-            timeString = String.format("%s%02d", Constants.TimeTimexPrefix, hour);
-        } else if (second == Constants.InvalidSecond) {
-            timeString = String.format("%s%s", Constants.TimeTimexPrefix, luisTime(hour, min));
+            appendPadded(sb, hour, 2);
         } else {
-            timeString = String.format("%s%s", Constants.TimeTimexPrefix, luisTime(hour, min, second));
+            appendLuisTime(sb, hour, min, second);
         }
 
-        return timeString;
+        return sb.toString();
     }
 
     // Only handle TimeSpan which is less than one day
     public static String luisTimeSpan(Duration timeSpan) {
-        String result = "PT";
-
-        if (timeSpan.toHours() % 24 > 0) {
-            result = String.format("%s%sH", result, timeSpan.toHours() % 24);
-        }
-
-        if (timeSpan.toMinutes() % 60 > 0) {
-            result = String.format("%s%sM", result, timeSpan.toMinutes() % 60);
-        }
-
-        if (timeSpan.get(ChronoUnit.SECONDS) % 60 > 0) {
-            result = String.format("%s%sS", result, timeSpan.get(ChronoUnit.SECONDS) % 60);
-        }
-
-        if (timeSpan.toMinutes() % 60 > 0) {
-            result = String.format("%s%sM", result, timeSpan.toMinutes() % 60);
-        }
-
-        if (timeSpan.get(ChronoUnit.SECONDS) % 60 > 0) {
-            result = String.format("%s%sS", result, timeSpan.get(ChronoUnit.SECONDS) % 60);
-        }
-
         return timeSpan.toString();
     }
 
@@ -184,7 +176,9 @@ public class DateTimeFormatUtil {
         String[] splited = timeStr.split(":");
         int hour = Integer.parseInt(splited[0]);
         hour = hour >= Constants.HalfDayHourCount ? hour - Constants.HalfDayHourCount : hour + Constants.HalfDayHourCount;
-        splited[0] = String.format("%02d", hour);
+        StringBuilder sb = buffer();
+        appendPadded(sb, hour, 2);
+        splited[0] = sb.toString();
         timeStr = String.join(":", splited);
 
         return hasT ? "T" + timeStr : timeStr;
@@ -246,6 +240,80 @@ public class DateTimeFormatUtil {
 
     public static String toIsoWeekTimex(LocalDateTime date) {
         int weekNum = LocalDate.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth()).get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
-        return String.format("%04d-W%02d", date.getYear(), weekNum);
+
+        StringBuilder sb = buffer();
+        appendPadded(sb, date.getYear(), 4);
+        sb.append("-W");
+        appendPadded(sb, weekNum, 2);
+        return sb.toString();
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder sb = Buffer.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+    private static void appendDate(StringBuilder sb, int year, int month, int day) {
+        appendPadded(sb, year, 4);
+        sb.append(Constants.DateTimexConnector);
+        appendPadded(sb, month, 2);
+        sb.append(Constants.DateTimexConnector);
+        appendPadded(sb, day, 2);
+    }
+
+    private static void appendLuisDate(StringBuilder sb, int year, int month, int day) {
+        if (year == -1) {
+            sb.append(Constants.TimexFuzzyYear).append(Constants.DateTimexConnector);
+            if (month == -1) {
+                sb.append(Constants.TimexFuzzyMonth).append(Constants.DateTimexConnector);
+                if (day == -1) {
+                    sb.append(Constants.TimexFuzzyDay);
+                } else {
+                    appendPadded(sb, day, 2);
+                }
+
+                return;
+            }
+
+            appendPadded(sb, month, 2);
+            sb.append(Constants.DateTimexConnector);
+            appendPadded(sb, day, 2);
+            return;
+        }
+
+        appendDate(sb, year, month, day);
+    }
+
+    private static void appendLuisTime(StringBuilder sb, int hour, int min, int second) {
+        appendPadded(sb, hour, 2);
+        sb.append(Constants.TimeTimexConnector);
+        appendPadded(sb, min, 2);
+
+        if (second != Constants.InvalidSecond) {
+            sb.append(Constants.TimeTimexConnector);
+            appendPadded(sb, second, 2);
+        }
+    }
+
+    // Same as String.format("%0<width>d", value), the sign counting in the width
+    private static void appendPadded(StringBuilder sb, int value, int width) {
+        long abs = value;
+        if (abs < 0) {
+            sb.append('-');
+            abs = -abs;
+            width--;
+        }
+
+        int digits = 1;
+        for (long rest = abs / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+
+        for (int i = digits; i < width; i++) {
+            sb.append('0');
+        }
+
+        sb.append(abs);
     }
 }
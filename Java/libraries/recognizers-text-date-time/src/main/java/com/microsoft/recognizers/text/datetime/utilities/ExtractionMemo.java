@@ -0,0 +1,95 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.datetime.utilities;
+
+import com.microsoft.recognizers.text.ExtractResult;
+import com.microsoft.recognizers.text.IExtractor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.javatuples.Pair;
+
+/**
+ * Remembers the results of extractors that only depend on their input text, like the number extractors,
+ * while a date-time extraction runs. The same text is extracted many times by the date-time sub-extractors.
+ */
+public final class ExtractionMemo {
+
+    private static final ThreadLocal<ExtractionMemo> Current = new ThreadLocal<>();
+
+    private final Map<Pair<IExtractor, String>, List<ExtractResult>> results = new ConcurrentHashMap<>();
+
+    private ExtractionMemo() {
+    }
+
+    /**
+     * Runs the action with a memo open on the current thread. The memo of an enclosing run is reused.
+     */
+    public static <T> T run(Supplier<T> action) {
+        if (Current.get() != null) {
+            return action.get();
+        }
+
+        Current.set(new ExtractionMemo());
+        try {
+            return action.get();
+        } finally {
+            Current.remove();
+        }
+    }
+
+    /**
+     * Wraps the action so that it uses the memo of the current thread, when run on another thread.
+     */
+    public static <T> Supplier<T> share(Supplier<T> action) {
+        ExtractionMemo memo = Current.get();
+        if (memo == null) {
+            return action;
+        }
+
+        return () -> {
+            ExtractionMemo previous = Current.get();
+            Current.set(memo);
+            try {
+                return action.get();
+            } finally {
+                if (previous == null) {
+                    Current.remove();
+                } else {
+                    Current.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Extracts the text, or copies the results of a previous extraction of the same text by the same extractor
+     * when a memo is open. Results are relative to the given text, so substrings are keyed by their own content.
+     */
+    public static List<ExtractResult> extract(IExtractor extractor, String text) {
+        ExtractionMemo memo = Current.get();
+        if (memo == null || text == null) {
+            return extractor.extract(text);
+        }
+
+        Pair<IExtractor, String> key = new Pair<>(extractor, text);
+        List<ExtractResult> results = memo.results.get(key);
+        if (results == null) {
+            results = extractor.extract(text);
+            memo.results.putIfAbsent(key, results);
+        }
+
+        // Callers are free to change the results
+        List<ExtractResult> copy = new ArrayList<>(results.size());
+        for (ExtractResult result : results) {
+            copy.add(new ExtractResult(result.getStart(), result.getLength(), result.getText(), result.getType(), result.getData(), result.getMetadata()));
+        }
+
+        return copy;
+    }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.datetime.utilities;
+
+import com.google.common.collect.ImmutableMap;
+import com.microsoft.recognizers.text.datetime.parsers.config.IHolidayParserConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Holiday dates of a culture, computed once per holiday and year from the holiday functions of its configuration,
+ * and the holiday keys indexed by holiday name.
+ */
+public final class HolidayTable {
+
+    private final Map<String, String> keysByName;
+    private final ImmutableMap<String, IntFunction<LocalDateTime>> functions;
+    private final ImmutableMap<String, Map<Integer, LocalDateTime>> dates;
+
+    public HolidayTable(IHolidayParserConfiguration config) {
+        Map<String, String> keys = new HashMap<>();
+        for (Map.Entry<String, Iterable<String>> holidayPair : config.getHolidayNames().entrySet()) {
+            for (String name : holidayPair.getValue()) {
+                // The first holiday listing a name wins
+                keys.putIfAbsent(name, holidayPair.getKey());
+            }
+        }
+
+        ImmutableMap.Builder<String, Map<Integer, LocalDateTime>> datesBuilder = ImmutableMap.builder();
+        for (String holiday : config.getHolidayFuncDictionary().keySet()) {
+            datesBuilder.put(holiday, new ConcurrentHashMap<>());
+        }
+
+        this.keysByName = keys;
+        this.functions = config.getHolidayFuncDictionary();
+        this.dates = datesBuilder.build();
+    }
+
+    /**
+     * Returns the key of the holiday with the given (sanitized) name, or null when no holiday has this name.
+     */
+    public String getHolidayKey(String name) {
+        return keysByName.get(name);
+    }
+
+    /**
+     * Returns the date of the holiday in the given year, or null when the holiday has no date function.
+     */
+    public LocalDateTime getDate(String holidayKey, int year) {
+        IntFunction<LocalDateTime> function = functions.get(holidayKey);
+        if (function == null) {
+            return null;
+        }
+
+        return dates.get(holidayKey).computeIfAbsent(year, function::apply);
+    }
+}
@@ -5,16 +5,17 @@ package com.microsoft.recognizers.text.datetime.utilities;
 
 import com.microsoft.recognizers.text.utilities.Match;
 import com.microsoft.recognizers.text.utilities.RegExpUtility;
-import com.microsoft.recognizers.text.utilities.StringUtility;
 
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
 public abstract class RegexExtension {
+    // How far before the end of a prefix matchEnd looks for a match, beyond the length of any of the patterns it is used with
+    private static final int MatchEndWindow = 64;
+
     // Regex match with match length equals to text length
     public static boolean isExactMatch(Pattern regex, String text, boolean trim) {
-        Optional<Match> match = Arrays.stream(RegExpUtility.getMatches(regex, text)).findFirst();
+        Optional<Match> match = Optional.ofNullable(RegExpUtility.getFirstMatch(regex, text));
         int length = trim ? text.trim().length() : text.length();
 
         return (match.isPresent() && match.get().length == length);
@@ -22,7 +23,7 @@ public abstract class RegexExtension {
 
     // We can't trim before match as we may use the match index later
     public static ConditionalMatch matchExact(Pattern regex, String text, boolean trim) {
-        Optional<Match> match = Arrays.stream(RegExpUtility.getMatches(regex, text)).findFirst();
+        Optional<Match> match = Optional.ofNullable(RegExpUtility.getFirstMatch(regex, text));
         int length = trim ? text.trim().length() : text.length();
 
         return new ConditionalMatch(match, (match.isPresent() && match.get().length == length));
@@ -30,32 +31,53 @@ public abstract class RegexExtension {
 
     // We can't trim before match as we may use the match index later
     public static ConditionalMatch matchEnd(Pattern regex, String text, boolean trim) {
-        Optional<Match> match = Arrays.stream(RegExpUtility.getMatches(regex, text)).reduce((f, s) -> s);
-        String strAfter = "";
-        if (match.isPresent()) {
-            strAfter = text.substring(match.get().index + match.get().length);
+        return matchEnd(regex, text, text.length(), trim);
+    }
 
-            if (trim) {
-                strAfter = strAfter.trim();
-            }
-        }
+    // Same as matchEnd(regex, text.substring(0, end), trim) for the matches starting in the last MatchEndWindow
+    // characters of the prefix: only that window is scanned, as the entity ends the prefix
+    public static ConditionalMatch matchEnd(Pattern regex, String text, int end, boolean trim) {
+        Optional<Match> match = Optional.ofNullable(RegExpUtility.getLastMatch(regex, text, Math.max(0, end - MatchEndWindow), end));
 
-        return new ConditionalMatch(match, (match.isPresent() && StringUtility.isNullOrEmpty(strAfter)));
+        return new ConditionalMatch(match, (match.isPresent() && isBlank(text, match.get().index + match.get().length, end, trim)));
     }
 
     // We can't trim before match as we may use the match index later
     public static ConditionalMatch matchBegin(Pattern regex, String text, boolean trim) {
-        Optional<Match> match = Arrays.stream(RegExpUtility.getMatches(regex, text)).findFirst();
-        String strBefore = "";
+        return matchBegin(regex, text, 0, trim);
+    }
+
+    // Same as matchBegin(regex, text.substring(start), trim) without copying the suffix, except that lookbehinds and
+    // word boundaries see the text before start. The match is tried with lookingAt at start, or at each position of the
+    // leading whitespace when trimming, so it costs the length of the match. Its index is in text, not relative to start.
+    public static ConditionalMatch matchBegin(Pattern regex, String text, int start, boolean trim) {
+        int end = start;
+        while (trim && end < text.length() && text.charAt(end) <= ' ') {
+            end++;
+        }
 
-        if (match.isPresent()) {
-            strBefore = text.substring(0, match.get().index);
+        for (int index = start; index <= end; index++) {
+            Match match = RegExpUtility.getMatchAt(regex, text, index, text.length());
+            if (match != null) {
+                return new ConditionalMatch(Optional.of(match), true);
+            }
+        }
+
+        return new ConditionalMatch(Optional.empty(), false);
+    }
+
+    // Whether text[start, end) is empty, or only whitespace when trimming
+    private static boolean isBlank(String text, int start, int end, boolean trim) {
+        if (!trim) {
+            return start >= end;
+        }
 
-            if (trim) {
-                strBefore = strBefore.trim();
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) > ' ') {
+                return false;
             }
         }
 
-        return new ConditionalMatch(match, (match.isPresent() && StringUtility.isNullOrEmpty(strBefore)));
+        return true;
     }
 }
@@ -11,12 +11,14 @@ import com.microsoft.recognizers.text.Recognizer;
 import com.microsoft.recognizers.text.numberwithunit.extractors.BaseMergedUnitExtractor;
 import com.microsoft.recognizers.text.numberwithunit.extractors.NumberWithUnitExtractor;
 import com.microsoft.recognizers.text.numberwithunit.models.AgeModel;
+import com.microsoft.recognizers.text.numberwithunit.models.CombinedUnitModel;
 import com.microsoft.recognizers.text.numberwithunit.models.CurrencyModel;
 import com.microsoft.recognizers.text.numberwithunit.models.DimensionModel;
 import com.microsoft.recognizers.text.numberwithunit.models.TemperatureModel;
 import com.microsoft.recognizers.text.numberwithunit.parsers.BaseMergedUnitParser;
 import com.microsoft.recognizers.text.numberwithunit.parsers.NumberWithUnitParser;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
@@ -74,6 +76,14 @@ public class NumberWithUnitRecognizer extends Recognizer<NumberWithUnitOptions>
         return getModel(DimensionModel.class, culture, fallbackToDefaultCulture);
     }
 
+    public CombinedUnitModel getCombinedUnitModel() {
+        return getCombinedUnitModel(null, true);
+    }
+
+    public CombinedUnitModel getCombinedUnitModel(String culture, boolean fallbackToDefaultCulture) {
+        return getModel(CombinedUnitModel.class, culture, fallbackToDefaultCulture);
+    }
+
     //region Helper methods for less verbosity
     public static List<ModelResult> recognizeCurrency(String query, String culture) {
         return recognizeByModel(recognizer -> recognizer.getCurrencyModel(culture, true), query, NumberWithUnitOptions.None);
@@ -122,6 +132,18 @@ public class NumberWithUnitRecognizer extends Recognizer<NumberWithUnitOptions>
     public static List<ModelResult> recognizeDimension(String query, String culture, NumberWithUnitOptions options, boolean fallbackToDefaultCulture) {
         return recognizeByModel(recognizer -> recognizer.getDimensionModel(culture, fallbackToDefaultCulture), query, options);
     }
+
+    public static List<ModelResult> recognizeUnits(String query, String culture) {
+        return recognizeByModel(recognizer -> recognizer.getCombinedUnitModel(culture, true), query, NumberWithUnitOptions.None);
+    }
+
+    public static List<ModelResult> recognizeUnits(String query, String culture, NumberWithUnitOptions options) {
+        return recognizeByModel(recognizer -> recognizer.getCombinedUnitModel(culture, true), query, options);
+    }
+
+    public static List<ModelResult> recognizeUnits(String query, String culture, NumberWithUnitOptions options, boolean fallbackToDefaultCulture) {
+        return recognizeByModel(recognizer -> recognizer.getCombinedUnitModel(culture, fallbackToDefaultCulture), query, options);
+    }
     //endregion
 
     private static List<ModelResult> recognizeByModel(Function<NumberWithUnitRecognizer, IModel> getModelFun, String query, NumberWithUnitOptions options) {
@@ -255,5 +277,16 @@ public class NumberWithUnitRecognizer extends Recognizer<NumberWithUnitOptions>
                         new NumberWithUnitExtractor(new com.microsoft.recognizers.text.numberwithunit.english.extractors.AgeExtractorConfiguration()),
                         new NumberWithUnitParser(new com.microsoft.recognizers.text.numberwithunit.english.parsers.AgeParserConfiguration()))));
         //endregion
+
+        //region Combined units
+        for (String culture : Arrays.asList(Culture.English, Culture.Spanish, Culture.Portuguese, Culture.French, Culture.German, Culture.Chinese)) {
+            registerModel(CombinedUnitModel.class, culture, (options) ->
+                    new CombinedUnitModel(Arrays.asList(
+                            getCurrencyModel(culture, false),
+                            getDimensionModel(culture, false),
+                            getTemperatureModel(culture, false),
+                            getAgeModel(culture, false))));
+        }
+        //endregion
     }
 }
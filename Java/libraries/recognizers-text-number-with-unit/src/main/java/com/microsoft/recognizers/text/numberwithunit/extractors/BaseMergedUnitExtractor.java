@@ -5,8 +5,8 @@ package com.microsoft.recognizers.text.numberwithunit.extractors;
 
 import com.google.common.collect.Lists;
 import com.microsoft.recognizers.text.ExtractResult;
-import com.microsoft.recognizers.text.IExtractor;
 import com.microsoft.recognizers.text.numberwithunit.Constants;
+import com.microsoft.recognizers.text.numberwithunit.utilities.UnitLexicon;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -15,28 +15,46 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
-public class BaseMergedUnitExtractor implements IExtractor {
+public class BaseMergedUnitExtractor implements INumberWithUnitExtractor {
 
     private final INumberWithUnitExtractorConfiguration config;
+    private final NumberWithUnitExtractor numberWithUnitExtractor;
 
     public BaseMergedUnitExtractor(INumberWithUnitExtractorConfiguration config) {
         this.config = config;
+
+        // Unit lexicons are built once here and shared by all the queries, the extractor holds no per-query state.
+        this.numberWithUnitExtractor = new NumberWithUnitExtractor(config);
+    }
+
+    @Override
+    public List<UnitLexicon> getUnitLexicons() {
+        return numberWithUnitExtractor.getUnitLexicons();
     }
 
     @Override
     public List<ExtractResult> extract(String source) {
+        return extract(source, null);
+    }
+
+    @Override
+    public List<ExtractResult> extract(String source, UnitExtractionContext context) {
+        if (context != null && !source.equals(context.getSource())) {
+            context = null;
+        }
+
         // Only merge currency's compound units for now.
         if (config.getExtractType().equals(Constants.SYS_UNIT_CURRENCY)) {
-            return mergeCompoundUnits(source);
+            return mergeCompoundUnits(source, context);
         } else {
-            return new NumberWithUnitExtractor(config).extract(source);
+            return numberWithUnitExtractor.extract(source, context);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private List<ExtractResult> mergeCompoundUnits(String source) {
-        List<ExtractResult> ers = new NumberWithUnitExtractor(config).extract(source);
-        mergePureNumber(source, ers);
+    private List<ExtractResult> mergeCompoundUnits(String source, UnitExtractionContext context) {
+        List<ExtractResult> ers = numberWithUnitExtractor.extract(source, context);
+        mergePureNumber(source, ers, context);
 
         if (ers.size() == 0) {
             return ers;
@@ -127,9 +145,9 @@ public class BaseMergedUnitExtractor implements IExtractor {
         return result;
     }
 
-    private void mergePureNumber(String source, List<ExtractResult> ers) {
+    private void mergePureNumber(String source, List<ExtractResult> ers, UnitExtractionContext context) {
 
-        List<ExtractResult> numErs = config.getUnitNumExtractor().extract(source);
+        List<ExtractResult> numErs = context != null ? context.getNumbers(config.getUnitNumExtractor()) : config.getUnitNumExtractor().extract(source);
         List<ExtractResult> unitNumbers = new ArrayList<>();
         for (int i = 0, j = 0; i < numErs.size(); i++) {
             boolean hasBehindExtraction = false;
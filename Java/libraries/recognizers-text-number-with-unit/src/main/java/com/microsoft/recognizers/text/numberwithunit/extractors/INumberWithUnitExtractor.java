@@ -0,0 +1,21 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.numberwithunit.extractors;
+
+import com.microsoft.recognizers.text.ExtractResult;
+import com.microsoft.recognizers.text.IExtractor;
+import com.microsoft.recognizers.text.numberwithunit.utilities.UnitLexicon;
+
+import java.util.List;
+
+public interface INumberWithUnitExtractor extends IExtractor {
+
+    List<UnitLexicon> getUnitLexicons();
+
+    /**
+     * Same as extract(source), but takes the numbers and the unit scans of the source from a context
+     * shared with the other unit extractors running on the same query.
+     */
+    List<ExtractResult> extract(String source, UnitExtractionContext context);
+}
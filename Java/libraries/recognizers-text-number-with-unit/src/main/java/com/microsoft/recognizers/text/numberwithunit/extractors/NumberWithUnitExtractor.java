@@ -4,11 +4,11 @@
 package com.microsoft.recognizers.text.numberwithunit.extractors;
 
 import com.microsoft.recognizers.text.ExtractResult;
-import com.microsoft.recognizers.text.IExtractor;
 import com.microsoft.recognizers.text.numberwithunit.Constants;
 import com.microsoft.recognizers.text.numberwithunit.models.PrefixUnitResult;
 import com.microsoft.recognizers.text.numberwithunit.resources.BaseUnits;
 import com.microsoft.recognizers.text.numberwithunit.utilities.StringComparer;
+import com.microsoft.recognizers.text.numberwithunit.utilities.UnitLexicon;
 import com.microsoft.recognizers.text.utilities.Match;
 import com.microsoft.recognizers.text.utilities.QueryProcessor;
 import com.microsoft.recognizers.text.utilities.RegExpUtility;
@@ -23,17 +23,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-public class NumberWithUnitExtractor implements IExtractor {
+public class NumberWithUnitExtractor implements INumberWithUnitExtractor {
 
     private final INumberWithUnitExtractorConfiguration config;
 
-    private final Set<Pattern> suffixRegexes;
-    private final Set<Pattern> prefixRegexes;
+    private final UnitLexicon suffixLexicon;
+    private final UnitLexicon prefixLexicon;
 
     private final Pattern separateRegex;
     private final Pattern singleCharUnitRegex = Pattern.compile(BaseUnits.SingleCharUnitRegex, Pattern.UNICODE_CHARACTER_CLASS);
@@ -46,9 +45,9 @@ public class NumberWithUnitExtractor implements IExtractor {
         this.config = config;
 
         if (config.getSuffixList() != null && config.getSuffixList().size() > 0) {
-            suffixRegexes = buildRegexFromSet(this.config.getSuffixList().values());
+            suffixLexicon = buildLexiconFromSet(this.config.getSuffixList().values());
         } else {
-            suffixRegexes = new HashSet<>();
+            suffixLexicon = null;
         }
 
         int tempMaxPrefixMatchLen = 0;
@@ -63,19 +62,42 @@ public class NumberWithUnitExtractor implements IExtractor {
             // 2 is the maximum length of spaces.
             tempMaxPrefixMatchLen += 2;
             maxPrefixMatchLen = tempMaxPrefixMatchLen;
-            prefixRegexes = buildRegexFromSet(this.config.getPrefixList().values());
+            prefixLexicon = buildLexiconFromSet(this.config.getPrefixList().values());
         } else {
             maxPrefixMatchLen = 0;
-            prefixRegexes = new HashSet<>();
+            prefixLexicon = null;
         }
 
         separateRegex = buildSeparateRegexFromSet();
     }
 
+    @Override
+    public List<UnitLexicon> getUnitLexicons() {
+        List<UnitLexicon> lexicons = new ArrayList<>();
+        if (prefixLexicon != null) {
+            lexicons.add(prefixLexicon);
+        }
+
+        if (suffixLexicon != null) {
+            lexicons.add(suffixLexicon);
+        }
+
+        return lexicons;
+    }
+
     @Override
     public List<ExtractResult> extract(String source) {
+        return extract(source, null);
+    }
+
+    @Override
+    public List<ExtractResult> extract(String source, UnitExtractionContext context) {
         List<ExtractResult> result = new ArrayList<>();
 
+        if (context != null && !source.equals(context.getSource())) {
+            context = null;
+        }
+
         if (!preCheckStr(source)) {
             return result;
         }
@@ -83,25 +105,15 @@ public class NumberWithUnitExtractor implements IExtractor {
         Map<Integer, PrefixUnitResult> mappingPrefix = new HashMap<Integer, PrefixUnitResult>();
         boolean[] matched = new boolean[source.length()];
         Arrays.fill(matched, false);
-        List<ExtractResult> numbers = this.config.getUnitNumExtractor().extract(source);
+        List<ExtractResult> numbers = context != null ? context.getNumbers(this.config.getUnitNumExtractor()) : this.config.getUnitNumExtractor().extract(source);
         int sourceLen = source.length();
 
-        List<Matcher> prefixMatch = new ArrayList<Matcher>();
-        List<Matcher> suffixMatch = new ArrayList<Matcher>();
+        // Find all the prefix and suffix units in a single pass over the source
+        UnitLexicon.Scan prefixScan = scanUnits(prefixLexicon, source, context);
+        UnitLexicon.Scan suffixScan = scanUnits(suffixLexicon, source, context);
 
-        for (Pattern regex : prefixRegexes) {
-            Matcher match = regex.matcher(source);
-            if (match.find()) {
-                prefixMatch.add(match);
-            }
-        }
-
-        for (Pattern regex : suffixRegexes) {
-            Matcher match = regex.matcher(source);
-            if (match.find()) {
-                suffixMatch.add(match);
-            }
-        }
+        List<Match> prefixMatch = prefixScan != null ? prefixScan.firstMatches(0, sourceLen) : new ArrayList<>();
+        List<Match> suffixMatch = suffixScan != null ? suffixScan.firstMatches(0, sourceLen) : new ArrayList<>();
 
         if (numbers.size() > 0  && this.config.getExtractType() == Constants.SYS_UNIT_CURRENCY && prefixMatch.size() > 0 && suffixMatch.size() > 0) {
 
@@ -111,14 +123,14 @@ public class NumberWithUnitExtractor implements IExtractor {
                 Boolean numberPrefix = false;
                 Boolean numberSuffix = false;
 
-                for (Matcher match : prefixMatch) {
-                    if (match.end() == start) {
+                for (Match match : prefixMatch) {
+                    if (match.index + match.length == start) {
                         numberPrefix = true;
                     }
                 }
 
-                for (Matcher match : suffixMatch) {
-                    if (start + length == match.start()) {
+                for (Match match : suffixMatch) {
+                    if (start + length == match.index) {
                         numberSuffix = true;
                     }
                 }
@@ -129,6 +141,8 @@ public class NumberWithUnitExtractor implements IExtractor {
                 }
             }
             numbers = this.config.getUnitNumExtractor().extract(source);
+            prefixScan = prefixLexicon.scan(source);
+            suffixScan = suffixLexicon.scan(source);
         }
 
         /* Special case for cases where number multipliers clash with unit */
@@ -162,21 +176,18 @@ public class NumberWithUnitExtractor implements IExtractor {
                 String leftStr = source.substring(number.getStart() - maxFindPref, number.getStart());
                 int lastIndex = leftStr.length();
 
-                MatchResult bestMatch = null;
-                for (Pattern regex : prefixRegexes) {
-                    Matcher match = regex.matcher(leftStr);
-                    while (match.find()) {
-                        if (leftStr.substring(match.start(), lastIndex).trim().equals(match.group())) {
-                            if (bestMatch == null || bestMatch.start() >= match.start()) {
-                                bestMatch = match.toMatchResult();
-                            }
+                Match bestMatch = null;
+                for (Match match : prefixScan.matches(number.getStart() - maxFindPref, number.getStart())) {
+                    if (leftStr.substring(match.index, lastIndex).trim().equals(match.value)) {
+                        if (bestMatch == null || bestMatch.index >= match.index) {
+                            bestMatch = match;
                         }
                     }
                 }
 
                 if (bestMatch != null) {
-                    int offset = lastIndex - bestMatch.start();
-                    String unitStr = leftStr.substring(bestMatch.start(), lastIndex);
+                    int offset = lastIndex - bestMatch.index;
+                    String unitStr = leftStr.substring(bestMatch.index, lastIndex);
                     mappingPrefix.put(number.getStart(), new PrefixUnitResult(offset, unitStr));
                 }
             }
@@ -196,21 +207,15 @@ public class NumberWithUnitExtractor implements IExtractor {
                 prefixUnit = mappingPrefix.get(start);
             }
 
-            if (maxFindLen > 0) {
+            if (maxFindLen > 0 && suffixScan != null) {
                 String rightSub = source.substring(start + length, start + length + maxFindLen);
-                List<Matcher> unitMatch = suffixRegexes.stream().map(p -> p.matcher(rightSub)).collect(Collectors.toList());
 
                 int maxlen = 0;
-                for (int i = 0; i < unitMatch.size(); i++) {
-                    Matcher m = unitMatch.get(i);
-                    while (m.find()) {
-                        int endpos = m.end();
-                        if (m.start() >= 0) {
-                            String midStr = rightSub.substring(0, Math.min(m.start(), rightSub.length()));
-                            if (maxlen < endpos && (midStr.trim().isEmpty() || midStr.trim().equalsIgnoreCase(this.config.getConnectorToken()))) {
-                                maxlen = endpos;
-                            }
-                        }
+                for (Match m : suffixScan.matches(start + length, start + length + maxFindLen)) {
+                    int endpos = m.index + m.length;
+                    String midStr = rightSub.substring(0, Math.min(m.index, rightSub.length()));
+                    if (maxlen < endpos && (midStr.trim().isEmpty() || midStr.trim().equalsIgnoreCase(this.config.getConnectorToken()))) {
+                        maxlen = endpos;
                     }
                 }
 
@@ -341,49 +346,20 @@ public class NumberWithUnitExtractor implements IExtractor {
         return str != null && !str.isEmpty();
     }
 
-    protected Set<Pattern> buildRegexFromSet(Collection<String> values) {
-        return buildRegexFromSet(values, false);
-    }
-
-    protected Set<Pattern> buildRegexFromSet(Collection<String> collection, boolean ignoreCase) {
-
-        Set<Pattern> regexes = new HashSet<>();
-        for (String regexString : collection) {
-            List<String> regexTokens = new ArrayList<>();
-            for (String token : QueryProcessor.split(regexString, Arrays.asList("|"))) {
-                regexTokens.add(Pattern.quote(token));
-            }
-
-            String pattern = String.format(
-                    "%s(%s)%s",
-                    this.config.getBuildPrefix(),
-                    String.join("|", regexTokens),
-                    this.config.getBuildSuffix());
-
-            pattern += getRegexWithBrackets(String.format("(%s)", String.join("|", regexTokens)));
-
-            int options = Pattern.UNICODE_CHARACTER_CLASS | (ignoreCase ? Pattern.CASE_INSENSITIVE : 0);
-
-            Pattern regex = Pattern.compile(pattern, options);
-            regexes.add(regex);
+    private UnitLexicon.Scan scanUnits(UnitLexicon lexicon, String source, UnitExtractionContext context) {
+        if (lexicon == null) {
+            return null;
         }
 
-        return regexes;
+        return context != null ? context.getUnitScan(lexicon) : lexicon.scan(source);
     }
 
-    protected String getRegexWithBrackets(String regex) { 
-        String result = "";
-        String[] openingBrackets = new String[] {"(\\()", "(\\[)", "(\\{)", "(\\<)"};
-        String[] closingBrackets = new String[] {"(\\))", "(\\])", "(\\})", "(\\>)"};
-        int i = 0;
-        while (i < 4) {
-            result += "|";
-            result += openingBrackets[i];
-            result += regex;
-            result += closingBrackets[i];
-            i++;
-        }
-        return result;
+    protected UnitLexicon buildLexiconFromSet(Collection<String> values) {
+        return buildLexiconFromSet(values, false);
+    }
+
+    protected UnitLexicon buildLexiconFromSet(Collection<String> collection, boolean ignoreCase) {
+        return new UnitLexicon(collection, this.config.getBuildPrefix(), this.config.getBuildSuffix(), ignoreCase);
     }
 
     protected Pattern buildSeparateRegexFromSet() {
@@ -0,0 +1,50 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.numberwithunit.extractors;
+
+import com.microsoft.recognizers.text.ExtractResult;
+import com.microsoft.recognizers.text.IExtractor;
+import com.microsoft.recognizers.text.numberwithunit.utilities.CombinedUnitLexicon;
+import com.microsoft.recognizers.text.numberwithunit.utilities.UnitLexicon;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per query state shared by several unit extractors, so that the numbers and the units
+ * of the query are only looked up once. Not thread-safe, create one for each query.
+ */
+public class UnitExtractionContext {
+
+    private final String source;
+    private final CombinedUnitLexicon.Scan unitScan;
+    private final Map<IExtractor, List<ExtractResult>> numbers = new IdentityHashMap<>();
+
+    public UnitExtractionContext(String source, CombinedUnitLexicon unitLexicon) {
+        this.source = source;
+        this.unitScan = unitLexicon.scan(source);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public List<ExtractResult> getNumbers(IExtractor numberExtractor) {
+        List<ExtractResult> extracted = numbers.computeIfAbsent(numberExtractor, e -> e.extract(source));
+
+        // Unit extractors update number results in place, so each of them gets its own copies
+        List<ExtractResult> result = new ArrayList<>();
+        for (ExtractResult er : extracted) {
+            result.add(new ExtractResult(er.getStart(), er.getLength(), er.getText(), er.getType(), er.getData(), er.getMetadata()));
+        }
+
+        return result;
+    }
+
+    public UnitLexicon.Scan getUnitScan(UnitLexicon lexicon) {
+        return unitScan.get(lexicon);
+    }
+}
@@ -10,6 +10,9 @@ import com.microsoft.recognizers.text.IParser;
 import com.microsoft.recognizers.text.ModelResult;
 import com.microsoft.recognizers.text.ParseResult;
 import com.microsoft.recognizers.text.ResolutionKey;
+import com.microsoft.recognizers.text.numberwithunit.extractors.INumberWithUnitExtractor;
+import com.microsoft.recognizers.text.numberwithunit.extractors.UnitExtractionContext;
+import com.microsoft.recognizers.text.numberwithunit.utilities.UnitLexicon;
 import com.microsoft.recognizers.text.utilities.QueryProcessor;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,12 +35,21 @@ public abstract class AbstractNumberWithUnitModel implements IModel {
         this.extractorParserMap = extractorParserMap;
     }
 
-    @SuppressWarnings("unchecked")
     public List<ModelResult> parse(String query) {
 
         // Pre-process the query
         query = QueryProcessor.preprocess(query, true);
 
+        return parse(query, null);
+    }
+
+    /**
+     * Parses an already pre-processed query. When a context is given, the numbers and units of the query
+     * are looked up through it so that they are shared with the other models parsing the same query.
+     */
+    @SuppressWarnings("unchecked")
+    List<ModelResult> parse(String query, UnitExtractionContext context) {
+
         List<ModelResult> extractionResults = new ArrayList<ModelResult>();
 
         try {
@@ -45,7 +57,9 @@ public abstract class AbstractNumberWithUnitModel implements IModel {
                 IExtractor extractor = kv.getKey();
                 IParser parser = kv.getValue();
 
-                List<ExtractResult> extractedResults = extractor.extract(query);
+                List<ExtractResult> extractedResults = context != null && extractor instanceof INumberWithUnitExtractor ?
+                        ((INumberWithUnitExtractor)extractor).extract(query, context) :
+                        extractor.extract(query);
 
                 List<ParseResult> parsedResults = new ArrayList<ParseResult>();
 
@@ -103,4 +117,15 @@ public abstract class AbstractNumberWithUnitModel implements IModel {
 
         return extractionResults;
     }
+
+    List<UnitLexicon> getUnitLexicons() {
+        List<UnitLexicon> lexicons = new ArrayList<>();
+        for (IExtractor extractor : extractorParserMap.keySet()) {
+            if (extractor instanceof INumberWithUnitExtractor) {
+                lexicons.addAll(((INumberWithUnitExtractor)extractor).getUnitLexicons());
+            }
+        }
+
+        return lexicons;
+    }
 }
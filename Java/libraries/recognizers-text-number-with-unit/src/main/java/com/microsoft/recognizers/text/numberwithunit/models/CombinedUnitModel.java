@@ -0,0 +1,62 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.numberwithunit.models;
+
+import com.microsoft.recognizers.text.IModel;
+import com.microsoft.recognizers.text.ModelResult;
+import com.microsoft.recognizers.text.numberwithunit.extractors.UnitExtractionContext;
+import com.microsoft.recognizers.text.numberwithunit.utilities.CombinedUnitLexicon;
+import com.microsoft.recognizers.text.numberwithunit.utilities.UnitLexicon;
+import com.microsoft.recognizers.text.utilities.QueryProcessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Recognizes the units of several models (currency, dimension, temperature, age...) in one pass:
+ * the query is pre-processed and its numbers are extracted once, and the units of all the models
+ * are scanned by a combined lexicon. Results are the ones of each model, in the order of the models.
+ */
+public class CombinedUnitModel implements IModel {
+
+    private final List<AbstractNumberWithUnitModel> models;
+    private final CombinedUnitLexicon unitLexicon;
+
+    public CombinedUnitModel(List<AbstractNumberWithUnitModel> models) {
+        this.models = Collections.unmodifiableList(new ArrayList<>(models));
+
+        List<UnitLexicon> lexicons = new ArrayList<>();
+        for (AbstractNumberWithUnitModel model : this.models) {
+            lexicons.addAll(model.getUnitLexicons());
+        }
+
+        this.unitLexicon = new CombinedUnitLexicon(lexicons);
+    }
+
+    public List<AbstractNumberWithUnitModel> getModels() {
+        return this.models;
+    }
+
+    @Override
+    public String getModelTypeName() {
+        return "unit";
+    }
+
+    @Override
+    public List<ModelResult> parse(String query) {
+
+        // Pre-process the query
+        query = QueryProcessor.preprocess(query, true);
+
+        UnitExtractionContext context = new UnitExtractionContext(query, unitLexicon);
+
+        List<ModelResult> results = new ArrayList<>();
+        for (AbstractNumberWithUnitModel model : models) {
+            results.addAll(model.parse(query, context));
+        }
+
+        return results;
+    }
+}
@@ -12,17 +12,19 @@ public class BaseMergedUnitParser implements IParser {
 
     protected final BaseNumberWithUnitParserConfiguration config;
     private final NumberWithUnitParser numberWithUnitParser;
+    private final BaseCurrencyParser currencyParser;
 
     public BaseMergedUnitParser(BaseNumberWithUnitParserConfiguration config) {
         this.config = config;
         this.numberWithUnitParser = new NumberWithUnitParser(config);
+        this.currencyParser = new BaseCurrencyParser(config);
     }
 
     @Override
     public ParseResult parse(ExtractResult extResult) {
         // For now only currency model recognizes compound units.
         if (extResult.getType().equals(Constants.SYS_UNIT_CURRENCY)) {
-            return new BaseCurrencyParser(config).parse(extResult);
+            return currencyParser.parse(extResult);
         } else {
             return numberWithUnitParser.parse(extResult);
         }
@@ -0,0 +1,87 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.numberwithunit.utilities;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scans the units of several lexicons at once. Lexicons sharing the same boundaries
+ * (usually all the unit types of a culture) are merged into a single automaton.
+ */
+public class CombinedUnitLexicon {
+
+    private final List<UnitLexicon> mergedLexicons = new ArrayList<>();
+
+    // For each lexicon: {index of the merged lexicon, first entry, last entry + 1}
+    private final Map<UnitLexicon, int[]> parts = new IdentityHashMap<>();
+
+    public CombinedUnitLexicon(Collection<UnitLexicon> lexicons) {
+        List<List<UnitLexicon>> groups = new ArrayList<>();
+        Map<UnitLexicon, Boolean> seen = new IdentityHashMap<>();
+
+        for (UnitLexicon lexicon : lexicons) {
+            if (seen.put(lexicon, true) != null) {
+                continue;
+            }
+
+            List<UnitLexicon> group = groups.stream()
+                    .filter(g -> g.get(0).hasSameBoundaries(lexicon))
+                    .findFirst()
+                    .orElse(null);
+
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.add(group);
+            }
+
+            group.add(lexicon);
+        }
+
+        for (List<UnitLexicon> group : groups) {
+            int offset = 0;
+            for (UnitLexicon lexicon : group) {
+                parts.put(lexicon, new int[]{mergedLexicons.size(), offset, offset + lexicon.size()});
+                offset += lexicon.size();
+            }
+
+            mergedLexicons.add(UnitLexicon.merge(group));
+        }
+    }
+
+    public Scan scan(String text) {
+        return new Scan(text);
+    }
+
+    public final class Scan {
+        private final String text;
+        private final UnitLexicon.Scan[] mergedScans;
+        private final Map<UnitLexicon, UnitLexicon.Scan> otherScans = new IdentityHashMap<>();
+
+        private Scan(String text) {
+            this.text = text;
+            this.mergedScans = new UnitLexicon.Scan[mergedLexicons.size()];
+        }
+
+        /**
+         * Gets the scan of the text for one of the lexicons, as UnitLexicon.scan(text) would return it.
+         * Each merged automaton runs at most once over the text.
+         */
+        public UnitLexicon.Scan get(UnitLexicon lexicon) {
+            int[] part = parts.get(lexicon);
+            if (part == null) {
+                return otherScans.computeIfAbsent(lexicon, l -> l.scan(text));
+            }
+
+            if (mergedScans[part[0]] == null) {
+                mergedScans[part[0]] = mergedLexicons.get(part[0]).scan(text);
+            }
+
+            return mergedScans[part[0]].part(part[1], part[2]);
+        }
+    }
+}
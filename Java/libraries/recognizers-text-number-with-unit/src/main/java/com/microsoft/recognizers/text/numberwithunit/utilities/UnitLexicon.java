@@ -0,0 +1,491 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.numberwithunit.utilities;
+
+import com.microsoft.recognizers.text.utilities.Match;
+import com.microsoft.recognizers.text.utilities.QueryProcessor;
+import com.microsoft.recognizers.text.utilities.StringUtility;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Multi-string automaton over all the units of a prefix or suffix list.
+ * Every entry of the list (a set of '|' separated tokens) behaves exactly like the regex
+ * "buildPrefix(t1|t2|...)buildSuffix|\((t1|t2|...)\)|\[...\]|\{...\}|\<...\>",
+ * but all the entries are scanned at once in a single pass over the text.
+ */
+public class UnitLexicon {
+
+    private static final String OPENING_BRACKETS = "([{<";
+    private static final String CLOSING_BRACKETS = ")]}>";
+
+    private static final List<String> SEPARATORS = Arrays.asList("|");
+
+    private final List<String> values;
+    private final String buildPrefix;
+    private final String buildSuffix;
+    private final boolean ignoreCase;
+    private final Pattern prefixBoundary;
+    private final Pattern suffixBoundary;
+
+    private final State root = new State();
+
+    private final int[] tokenLengths;
+
+    // For each token, the (entry, position of the token within the entry) pairs it belongs to
+    private final int[][] tokenEntries;
+
+    private final int entryCount;
+
+    public UnitLexicon(Collection<String> values, String buildPrefix, String buildSuffix) {
+        this(values, buildPrefix, buildSuffix, false);
+    }
+
+    public UnitLexicon(Collection<String> values, String buildPrefix, String buildSuffix, boolean ignoreCase) {
+        this.values = new ArrayList<>(values);
+        this.buildPrefix = buildPrefix;
+        this.buildSuffix = buildSuffix;
+        this.ignoreCase = ignoreCase;
+
+        int options = Pattern.UNICODE_CHARACTER_CLASS | (ignoreCase ? Pattern.CASE_INSENSITIVE : 0);
+        this.prefixBoundary = StringUtility.isNullOrEmpty(buildPrefix) ? null : Pattern.compile(buildPrefix, options);
+        this.suffixBoundary = StringUtility.isNullOrEmpty(buildSuffix) ? null : Pattern.compile(buildSuffix, options);
+
+        Map<String, Integer> tokenIds = new LinkedHashMap<>();
+        List<List<int[]>> entriesByToken = new ArrayList<>();
+
+        int entry = 0;
+        for (String value : values) {
+            int order = 0;
+            for (String token : QueryProcessor.split(value, SEPARATORS)) {
+                String key = fold(token);
+                Integer id = tokenIds.get(key);
+                if (id == null) {
+                    id = tokenIds.size();
+                    tokenIds.put(key, id);
+                    entriesByToken.add(new ArrayList<>());
+                }
+
+                entriesByToken.get(id).add(new int[]{entry, order++});
+            }
+
+            entry++;
+        }
+
+        this.entryCount = entry;
+        this.tokenLengths = new int[tokenIds.size()];
+        this.tokenEntries = new int[tokenIds.size()][];
+
+        for (Map.Entry<String, Integer> token : tokenIds.entrySet()) {
+            int id = token.getValue();
+            List<int[]> pairs = entriesByToken.get(id);
+
+            tokenLengths[id] = token.getKey().length();
+            tokenEntries[id] = new int[pairs.size() * 2];
+            for (int i = 0; i < pairs.size(); i++) {
+                tokenEntries[id][i * 2] = pairs.get(i)[0];
+                tokenEntries[id][i * 2 + 1] = pairs.get(i)[1];
+            }
+
+            insert(token.getKey(), id);
+        }
+
+        buildFailureLinks();
+    }
+
+    public int size() {
+        return entryCount;
+    }
+
+    /**
+     * Two lexicons with the same boundaries can be merged into a single automaton.
+     */
+    boolean hasSameBoundaries(UnitLexicon other) {
+        return ignoreCase == other.ignoreCase &&
+                Objects.equals(buildPrefix, other.buildPrefix) &&
+                Objects.equals(buildSuffix, other.buildSuffix);
+    }
+
+    /**
+     * Builds a single lexicon holding the entries of all the given lexicons, in order.
+     * All of them must have the same boundaries.
+     */
+    static UnitLexicon merge(List<UnitLexicon> lexicons) {
+        UnitLexicon first = lexicons.get(0);
+        List<String> mergedValues = new ArrayList<>();
+        for (UnitLexicon lexicon : lexicons) {
+            if (!lexicon.hasSameBoundaries(first)) {
+                throw new IllegalArgumentException("Only lexicons with the same boundaries can be merged.");
+            }
+
+            mergedValues.addAll(lexicon.values);
+        }
+
+        return new UnitLexicon(mergedValues, first.buildPrefix, first.buildSuffix, first.ignoreCase);
+    }
+
+    /**
+     * Gets all the matches each entry would report through successive Matcher.find() calls.
+     */
+    public List<Match> matches(String text) {
+        return scan(text).matches(0, text.length());
+    }
+
+    /**
+     * Gets the first (leftmost) match of each entry, as a single Matcher.find() call would report.
+     */
+    public List<Match> firstMatches(String text) {
+        return scan(text).firstMatches(0, text.length());
+    }
+
+    /**
+     * Runs the automaton once over the text. The returned scan can then answer queries
+     * on any substring of the text without scanning it again.
+     */
+    public Scan scan(String text) {
+        // Each hit is {entry, start, order, length}
+        List<int[]> hits = new ArrayList<>();
+        State state = root;
+        for (int i = 0; text != null && i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            while (state != root && !state.next.containsKey(c)) {
+                state = state.fail;
+            }
+
+            State next = state.next.get(c);
+            state = next != null ? next : root;
+
+            for (State out = state.token >= 0 ? state : state.output; out != null; out = out.output) {
+                int length = tokenLengths[out.token];
+                int[] pairs = tokenEntries[out.token];
+                for (int k = 0; k < pairs.length; k += 2) {
+                    hits.add(new int[]{pairs[k], i - length + 1, pairs[k + 1], length});
+                }
+            }
+        }
+
+        hits.sort(HIT_ORDER);
+
+        return new Scan(text, hits);
+    }
+
+    public final class Scan {
+        private final String text;
+        private final List<int[]> hits;
+
+        private Scan(String text, List<int[]> hits) {
+            this.text = text;
+            this.hits = hits;
+        }
+
+        /**
+         * Restricts the scan to the entries in [fromEntry, toEntry).
+         */
+        Scan part(int fromEntry, int toEntry) {
+            int low = firstHitOfEntry(fromEntry);
+            int high = firstHitOfEntry(toEntry);
+            return new Scan(text, hits.subList(low, high));
+        }
+
+        private int firstHitOfEntry(int entry) {
+            int low = 0;
+            int high = hits.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (hits.get(mid)[0] < entry) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+
+        /**
+         * Same as UnitLexicon.matches(text.substring(from, to)), indexes are relative to from.
+         */
+        public List<Match> matches(int from, int to) {
+            return match(from, to, false);
+        }
+
+        /**
+         * Same as UnitLexicon.firstMatches(text.substring(from, to)), indexes are relative to from.
+         */
+        public List<Match> firstMatches(int from, int to) {
+            return match(from, to, true);
+        }
+
+        private List<Match> match(int from, int to, boolean firstOnly) {
+            List<Match> result = new ArrayList<>();
+            if (hits.isEmpty() || from >= to) {
+                return result;
+            }
+
+            CharSequence window = from == 0 && to == text.length() ? text : new Window(text, from, to);
+            BoundaryChecker boundaries = new BoundaryChecker(window);
+
+            List<int[]> entryHits = new ArrayList<>();
+            for (int i = 0; i < hits.size(); i++) {
+                int[] hit = hits.get(i);
+                if (hit[1] >= from && hit[1] + hit[3] <= to) {
+                    entryHits.add(hit);
+                }
+
+                if (i + 1 == hits.size() || hits.get(i + 1)[0] != hit[0]) {
+                    if (!entryHits.isEmpty()) {
+                        matchEntry(window, from, entryHits, boundaries, firstOnly, result);
+                        entryHits.clear();
+                    }
+                }
+            }
+
+            return result;
+        }
+    }
+
+    private void matchEntry(CharSequence window, int offset, List<int[]> hits, BoundaryChecker boundaries, boolean firstOnly, List<Match> result) {
+        // A match can start on a token or on the bracket right before it
+        List<Integer> candidates = new ArrayList<>();
+        int last = -1;
+        for (int[] hit : hits) {
+            int start = hit[1] - offset;
+            if (start > 0 && OPENING_BRACKETS.indexOf(window.charAt(start - 1)) >= 0 && start - 1 > last) {
+                candidates.add(start - 1);
+                last = start - 1;
+            }
+
+            if (start > last) {
+                candidates.add(start);
+                last = start;
+            }
+        }
+
+        int cursor = 0;
+        for (int start : candidates) {
+            if (start < cursor) {
+                continue;
+            }
+
+            int end = -1;
+
+            int group = indexOfStart(hits, start + offset);
+            if (group >= 0 && boundaries.prefixAt(start)) {
+                for (int i = group; i < hits.size() && hits.get(i)[1] == start + offset; i++) {
+                    if (boundaries.suffixAt(start + hits.get(i)[3])) {
+                        end = start + hits.get(i)[3];
+                        break;
+                    }
+                }
+            }
+
+            int bracket = OPENING_BRACKETS.indexOf(window.charAt(start));
+            if (end < 0 && bracket >= 0) {
+                group = indexOfStart(hits, start + offset + 1);
+                for (int i = group; group >= 0 && i < hits.size() && hits.get(i)[1] == start + offset + 1; i++) {
+                    int close = start + 1 + hits.get(i)[3];
+                    if (close < window.length() && window.charAt(close) == CLOSING_BRACKETS.charAt(bracket)) {
+                        end = close + 1;
+                        break;
+                    }
+                }
+            }
+
+            if (end >= 0) {
+                result.add(new Match(start, end - start, window.subSequence(start, end).toString(), Collections.emptyMap()));
+                if (firstOnly) {
+                    break;
+                }
+
+                cursor = end;
+            }
+        }
+    }
+
+    private static int indexOfStart(List<int[]> hits, int start) {
+        int low = 0;
+        int high = hits.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (hits.get(mid)[1] < start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low < hits.size() && hits.get(low)[1] == start ? low : -1;
+    }
+
+    private void insert(String token, int id) {
+        State state = root;
+        for (int i = 0; i < token.length(); i++) {
+            state = state.next.computeIfAbsent(token.charAt(i), c -> new State());
+        }
+
+        state.token = id;
+    }
+
+    private void buildFailureLinks() {
+        Queue<State> queue = new ArrayDeque<>();
+        for (State child : root.next.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            State state = queue.poll();
+            for (Map.Entry<Character, State> edge : state.next.entrySet()) {
+                State child = edge.getValue();
+                State fail = state.fail;
+                while (fail != root && !fail.next.containsKey(edge.getKey())) {
+                    fail = fail.fail;
+                }
+
+                State target = fail.next.get(edge.getKey());
+                child.fail = target != null && target != child ? target : root;
+                child.output = child.fail.token >= 0 ? child.fail : child.fail.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    private String fold(String token) {
+        if (!ignoreCase) {
+            return token;
+        }
+
+        char[] chars = token.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+
+        return new String(chars);
+    }
+
+    private char fold(char c) {
+        return ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+    }
+
+    private static final Comparator<int[]> HIT_ORDER = (a, b) -> {
+        if (a[0] != b[0]) {
+            return Integer.compare(a[0], b[0]);
+        }
+
+        if (a[1] != b[1]) {
+            return Integer.compare(a[1], b[1]);
+        }
+
+        return Integer.compare(a[2], b[2]);
+    };
+
+    /**
+     * A view over a part of a string, so that lookarounds can't see beyond it (as on a substring) without copying it.
+     */
+    private static final class Window implements CharSequence {
+        private final String text;
+        private final int start;
+        private final int end;
+
+        private Window(String text, int start, int end) {
+            this.text = text;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return text.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return text.substring(start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            return text.substring(start, end);
+        }
+    }
+
+    private static final class State {
+        private final Map<Character, State> next = new HashMap<>();
+        private State fail;
+        private State output;
+        private int token = -1;
+    }
+
+    /**
+     * Lazily evaluates, and remembers, the prefix / suffix lookarounds at each position of the text.
+     */
+    private final class BoundaryChecker {
+        private final CharSequence text;
+        private final byte[] prefixes;
+        private final byte[] suffixes;
+        private Matcher prefixMatcher;
+        private Matcher suffixMatcher;
+
+        private BoundaryChecker(CharSequence text) {
+            this.text = text;
+            this.prefixes = new byte[text.length() + 1];
+            this.suffixes = new byte[text.length() + 1];
+        }
+
+        private boolean prefixAt(int index) {
+            if (prefixBoundary == null) {
+                return true;
+            }
+
+            if (prefixes[index] == 0) {
+                if (prefixMatcher == null) {
+                    prefixMatcher = prefixBoundary.matcher(text).useTransparentBounds(true).useAnchoringBounds(false);
+                }
+
+                prefixes[index] = lookingAt(prefixMatcher, index);
+            }
+
+            return prefixes[index] == 1;
+        }
+
+        private boolean suffixAt(int index) {
+            if (suffixBoundary == null) {
+                return true;
+            }
+
+            if (suffixes[index] == 0) {
+                if (suffixMatcher == null) {
+                    suffixMatcher = suffixBoundary.matcher(text).useTransparentBounds(true).useAnchoringBounds(false);
+                }
+
+                suffixes[index] = lookingAt(suffixMatcher, index);
+            }
+
+            return suffixes[index] == 1;
+        }
+
+        private byte lookingAt(Matcher matcher, int index) {
+            matcher.region(index, text.length());
+            return (byte)(matcher.lookingAt() ? 1 : 2);
+        }
+    }
+}
@@ -3,7 +3,6 @@
 
 package com.microsoft.recognizers.text.number.parsers;
 
-import com.microsoft.recognizers.text.CultureInfo;
 import com.microsoft.recognizers.text.ExtractResult;
 import com.microsoft.recognizers.text.IParser;
 import com.microsoft.recognizers.text.Metadata;
@@ -27,6 +26,12 @@ import org.apache.commons.lang3.StringUtils;
 
 public class BaseNumberParser implements IParser {
 
+    // @TODO: Add this to project level configuration file to be kept in sync
+    // Special cases for multi-language countries where decimal separators can be used interchangeably. Mostly informally.
+    // Ex: South Africa, Namibia; Puerto Rico in ES; or in Canada for EN and FR.
+    // "me pidio $5.00 prestados" and "me pidio $5,00 prestados" -> currency $5
+    private static final Pattern InterchangeableSeparatorsCultureRegex = Pattern.compile("^(en|es|fr)(-)?\\b", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CHARACTER_CLASS);
+
     protected final INumberParserConfiguration config;
 
     protected final Pattern textNumberRegex;
@@ -35,6 +40,8 @@ public class BaseNumberParser implements IParser {
 
     protected final Set<String> roundNumberSet;
 
+    private final boolean interchangeableSeparators;
+
     protected Optional<List<String>> supportedTypes = Optional.empty();
 
     public void setSupportedTypes(List<String> types) {
@@ -58,6 +65,8 @@ public class BaseNumberParser implements IParser {
         this.longFormatRegex = Pattern.compile("\\d+", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CHARACTER_CLASS);
 
         this.roundNumberSet = new HashSet<>(config.getRoundNumberMap().keySet());
+
+        this.interchangeableSeparators = InterchangeableSeparatorsCultureRegex.matcher(config.getCultureInfo().cultureCode).find();
     }
 
     @Override
@@ -149,6 +158,13 @@ public class BaseNumberParser implements IParser {
         Metadata metadata = extractResult.getMetadata() != null ? extractResult.getMetadata() : new Metadata();
         result.setMetadata(metadata);
 
+        // Most numbers are plain digits, which need neither the multiplier lookup nor the generic digit parsing
+        Double plainValue = getPlainDigitsValue(extractResult.getText());
+        if (plainValue != null) {
+            result.setValue(plainValue);
+            return result;
+        }
+
         //[1] 24
         //[2] 12 32/33
         //[3] 1,000,000
@@ -429,16 +445,50 @@ public class BaseNumberParser implements IParser {
         return String.join("|", keys);
     }
 
-    private boolean skipNonDecimalSeparator(char ch, int distance, CultureInfo culture) {
+    private boolean skipNonDecimalSeparator(char ch, int distance) {
         int decimalLength = 3;
 
-        // @TODO: Add this to project level configuration file to be kept in sync
-        // Special cases for multi-language countries where decimal separators can be used interchangeably. Mostly informally.
-        // Ex: South Africa, Namibia; Puerto Rico in ES; or in Canada for EN and FR.
-        // "me pidio $5.00 prestados" and "me pidio $5,00 prestados" -> currency $5
-        Pattern cultureRegex = Pattern.compile("^(en|es|fr)(-)?\\b", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CHARACTER_CLASS);
+        return (ch == config.getNonDecimalSeparatorChar() && !(distance <= decimalLength && interchangeableSeparators));
+    }
+
+    /**
+     * Gets the value of a text made only of digits and separators (e.g. "12,345.67") without going through
+     * regexes or intermediate strings. The arithmetic is the one of getDigitalValue, so are the values.
+     *
+     * @param digitsStr input text
+     * @return the value, or null if the text holds anything else than digits and separators
+     */
+    private Double getPlainDigitsValue(String digitsStr) {
+        char decimalSeparatorChar = config.getDecimalSeparatorChar();
+        char nonDecimalSeparatorChar = config.getNonDecimalSeparatorChar();
+        int strLength = digitsStr.length();
+        double temp = 0;
+        double scale = 10;
+        boolean decimalSeparator = false;
+        boolean hasDigits = false;
+
+        for (int i = 0; i < strLength; i++) {
+            char ch = digitsStr.charAt(i);
+
+            if (ch >= '0' && ch <= '9') {
+                hasDigits = true;
+                if (decimalSeparator) {
+                    temp = temp + scale * (ch - '0');
+                    scale *= 0.1;
+                } else {
+                    temp = temp * scale + (ch - '0');
+                }
+            } else if (ch == nonDecimalSeparatorChar && skipNonDecimalSeparator(ch, strLength - i)) {
+                continue;
+            } else if (ch == decimalSeparatorChar || ch == nonDecimalSeparatorChar) {
+                decimalSeparator = true;
+                scale = 0.1;
+            } else {
+                return null;
+            }
+        }
 
-        return (ch == config.getNonDecimalSeparatorChar() && !(distance <= decimalLength && cultureRegex.matcher(culture.cultureCode).find()));
+        return hasDigits ? temp : null;
     }
 
     protected double getDigitalValue(String digitsStr, double power) {
@@ -454,7 +504,7 @@ public class BaseNumberParser implements IParser {
         for (int i = 0; i < digitsStr.length(); i++) {
 
             char ch = digitsStr.charAt(i);
-            boolean skippableNonDecimal = skipNonDecimalSeparator(ch, strLength - i, config.getCultureInfo());
+            boolean skippableNonDecimal = skipNonDecimalSeparator(ch, strLength - i);
 
             if (!isFrac && (ch == ' ' || ch == Constants.NO_BREAK_SPACE || skippableNonDecimal)) {
                 continue;
@@ -22,6 +22,14 @@ public final class NumberFormatUtility {
 
     private static final Map<String, LongFormatType> supportedCultures;
 
+    // Resolution values are rounded to 15 significant digits
+    private static final long MaxSignificantDigitsValue = 999_999_999_999_999L;
+
+    // Powers of ten exactly representable as doubles, enough to scale 1E-4 up to 15 digits
+    private static final double[] PowersOfTen = {
+        1E0, 1E1, 1E2, 1E3, 1E4, 1E5, 1E6, 1E7, 1E8, 1E9, 1E10, 1E11, 1E12, 1E13, 1E14, 1E15, 1E16, 1E17, 1E18
+    };
+
     static {
         supportedCultures = new HashMap<>();
         supportedCultures.put(Culture.English, LongFormatType.DoubleNumCommaDot);
@@ -36,7 +44,10 @@ public final class NumberFormatUtility {
     public static String format(Object value, CultureInfo culture) {
 
         Double doubleValue = (Double)value;
-        String result;
+        String result = formatShortest(doubleValue, getDecimalsMark(culture));
+        if (result != null) {
+            return result;
+        }
 
         // EXPONENTIAL_AT: [-5, 15] });
         // For small positive decimal places. E.g.: 0,000015 or 0,0000015 -> 1.5E-05 or 1.5E-06
@@ -70,26 +81,90 @@ public final class NumberFormatUtility {
             result = QueryProcessor.trimEnd(result, ".");
         }
 
-        if (supportedCultures.containsKey(culture.cultureCode)) {
-            LongFormatType longFormat = supportedCultures.get(culture.cultureCode);
-            if (longFormat != null) {
-                Character[] chars = result.chars().mapToObj(i -> (char)i)
-                        .map(c -> changeMark(c, longFormat))
-                        .toArray(Character[]::new);
+        LongFormatType longFormat = supportedCultures.get(culture.cultureCode);
+        if (longFormat != null) {
+            char[] chars = result.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = changeMark(chars[i], longFormat);
+            }
+
+            result = new String(chars);
+        }
 
-                StringBuilder sb = new StringBuilder(chars.length);
-                for (Character c : chars) {
-                    sb.append(c.charValue());
-                }
+        return result;
+    }
+
+    /**
+     * Formats the values that have a representation of at most 15 significant digits which parses back to the same double.
+     * That representation is the 15 digits rounding of the value, so the result is the one of the BigDecimal based formatting,
+     * but it is found with a few multiplications instead of the exact binary expansion of the value.
+     *
+     * @return the formatted value, or null when the value needs the BigDecimal based formatting
+     */
+    private static String formatShortest(double value, char decimalsMark) {
+        if (value == 0) {
+            return "0";
+        }
+
+        double absValue = Math.abs(value);
+
+        // Smaller values use the exponential notation, bigger ones have more than 15 integer digits
+        if (!(absValue >= 1E-4 && absValue < 1E15)) {
+            return null;
+        }
+
+        for (int decimals = 0; decimals < PowersOfTen.length; decimals++) {
+            double scaled = absValue * PowersOfTen[decimals];
+            if (scaled >= 1E15) {
+                return null;
+            }
 
-                result = sb.toString();
+            // Both the digits and the power of ten are exact doubles, so the division is the correctly rounded parsing of the digits
+            long digits = Math.round(scaled);
+            if (digits <= MaxSignificantDigitsValue && digits / PowersOfTen[decimals] == absValue) {
+                return toPlainString(value < 0, digits, decimals, decimalsMark);
             }
         }
 
-        return result;
+        return null;
+    }
+
+    private static String toPlainString(boolean isNegative, long digits, int decimals, char decimalsMark) {
+        while (decimals > 0 && digits % 10 == 0) {
+            digits /= 10;
+            decimals--;
+        }
+
+        char[] buffer = new char[24];
+        int pos = buffer.length;
+
+        for (int i = 0; i < decimals; i++) {
+            buffer[--pos] = (char)('0' + digits % 10);
+            digits /= 10;
+        }
+
+        if (decimals > 0) {
+            buffer[--pos] = decimalsMark;
+        }
+
+        do {
+            buffer[--pos] = (char)('0' + digits % 10);
+            digits /= 10;
+        } while (digits > 0);
+
+        if (isNegative) {
+            buffer[--pos] = '-';
+        }
+
+        return new String(buffer, pos, buffer.length - pos);
+    }
+
+    private static char getDecimalsMark(CultureInfo culture) {
+        LongFormatType longFormat = supportedCultures.get(culture.cultureCode);
+        return longFormat != null ? longFormat.decimalsMark : '.';
     }
 
-    private static Character changeMark(Character c, LongFormatType longFormat) {
+    private static char changeMark(char c, LongFormatType longFormat) {
         if (c == '.') {
             return longFormat.decimalsMark;
         } else if (c == ',') {
@@ -10,7 +10,7 @@ import com.microsoft.recognizers.text.sequence.config.BaseSequenceConfiguration;
 import com.microsoft.recognizers.text.sequence.resources.BaseEmail;
 import com.microsoft.recognizers.text.utilities.StringUtility;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -18,6 +18,7 @@ import java.util.stream.Collectors;
 
 public class BaseEmailExtractor extends BaseSequenceExtractor {
     private static final Pattern RFC_5322_VALIDATION_REGEX = Pattern.compile(BaseEmail.RFC5322Regex);
+    private static final SequenceTrigger EMAIL_TRIGGER = new SequenceTrigger("-a-z0-9_+.@", "@", 6);
     private final BaseSequenceConfiguration config;
 
     protected final String extractType = Constants.SYS_EMAIL;
@@ -51,8 +52,10 @@ public class BaseEmailExtractor extends BaseSequenceExtractor {
 
     public BaseEmailExtractor(BaseSequenceConfiguration config) {
         this.config = config;
-        Map<Pattern, String> regexes = new HashMap<Pattern, String>();
-        regexes.put(Pattern.compile(BaseEmail.EmailRegex), Constants.EMAIL_REGEX);
+        Map<Pattern, String> regexes = new LinkedHashMap<Pattern, String>();
+        Pattern emailRegex = Pattern.compile(BaseEmail.EmailRegex);
+        regexes.put(emailRegex, Constants.EMAIL_REGEX);
+        this.triggers.put(emailRegex, EMAIL_TRIGGER);
         // EmailRegex2 will break the code as it's not supported in Java, comment out for now
         // Error: java.util.regex.PatternSyntaxException: Unknown inline modifier near index 4
         // The same issue happens in JS and it was disabled in https://github.com/microsoft/Recognizers-Text/pull/905
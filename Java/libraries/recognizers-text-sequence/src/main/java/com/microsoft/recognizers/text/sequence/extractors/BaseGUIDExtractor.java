@@ -5,8 +5,9 @@ package com.microsoft.recognizers.text.sequence.extractors;
 
 import com.microsoft.recognizers.text.sequence.Constants;
 import com.microsoft.recognizers.text.sequence.resources.BaseGUID;
+import com.microsoft.recognizers.text.utilities.Match;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
 
@@ -18,12 +19,26 @@ public class BaseGUIDExtractor extends BaseSequenceExtractor {
     }
     
     public BaseGUIDExtractor() {
-        Map<Pattern, String> regexes = new HashMap<Pattern, String>() {
+        Pattern guidRegex = Pattern.compile(BaseGUID.GUIDRegex);
+        Map<Pattern, String> regexes = new LinkedHashMap<Pattern, String>() {
             {
-                put(Pattern.compile(BaseGUID.GUIDRegex), Constants.GUID_REGEX);
+                put(guidRegex, Constants.GUID_REGEX);
             }
         };
 
         super.regexes = regexes;
     }
+
+    // The GUIDs are found by SequenceScanner, which gives the matches of the regex above in a single pass
+    @Override
+    protected boolean[] matchAll(String text, Map<Long, String> matchSource, boolean validate) {
+        boolean[] matched = new boolean[text.length()];
+        for (Match match : SequenceScanner.scanGUID(text)) {
+            if (!validate || isValidMatch(match)) {
+                BaseSequenceExtractor.markMatch(match, Constants.GUID_REGEX, matched, matchSource);
+            }
+        }
+
+        return matched;
+    }
 }
@@ -6,11 +6,13 @@ package com.microsoft.recognizers.text.sequence.extractors;
 import com.microsoft.recognizers.text.sequence.Constants;
 import com.microsoft.recognizers.text.sequence.resources.BaseHashtag;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
 
 public class BaseHashTagExtractor extends BaseSequenceExtractor {
+    private static final SequenceTrigger HASHTAG_TRIGGER = new SequenceTrigger("#a-zA-Z0-9_", "#", 2);
+
     protected final String extractType = Constants.SYS_HASHTAG;
 
     protected String getExtractType() {
@@ -18,12 +20,14 @@ public class BaseHashTagExtractor extends BaseSequenceExtractor {
     }
     
     public BaseHashTagExtractor() {
-        Map<Pattern, String> regexes = new HashMap<Pattern, String>() {
+        Pattern hashtagRegex = Pattern.compile(BaseHashtag.HashtagRegex);
+        Map<Pattern, String> regexes = new LinkedHashMap<Pattern, String>() {
             {
-                put(Pattern.compile(BaseHashtag.HashtagRegex), Constants.HASHTAG_REGEX);
+                put(hashtagRegex, Constants.HASHTAG_REGEX);
             }
         };
 
         super.regexes = regexes;
+        this.triggers.put(hashtagRegex, HASHTAG_TRIGGER);
     }
 }
@@ -8,14 +8,13 @@ import com.microsoft.recognizers.text.sequence.Constants;
 import com.microsoft.recognizers.text.sequence.config.IpConfiguration;
 import com.microsoft.recognizers.text.sequence.resources.BaseIp;
 import com.microsoft.recognizers.text.utilities.Match;
-import com.microsoft.recognizers.text.utilities.RegExpUtility;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -32,16 +31,33 @@ public class BaseIpExtractor extends BaseSequenceExtractor {
     // The Ipv6 address regexes is written following the Recommendation:
     // https://tools.ietf.org/html/rfc5952
     public BaseIpExtractor(IpConfiguration config) {
-        Map<Pattern, String> regexes = new HashMap<Pattern, String>() {
+        Pattern ipv4Regex = Pattern.compile(BaseIp.Ipv4Regex);
+        Pattern ipv6Regex = Pattern.compile(BaseIp.Ipv6Regex);
+        Map<Pattern, String> regexes = new LinkedHashMap<Pattern, String>() {
             {
-                put(Pattern.compile(BaseIp.Ipv4Regex), Constants.IP_REGEX_IPV4);
-                put(Pattern.compile(BaseIp.Ipv6Regex), Constants.IP_REGEX_IPV6);
+                put(ipv4Regex, Constants.IP_REGEX_IPV4);
+                put(ipv6Regex, Constants.IP_REGEX_IPV6);
             }
         };
 
         super.regexes = regexes;
     }
 
+    // The addresses are found by SequenceScanner, which gives the matches of the regexes above in a single pass
+    @Override
+    protected boolean[] matchAll(String text, Map<Long, String> matchSource, boolean validate) {
+        boolean[] matched = new boolean[text.length()];
+        for (Match match : SequenceScanner.scanIpv4(text)) {
+            BaseSequenceExtractor.markMatch(match, Constants.IP_REGEX_IPV4, matched, matchSource);
+        }
+
+        for (Match match : SequenceScanner.scanIpv6(text)) {
+            BaseSequenceExtractor.markMatch(match, Constants.IP_REGEX_IPV6, matched, matchSource);
+        }
+
+        return matched;
+    }
+
     @Override
     public List<ExtractResult> extract(String text) {
         List<ExtractResult> result = new ArrayList<ExtractResult>();
@@ -50,27 +66,8 @@ public class BaseIpExtractor extends BaseSequenceExtractor {
             return result;
         }
 
-        HashMap<Match, String> matchSource = new HashMap<>();
-        boolean[] matched = new boolean[text.length()];
-
-        // Traverse every match results to see each position in the text is matched or
-        // not.
-        HashMap<Match[], String> collections = new HashMap<>();
-        regexes.forEach((key, value) -> {
-            Match[] matches = RegExpUtility.getMatches(key, text);
-            collections.put(matches, value);
-        });
-
-        collections.forEach((key, value) -> {
-            for (Match match : key) {
-                for (int j = 0; j < match.length; j++) {
-                    matched[match.index + j] = true;
-                }
-
-                // Keep Source Data for extra information
-                matchSource.put(match, value);
-            }
-        });
+        Map<Long, String> matchSource = new HashMap<>();
+        boolean[] matched = this.matchAll(text, matchSource, false);
 
         int lastNotMatched = -1;
         for (int i = 0; i < text.length(); i++) {
@@ -87,17 +84,16 @@ public class BaseIpExtractor extends BaseSequenceExtractor {
                         break;
                     }
 
-                    Function<Match, Boolean> matchFunc = match -> match.index == start && match.length == length;
-
-                    if (matchSource.keySet().stream().anyMatch(o -> matchFunc.apply(o))) {
-                        Match srcMatch = (Match)matchSource.keySet().toArray()[0];
+                    // Keep the interval when a match covers exactly it, with the source of that match
+                    String source = matchSource.get(BaseSequenceExtractor.spanKey(start, length));
+                    if (source != null) {
                         ExtractResult extResult = new ExtractResult();
 
                         extResult.setStart(start);
                         extResult.setLength(length);
                         extResult.setText(substr);
                         extResult.setType(this.extractType);
-                        extResult.setData(matchSource.getOrDefault(srcMatch, null));
+                        extResult.setData(source);
                         result.add(extResult);
                     }
                 }
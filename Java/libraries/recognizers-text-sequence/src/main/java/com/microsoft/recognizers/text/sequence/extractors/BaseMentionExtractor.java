@@ -6,11 +6,13 @@ package com.microsoft.recognizers.text.sequence.extractors;
 import com.microsoft.recognizers.text.sequence.Constants;
 import com.microsoft.recognizers.text.sequence.resources.BaseMention;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
 
 public class BaseMentionExtractor extends BaseSequenceExtractor {
+    private static final SequenceTrigger MENTION_TRIGGER = new SequenceTrigger("@a-zA-Z0-9_", "@", 2);
+
     protected final String extractType = Constants.SYS_MENTION;
 
     protected String getExtractType() {
@@ -18,12 +20,14 @@ public class BaseMentionExtractor extends BaseSequenceExtractor {
     }
 
     public BaseMentionExtractor() {
-        Map<Pattern, String> regexes = new HashMap<Pattern, String>() {
+        Pattern mentionRegex = Pattern.compile(BaseMention.MentionRegex);
+        Map<Pattern, String> regexes = new LinkedHashMap<Pattern, String>() {
             {
-                put(Pattern.compile(BaseMention.MentionRegex), Constants.MENTION_REGEX);
+                put(mentionRegex, Constants.MENTION_REGEX);
             }
         };
 
         super.regexes = regexes;
+        this.triggers.put(mentionRegex, MENTION_TRIGGER);
     }
 }
@@ -11,7 +11,7 @@ import com.microsoft.recognizers.text.utilities.Match;
 import com.microsoft.recognizers.text.utilities.RegExpUtility;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -25,10 +25,24 @@ public class BasePhoneNumberExtractor extends BaseSequenceExtractor {
 
     private static final Pattern SSN_FILTER_REGEX = Pattern.compile(BasePhoneNumbers.SSNFilterRegex);
 
+    private static final Pattern PHONE_NUMBER_MASK_REGEX = Pattern.compile(BasePhoneNumbers.PhoneNumberMaskRegex);
+
+    private static final Pattern FORMAT_INDICATOR_REGEX = Pattern.compile(BasePhoneNumbers.FormatIndicatorRegex);
+
+    // The characters the phone number regexes can match, other than digits and whitespace:
+    // brackets, separators, the + of country codes, the ? of the general regex and the x or ext of extensions
+    private static final String PHONE_NUMBER_SYMBOLS = "()+-./?xXet";
+
+    // No phone number regex matches fewer digits
+    private static final int MIN_DIGITS = 2;
+
     private static List<Character> SPECIAL_BOUNDARY_MARKERS = BasePhoneNumbers.SpecialBoundaryMarkers;
 
     private PhoneNumberConfiguration config;
 
+    // Whether the regexes only match characters of phone numbers, which holds for the default word boundaries
+    private boolean scanWindows;
+
     protected String extractType = Constants.SYS_PHONE_NUMBER;
 
     protected String getExtractType() {
@@ -42,7 +56,7 @@ public class BasePhoneNumberExtractor extends BaseSequenceExtractor {
         String nonWordBoundariesRegex = config.getNonWordBoundariesRegex();
         String endWordBoundariesRegex = config.getEndWordBoundariesRegex();
 
-        Map<Pattern, String> regexes = new HashMap<Pattern, String>() {
+        Map<Pattern, String> regexes = new LinkedHashMap<Pattern, String>() {
             {
                 put(Pattern
                         .compile(BasePhoneNumbers.GeneralPhoneNumberRegex(wordBoundariesRegex, endWordBoundariesRegex)),
@@ -70,6 +84,9 @@ public class BasePhoneNumberExtractor extends BaseSequenceExtractor {
         };
 
         this.regexes = regexes;
+        this.scanWindows = BasePhoneNumbers.WordBoundariesRegex.equals(wordBoundariesRegex) &&
+            BasePhoneNumbers.NonWordBoundariesRegex.equals(nonWordBoundariesRegex) &&
+            BasePhoneNumbers.EndWordBoundariesRegex.equals(endWordBoundariesRegex);
     }
 
     @Override
@@ -82,20 +99,21 @@ public class BasePhoneNumberExtractor extends BaseSequenceExtractor {
 
         for (int i = 0; i < ers.size(); i++) {
             ExtractResult er = ers.get(i);
-            if ((BasePhoneNumberExtractor.countDigits(er.getText()) < 7 && er.getData().toString() != "ITPhoneNumber") ||
-                Pattern.matches(SSN_FILTER_REGEX.toString(), er.getText())) {
+            int digits = BasePhoneNumberExtractor.countDigits(er.getText());
+            if ((digits < 7 && er.getData().toString() != "ITPhoneNumber") ||
+                SSN_FILTER_REGEX.matcher(er.getText()).matches()) {
                 ers.remove(er);
                 i--;
                 continue;
             }
 
-            if ((BasePhoneNumberExtractor.countDigits(er.getText()) == 16 && !er.getText().startsWith("+"))) {
+            if ((digits == 16 && !er.getText().startsWith("+"))) {
                 ers.remove(er);
                 i--;
                 continue;
             }
 
-            if (BasePhoneNumberExtractor.countDigits(er.getText()) == 15) {
+            if (digits == 15) {
                 Boolean flag = false;
                 for (String numSpan : er.getText().split(" ")) {
                     if (BasePhoneNumberExtractor.countDigits(numSpan) == 4 || BasePhoneNumberExtractor.countDigits(numSpan) == 3) {
@@ -150,10 +168,11 @@ public class BasePhoneNumberExtractor extends BaseSequenceExtractor {
                             continue;
                         }
 
-                        // check the international dialing prefix
-                        if (INTERNATIONAL_DIALING_PREFIX_REGEX.matcher(front).find()) {
-                            Integer moveOffset = RegExpUtility.getMatches(INTERNATIONAL_DIALING_PREFIX_REGEX,
-                                    front)[0].length + 1;
+                        // check the international dialing prefix, which ends the front, maybe before a line break
+                        Match[] prefixMatches = RegExpUtility.getMatches(INTERNATIONAL_DIALING_PREFIX_REGEX, front,
+                                Math.max(0, front.length() - 5), front.length());
+                        if (prefixMatches.length > 0) {
+                            Integer moveOffset = prefixMatches[0].length + 1;
                             er.setStart(er.getStart() - moveOffset);
                             er.setLength(er.getLength() + moveOffset);
                             er.setText(text.substring(er.getStart(), er.getStart() + er.getLength()));
@@ -182,9 +201,12 @@ public class BasePhoneNumberExtractor extends BaseSequenceExtractor {
             }
         }
 
+        if (ers.isEmpty()) {
+            return ers;
+        }
+
         // filter hexadecimal address like 00 10 00 31 46 D9 E9 11
-        Match[] maskMatchCollection = RegExpUtility.getMatches(Pattern.compile(BasePhoneNumbers.PhoneNumberMaskRegex),
-                text);
+        Match[] maskMatchCollection = RegExpUtility.getMatches(PHONE_NUMBER_MASK_REGEX, text);
 
         for (int index = ers.size() - 1; index >= 0; --index) {
             for (Match m : maskMatchCollection) {
@@ -199,8 +221,78 @@ public class BasePhoneNumberExtractor extends BaseSequenceExtractor {
         return ers;
     }
 
+    /**
+     * Runs each regex only on the windows of the text that can hold one of its matches. A window is a run of the
+     * characters phone numbers are made of with at least two digits; a regex runs on it when it has as many digits,
+     * and as long a run of digits, as the shortest match of the regex.
+     */
+    @Override
+    protected boolean[] matchAll(String text, Map<Long, String> matchSource, boolean validate) {
+        if (!this.scanWindows) {
+            return super.matchAll(text, matchSource, validate);
+        }
+
+        boolean[] matched = new boolean[text.length()];
+        List<Window> windows = BasePhoneNumberExtractor.findWindows(text);
+
+        this.getRegexes().forEach((regex, source) -> {
+            for (Window window : windows) {
+                if (!window.mayMatch(source)) {
+                    continue;
+                }
+
+                for (Match match : RegExpUtility.getMatches(regex, text, window.start, window.end)) {
+                    if (!validate || isValidMatch(match)) {
+                        BaseSequenceExtractor.markMatch(match, source, matched, matchSource);
+                    }
+                }
+            }
+        });
+
+        return matched;
+    }
+
+    private static List<Window> findWindows(String text) {
+        List<Window> windows = new ArrayList<>();
+        Window window = null;
+        int run = 0;
+
+        for (int i = 0; i <= text.length(); i++) {
+            if (i == text.length() || !BasePhoneNumberExtractor.isPhoneNumberCharacter(text.charAt(i))) {
+                if (window != null && window.digits >= MIN_DIGITS) {
+                    window.end = i;
+                    windows.add(window);
+                }
+
+                window = null;
+                run = 0;
+                continue;
+            }
+
+            if (window == null) {
+                window = new Window(i);
+            }
+
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                window.digits++;
+                window.longestRun = Math.max(window.longestRun, ++run);
+            } else {
+                window.separated |= c == '-' || c == '/';
+                run = 0;
+            }
+        }
+
+        return windows;
+    }
+
+    // Digits, the whitespace of \s and the symbols of phone numbers
+    private static boolean isPhoneNumberCharacter(char c) {
+        return (c >= '0' && c <= '9') || c == ' ' || (c >= '\t' && c <= '\r') || PHONE_NUMBER_SYMBOLS.indexOf(c) >= 0;
+    }
+
     private static Boolean checkFormattedPhoneNumber(String phoneNumberText) {
-        return Pattern.compile(BasePhoneNumbers.FormatIndicatorRegex).matcher(phoneNumberText).find();
+        return FORMAT_INDICATOR_REGEX.matcher(phoneNumberText).find();
     }
 
     private static Integer countDigits(String candidateString) {
@@ -213,4 +305,40 @@ public class BasePhoneNumberExtractor extends BaseSequenceExtractor {
 
         return count;
     }
+
+    private static class Window {
+        private final int start;
+        private int end;
+        private int digits;
+        private int longestRun;
+        private boolean separated;
+
+        Window(int start) {
+            this.start = start;
+        }
+
+        // The fewest digits and the shortest longest run of digits in a match of each regex
+        boolean mayMatch(String source) {
+            switch (source) {
+                case Constants.PHONE_NUMBER_REGEX_GENERAL:
+                    return this.digits >= 5;
+                case Constants.PHONE_NUMBER_REGEX_BR:
+                    return this.digits >= 9 && this.longestRun >= 4;
+                case Constants.PHONE_NUMBER_REGEX_UK:
+                    return this.digits >= 7 && this.longestRun >= 3;
+                case Constants.PHONE_NUMBER_REGEX_DE:
+                    return this.digits >= 3 && this.longestRun >= 2;
+                case Constants.PHONE_NUMBER_REGEX_US:
+                    return this.digits >= 7 && this.longestRun >= 4;
+                case Constants.PHONE_NUMBER_REGEX_CN:
+                    return this.digits >= 10 && this.longestRun >= 4;
+                case Constants.PHONE_NUMBER_REGEX_DK:
+                    return this.digits >= 8 && this.longestRun >= 2;
+                case Constants.PHONE_NUMBER_REGEX_SPECIAL:
+                    return this.digits >= 7 && this.longestRun >= 3 && this.separated;
+                default:
+                    return true;
+            }
+        }
+    }
 }
@@ -9,18 +9,20 @@ import com.microsoft.recognizers.text.utilities.Match;
 import com.microsoft.recognizers.text.utilities.RegExpUtility;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 public abstract class BaseSequenceExtractor implements IExtractor {
     protected Map<Pattern, String> regexes;
     protected String extractType = "";
 
+    // Where the matches of a regex can be, for the regexes known well enough to say.
+    // The other regexes run over the whole text.
+    protected Map<Pattern, SequenceTrigger> triggers = new IdentityHashMap<>();
+
     protected List<ExtractResult> postFilter(List<ExtractResult> results) {
         return results;
     }
@@ -41,29 +43,8 @@ public abstract class BaseSequenceExtractor implements IExtractor {
             return result;
         }
 
-        HashMap<Match, String> matchSource = new HashMap<>();
-        boolean[] matched = new boolean[text.length()];
-
-        // Traverse every match results to see each position in the text is matched or
-        // not.
-        HashMap<Match[], String> collections = new HashMap<>();
-        regexes.forEach((key, value) -> {
-            Match[] matches = RegExpUtility.getMatches(key, text);
-            collections.put(matches, value);
-        });
-
-        collections.forEach((key, value) -> {
-            for (Match match : key) {
-                if (isValidMatch(match)) {
-                    for (int j = 0; j < match.length; j++) {
-                        matched[match.index + j] = true;
-                    }
-
-                    // Keep Source Data for extra information
-                    matchSource.put(match, value);
-                }
-            }
-        });
+        Map<Long, String> matchSource = new HashMap<>();
+        boolean[] matched = this.matchAll(text, matchSource, true);
 
         // Form the extracted results mark all the matched intervals in the text.
         int lastNotMatched = -1;
@@ -73,17 +54,17 @@ public abstract class BaseSequenceExtractor implements IExtractor {
                     int start = lastNotMatched + 1;
                     int length = i - lastNotMatched;
                     String substr = text.substring(start, start + length);
-                    Function<Match, Boolean> matchFunc = match -> match.index == start && match.length == length;
 
-                    if (matchSource.keySet().stream().anyMatch(o -> matchFunc.apply(o))) {
-                        Match srcMatch = (Match)matchSource.keySet().toArray()[0];
+                    // Keep the interval when a match covers exactly it, with the source of that match
+                    String source = matchSource.get(BaseSequenceExtractor.spanKey(start, length));
+                    if (source != null) {
                         ExtractResult extResult = new ExtractResult();
 
                         extResult.setStart(start);
                         extResult.setLength(length);
                         extResult.setText(substr);
                         extResult.setType(this.extractType);
-                        extResult.setData(matchSource.getOrDefault(srcMatch, null));
+                        extResult.setData(source);
                         result.add(extResult);
                     }
                 }
@@ -98,4 +79,86 @@ public abstract class BaseSequenceExtractor implements IExtractor {
     public Boolean isValidMatch(Match match) {
         return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs the regexes over the text and returns which positions any of their matches covers.
+     * The source of each match is kept by its span; when several regexes match the same span,
+     * the first of them in the iteration order of the regexes is kept. The regexes are kept in LinkedHashMaps
+     * for that order to be the one they were added in, as patterns hash by identity.
+     */
+    protected boolean[] matchAll(String text, Map<Long, String> matchSource, boolean validate) {
+        boolean[] matched = new boolean[text.length()];
+        Map<SequenceTrigger, List<int[]>> windows = this.findWindows(text);
+
+        this.getRegexes().forEach((regex, source) -> {
+            List<int[]> regexWindows = windows.get(this.triggers.get(regex));
+            if (regexWindows == null) {
+                regexWindows = new ArrayList<>();
+                regexWindows.add(new int[] {0, text.length()});
+            }
+
+            for (int[] window : regexWindows) {
+                for (Match match : RegExpUtility.getMatches(regex, text, window[0], window[1])) {
+                    if (!validate || isValidMatch(match)) {
+                        BaseSequenceExtractor.markMatch(match, source, matched, matchSource);
+                    }
+                }
+            }
+        });
+
+        return matched;
+    }
+
+    protected static void markMatch(Match match, String source, boolean[] matched, Map<Long, String> matchSource) {
+        for (int j = 0; j < match.length; j++) {
+            matched[match.index + j] = true;
+        }
+
+        // Keep Source Data for extra information
+        matchSource.putIfAbsent(BaseSequenceExtractor.spanKey(match.index, match.length), source);
+    }
+
+    protected static long spanKey(int start, int length) {
+        return ((long)start << 32) | length;
+    }
+
+    // The windows of each trigger, found in a single scan of the text. A window is a run of the characters
+    // of the alphabet of the trigger holding one of its trigger characters, as long as the shortest match.
+    private Map<SequenceTrigger, List<int[]>> findWindows(String text) {
+        Map<SequenceTrigger, List<int[]>> windows = new IdentityHashMap<>();
+        if (this.triggers.isEmpty()) {
+            return windows;
+        }
+
+        SequenceTrigger[] scanned = this.triggers.values().stream().distinct().toArray(SequenceTrigger[]::new);
+        int[] starts = new int[scanned.length];
+        boolean[] triggered = new boolean[scanned.length];
+        for (int k = 0; k < scanned.length; k++) {
+            windows.put(scanned[k], new ArrayList<>());
+            starts[k] = -1;
+        }
+
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            for (int k = 0; k < scanned.length; k++) {
+                SequenceTrigger trigger = scanned[k];
+                if (i < text.length() && trigger.inAlphabet(c)) {
+                    if (starts[k] < 0) {
+                        starts[k] = i;
+                    }
+
+                    triggered[k] |= trigger.isTrigger(c);
+                } else if (starts[k] >= 0) {
+                    if (triggered[k] && i - starts[k] >= trigger.getMinLength()) {
+                        windows.get(trigger).add(new int[] {starts[k], i});
+                    }
+
+                    starts[k] = -1;
+                    triggered[k] = false;
+                }
+            }
+        }
+
+        return windows;
+    }
+}
@@ -10,7 +10,7 @@ import com.microsoft.recognizers.text.sequence.config.URLConfiguration;
 import com.microsoft.recognizers.text.sequence.resources.BaseURL;
 import com.microsoft.recognizers.text.utilities.Match;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -18,6 +18,10 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 public class BaseURLExtractor extends BaseSequenceExtractor {
+    private static final SequenceTrigger URL_TRIGGER = new SequenceTrigger("-a-zA-Z0-9._:/#%+~?!&=", ".", 4);
+    private static final SequenceTrigger IP_URL_TRIGGER = new SequenceTrigger("-a-zA-Z0-9._:/#%+~?!&=", ":", 8);
+    private static final SequenceTrigger URL2_TRIGGER = new SequenceTrigger("-a-zA-Z0-9._:/#%+~?!&=@()", ".", 4);
+
     private final URLConfiguration config;
     private StringMatcher tldMatcher;
     private Pattern ambiguousTimeTerm;
@@ -34,15 +38,28 @@ public class BaseURLExtractor extends BaseSequenceExtractor {
 
     public BaseURLExtractor(URLConfiguration config) {
         this.config = config;
-        Map<Pattern, String> regexes = new HashMap<Pattern, String>() {
+        Pattern urlRegex2 = Pattern.compile(BaseURL.UrlRegex2);
+        Map<Pattern, String> regexes = new LinkedHashMap<Pattern, String>() {
             {
                 put(config.getUrlRegex(), Constants.URL_REGEX);
                 put(config.getIpUrlRegex(), Constants.URL_REGEX);
-                put(Pattern.compile(BaseURL.UrlRegex2), Constants.URL_REGEX);
+                put(urlRegex2, Constants.URL_REGEX);
             }
         };
 
         super.regexes = regexes;
+
+        // Host names hold a dot before their top level domain, and IP URLs start with a protocol.
+        // A configuration bringing other regexes has them run over the whole text.
+        if (config.getUrlRegex().pattern().equals(BaseURL.UrlRegex)) {
+            this.triggers.put(config.getUrlRegex(), URL_TRIGGER);
+        }
+
+        if (config.getIpUrlRegex().pattern().equals(BaseURL.IpUrlRegex)) {
+            this.triggers.put(config.getIpUrlRegex(), IP_URL_TRIGGER);
+        }
+
+        this.triggers.put(urlRegex2, URL2_TRIGGER);
         this.ambiguousTimeTerm = Pattern.compile(BaseURL.AmbiguousTimeTerm);
 
         this.tldMatcher = new StringMatcher();
@@ -0,0 +1,351 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.sequence.extractors;
+
+import com.microsoft.recognizers.text.utilities.Match;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Scanners finding the same matches as the IP address and GUID regexes of BaseIp and BaseGUID, in a single pass
+ * over the text and without backtracking through their alternations. Each scanner tries the alternatives of its
+ * regex in the same order and takes the first one that matches, so the spans are the ones the regexes find.
+ */
+public final class SequenceScanner {
+    private static final int IPV6_GROUPS = 8;
+
+    private static final int IPV6_ELEMENT_LENGTH = 4;
+
+    private static final int GUID_LENGTH = 32;
+
+    private static final int[] GUID_DASHES = {8, 13, 18, 23};
+
+    private SequenceScanner() {
+    }
+
+    /**
+     * Finds the matches of BaseIp.Ipv4Regex: four dot separated numbers up to 255, between word boundaries.
+     */
+    public static List<Match> scanIpv4(String text) {
+        List<Match> matches = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            int end = isAsciiDigit(text.charAt(i)) && isWordBoundary(text, i) ? matchIpv4(text, i) : -1;
+            if (end > 0) {
+                matches.add(SequenceScanner.toMatch(text, i, end));
+                i = end;
+            } else {
+                i++;
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Finds the matches of BaseIp.Ipv6Regex: the full and the compressed forms between word boundaries first,
+     * then the leading and trailing ellipsis forms.
+     */
+    public static List<Match> scanIpv6(String text) {
+        List<Match> matches = new ArrayList<>();
+        int[] groups = new int[IPV6_GROUPS - 1];
+        int[] tail = new int[IPV6_GROUPS - 1];
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            int end = -1;
+            if (c == ':' || isHexDigit(c)) {
+                end = matchMergedIpv6(text, i, groups, tail);
+                if (end < 0) {
+                    end = matchOtherIpv6(text, i, groups, tail);
+                }
+            }
+
+            if (end > 0) {
+                matches.add(SequenceScanner.toMatch(text, i, end));
+                i = end;
+            } else {
+                i++;
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Finds the matches of BaseGUID.GUIDRegex: 32 lowercase hexadecimal digits, plain or in the 8-4-4-4-12 form,
+     * standing alone or within braces, after urn:uuid:, within %7b and %7d or within x''.
+     */
+    public static List<Match> scanGUID(String text) {
+        List<Match> matches = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            int end = matchGUID(text, i);
+            if (end > 0) {
+                matches.add(SequenceScanner.toMatch(text, i, end));
+                i = end;
+            } else {
+                i++;
+            }
+        }
+
+        return matches;
+    }
+
+    // Each number has to be a whole run of digits, as the regex needs a dot or a boundary after it.
+    private static int matchIpv4(String text, int start) {
+        int i = start;
+        for (int octet = 0; octet < 4; octet++) {
+            if (octet > 0) {
+                if (i + 1 >= text.length() || text.charAt(i) != '.' || !isAsciiDigit(text.charAt(i + 1))) {
+                    return -1;
+                }
+
+                i++;
+            }
+
+            int end = i;
+            while (end < text.length() && isAsciiDigit(text.charAt(end))) {
+                end++;
+            }
+
+            if (!isOctet(text, i, end)) {
+                return -1;
+            }
+
+            i = end;
+        }
+
+        return isWordBoundary(text, i) ? i : -1;
+    }
+
+    private static boolean isOctet(String text, int start, int end) {
+        int length = end - start;
+        if (length < 3) {
+            return length > 0;
+        }
+
+        if (length > 3) {
+            return false;
+        }
+
+        char first = text.charAt(start);
+        char second = text.charAt(start + 1);
+        return first < '2' || (first == '2' && (second < '5' || (second == '5' && text.charAt(start + 2) <= '5')));
+    }
+
+    // The alternatives of MergedIpv6Regex, within word boundaries. groups and tail are scratch space for the ends
+    // of the "x:" groups from the start and of the ":x" groups after them.
+    private static int matchMergedIpv6(String text, int start, int[] groups, int[] tail) {
+        if (!isWordBoundary(text, start)) {
+            return -1;
+        }
+
+        int count = repeatGroups(text, start, false, IPV6_GROUPS - 1, groups);
+
+        // x:x:x:x:x:x:x:x
+        if (count == IPV6_GROUPS - 1) {
+            int end = matchElement(text, groups[count - 1]);
+            if (end > 0 && isWordBoundary(text, end)) {
+                return end;
+            }
+        }
+
+        // ::x, up to ::x:x:x:x:x:x:x
+        if (text.charAt(start) == ':') {
+            int end = lastWordBoundary(text, tail, repeatGroups(text, start + 1, true, IPV6_GROUPS - 1, tail));
+            if (end > 0) {
+                return end;
+            }
+        }
+
+        // x::x, up to x:x:x:x:x:x::x
+        for (int before = 1; before < IPV6_GROUPS - 1 && before <= count; before++) {
+            int end = lastWordBoundary(text, tail, repeatGroups(text, groups[before - 1], true, IPV6_GROUPS - 1 - before, tail));
+            if (end > 0) {
+                return end;
+            }
+        }
+
+        // x:x:x:x:x:x:x::
+        if (count == IPV6_GROUPS - 1) {
+            int end = groups[count - 1];
+            if (end < text.length() && text.charAt(end) == ':' && isWordBoundary(text, end + 1)) {
+                return end + 1;
+            }
+        }
+
+        return -1;
+    }
+
+    // The alternatives of Ipv6EllipsisRegexOther: a lone ::, then ::x and x:: not within word boundaries.
+    private static int matchOtherIpv6(String text, int start, int[] groups, int[] tail) {
+        if (text.charAt(start) == ':') {
+            if (isWordBoundary(text, start)) {
+                return -1;
+            }
+
+            if (start + 1 < text.length() && text.charAt(start + 1) == ':' && !isWordBoundary(text, start + 2)) {
+                return start + 2;
+            }
+
+            return lastWordBoundary(text, tail, repeatGroups(text, start + 1, true, IPV6_GROUPS - 1, tail));
+        }
+
+        if (!isWordBoundary(text, start)) {
+            return -1;
+        }
+
+        int count = repeatGroups(text, start, false, IPV6_GROUPS - 1, groups);
+        for (int c = count; c > 0; c--) {
+            int end = groups[c - 1];
+            if (end < text.length() && text.charAt(end) == ':' && !isWordBoundary(text, end + 1)) {
+                return end + 1;
+            }
+        }
+
+        return -1;
+    }
+
+    // Repeats ":x" or "x:" groups from start as long as they match, up to max times, keeping the end of each in ends.
+    private static int repeatGroups(String text, int start, boolean colonFirst, int max, int[] ends) {
+        int count = 0;
+        int i = start;
+        while (count < max) {
+            int next;
+            if (colonFirst) {
+                next = i < text.length() && text.charAt(i) == ':' ? matchElement(text, i + 1) : -1;
+            } else {
+                int end = matchElement(text, i);
+                next = end > 0 && end < text.length() && text.charAt(end) == ':' ? end + 1 : -1;
+            }
+
+            if (next < 0) {
+                break;
+            }
+
+            ends[count++] = next;
+            i = next;
+        }
+
+        return count;
+    }
+
+    // Gives back the repeated groups from the last one, as a greedy regex does, until one ends at a word boundary.
+    private static int lastWordBoundary(String text, int[] ends, int count) {
+        for (int c = count; c > 0; c--) {
+            if (isWordBoundary(text, ends[c - 1])) {
+                return ends[c - 1];
+            }
+        }
+
+        return -1;
+    }
+
+    // Up to 4 hexadecimal digits. Fewer digits would leave one next to the element, which nothing after it accepts.
+    private static int matchElement(String text, int start) {
+        int end = start;
+        while (end < text.length() && end - start < IPV6_ELEMENT_LENGTH && isHexDigit(text.charAt(end))) {
+            end++;
+        }
+
+        return end > start ? end : -1;
+    }
+
+    private static int matchGUID(String text, int start) {
+        char c = text.charAt(start);
+        int end;
+        switch (c) {
+            case '{':
+                end = matchGUIDElement(text, start + 1);
+                return end > 0 && end < text.length() && text.charAt(end) == '}' ? end + 1 : -1;
+            case 'u':
+                end = text.startsWith("urn:uuid:", start) ? matchGUIDElement(text, start + 9) : -1;
+                return end > 0 && isWordBoundary(text, end) ? end : -1;
+            case '%':
+                end = text.startsWith("%7b", start) ? matchGUIDElement(text, start + 3) : -1;
+                return end > 0 && text.startsWith("%7d", end) ? end + 3 : -1;
+            case 'x':
+                end = text.startsWith("x'", start) ? matchGUIDElement(text, start + 2) : -1;
+                return end > 0 && end < text.length() && text.charAt(end) == '\'' ? end + 1 : -1;
+            default:
+                end = isGUIDDigit(c) && isWordBoundary(text, start) ? matchGUIDElement(text, start) : -1;
+                return end > 0 && isWordBoundary(text, end) ? end : -1;
+        }
+    }
+
+    // Either form of BaseGUID.GUIDRegexElement. They differ at the ninth character, so at most one of them matches.
+    private static int matchGUIDElement(String text, int start) {
+        int i = start;
+        int dash = 0;
+        int digits = 0;
+        boolean dashed = start + GUID_DASHES[0] < text.length() && text.charAt(start + GUID_DASHES[0]) == '-';
+        while (digits < GUID_LENGTH) {
+            if (i >= text.length()) {
+                return -1;
+            }
+
+            if (dashed && dash < GUID_DASHES.length && i - start == GUID_DASHES[dash]) {
+                if (text.charAt(i) != '-') {
+                    return -1;
+                }
+
+                dash++;
+            } else if (isGUIDDigit(text.charAt(i))) {
+                digits++;
+            } else {
+                return -1;
+            }
+
+            i++;
+        }
+
+        return i;
+    }
+
+    private static Match toMatch(String text, int start, int end) {
+        return new Match(start, end - start, text.substring(start, end), Collections.emptyMap());
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isGUIDDigit(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'f');
+    }
+
+    // \b as java.util.regex sees it: letters, digits and underscores are word characters,
+    // and so are non spacing marks following them.
+    private static boolean isWordBoundary(String text, int i) {
+        boolean left = i > 0 && isWordCharacter(text, Character.codePointBefore(text, i), i - 1);
+        boolean right = i < text.length() && isWordCharacter(text, Character.codePointAt(text, i), i);
+        return left != right;
+    }
+
+    private static boolean isWordCharacter(String text, int ch, int i) {
+        return ch == '_' || Character.isLetterOrDigit(ch) || (Character.getType(ch) == Character.NON_SPACING_MARK && hasBaseCharacter(text, i));
+    }
+
+    private static boolean hasBaseCharacter(String text, int i) {
+        for (int x = i; x >= 0; x--) {
+            int ch = Character.codePointAt(text, x);
+            if (Character.isLetterOrDigit(ch)) {
+                return true;
+            }
+
+            if (Character.getType(ch) != Character.NON_SPACING_MARK) {
+                return false;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.sequence.extractors;
+
+/**
+ * Describes where the matches of a regex can be: runs of the characters a match is made of,
+ * holding at least one of the characters every match contains and at least as long as the shortest match.
+ * Text without such a run cannot hold a match, so the regex does not need to run on it.
+ */
+public final class SequenceTrigger {
+    private static final int ASCII = 128;
+
+    private final boolean[] alphabet = new boolean[ASCII];
+
+    private final boolean[] triggers = new boolean[ASCII];
+
+    private final int minLength;
+
+    /**
+     * Characters are given as in a regex character class without escapes, such as "-a-z0-9_".
+     * Only ASCII characters can be listed.
+     */
+    public SequenceTrigger(String alphabet, String triggers, int minLength) {
+        SequenceTrigger.fill(this.alphabet, alphabet);
+        SequenceTrigger.fill(this.triggers, triggers);
+        this.minLength = minLength;
+    }
+
+    public boolean inAlphabet(char c) {
+        return c < ASCII && this.alphabet[c];
+    }
+
+    public boolean isTrigger(char c) {
+        return c < ASCII && this.triggers[c];
+    }
+
+    public int getMinLength() {
+        return this.minLength;
+    }
+
+    private static void fill(boolean[] table, String chars) {
+        for (int i = 0; i < chars.length(); i++) {
+            char first = chars.charAt(i);
+            char last = first;
+            if (i + 2 < chars.length() && chars.charAt(i + 1) == '-') {
+                last = chars.charAt(i + 2);
+                i += 2;
+            }
+
+            for (char c = first; c <= last; c++) {
+                table[c] = true;
+            }
+        }
+    }
+}
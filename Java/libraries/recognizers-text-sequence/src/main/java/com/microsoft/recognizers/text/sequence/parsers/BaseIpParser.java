@@ -5,9 +5,6 @@ package com.microsoft.recognizers.text.sequence.parsers;
 
 import com.microsoft.recognizers.text.ExtractResult;
 import com.microsoft.recognizers.text.ParseResult;
-import com.microsoft.recognizers.text.utilities.StringUtility;
-
-import org.apache.commons.lang3.StringUtils;
 
 public class BaseIpParser extends BaseSequenceParser {
     @Override
@@ -18,30 +15,26 @@ public class BaseIpParser extends BaseSequenceParser {
         return result;
     }
 
+    // Drops the leading zeros of each number of the address, keeping a single zero for the numbers made only of zeros
     private static String dropLeadingZeros(String text) {
-        String result = new String();
-        String number = new String();
-        for (int i = 0; i < text.length(); i++) {
-            Character c = text.charAt(i);
-            if (c == '.' || c == ':') {
-                if (!StringUtils.isBlank(number)) {
-                    number = number == "0" ? number : StringUtility.trimStart(number, "^[0]+","");
-                    number = StringUtils.isBlank(number) ? "0" : number;
-                    result += number;
+        StringBuilder result = new StringBuilder(text.length());
+        int start = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i == text.length() || text.charAt(i) == '.' || text.charAt(i) == ':') {
+                int first = start;
+                while (first < i - 1 && text.charAt(first) == '0') {
+                    first++;
                 }
 
-                result += text.charAt(i);
-                number = new String();
-            } else {
-                number += c.toString();
-                if (i == text.length() - 1) {
-                    number = number == "0" ? number : StringUtility.trimStart(number, "^[0]+","");
-                    number = StringUtils.isBlank(number) ? "0" : number;
-                    result += number;
+                result.append(text, first, i);
+                if (i < text.length()) {
+                    result.append(text.charAt(i));
                 }
+
+                start = i + 1;
             }
         }
 
-        return result;
+        return result.toString();
     }
 }
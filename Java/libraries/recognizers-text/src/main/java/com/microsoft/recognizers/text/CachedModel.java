@@ -0,0 +1,39 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text;
+
+import java.util.List;
+
+/**
+ * Model serving its results from a ModelResultCache, for models whose results only depend on the query.
+ * Cached results are immutable.
+ */
+public class CachedModel implements IModel {
+
+    private final IModel model;
+    private final String culture;
+    private final Object options;
+    private final ModelResultCache cache;
+
+    public CachedModel(IModel model, String culture, Object options, ModelResultCache cache) {
+        this.model = model;
+        this.culture = culture;
+        this.options = options;
+        this.cache = cache;
+    }
+
+    public IModel getModel() {
+        return model;
+    }
+
+    @Override
+    public String getModelTypeName() {
+        return model.getModelTypeName();
+    }
+
+    @Override
+    public List<ModelResult> parse(String query) {
+        return cache.get(ModelResultCache.getKey(culture, model.getClass(), options, query, null), () -> model.parse(query));
+    }
+}
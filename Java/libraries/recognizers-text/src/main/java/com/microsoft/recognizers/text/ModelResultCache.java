@@ -0,0 +1,262 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongBiFunction;
+import org.javatuples.Quintet;
+
+/**
+ * Bounded cache of model results, with a segmented LRU policy: new entries go to a probation segment
+ * and only the ones hit again are promoted to the protected segment, so one-off queries cannot flush
+ * the frequent ones. Cached results are immutable, resolutions included.
+ * Safe to share between threads and models.
+ */
+public class ModelResultCache {
+
+    // cacheKey: (string culture, Type modelType, string modelOptions, string query, Object reference)
+    public static Quintet<String, Type, String, String, Object> getKey(String culture, Type modelType, Object options, String query, Object reference) {
+        return new Quintet<>(
+                culture != null ? culture.toLowerCase() : null,
+                modelType,
+                options != null ? options.toString() : null,
+                query,
+                reference);
+    }
+
+    private static final int ProtectedPercentage = 80;
+
+    private final long maximumSize;
+    private final long maximumWeight;
+    private final long maximumProtectedSize;
+    private final long maximumProtectedWeight;
+    private final ToLongBiFunction<String, List<ModelResult>> weigher;
+
+    // Both segments are in access order, least recently used first
+    private final LinkedHashMap<Quintet<String, Type, String, String, Object>, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Quintet<String, Type, String, String, Object>, Entry> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight = 0;
+    private long protectedWeight = 0;
+
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    public ModelResultCache(long maximumSize) {
+        this(maximumSize, Long.MAX_VALUE, (query, results) -> 1);
+    }
+
+    /**
+     * @param maximumSize maximum number of cached queries
+     * @param maximumWeight maximum total weight of the cached queries
+     * @param weigher weight of the results of a query, e.g. the length of the query
+     */
+    public ModelResultCache(long maximumSize, long maximumWeight, ToLongBiFunction<String, List<ModelResult>> weigher) {
+        if (maximumSize <= 0 || maximumWeight <= 0) {
+            throw new IllegalArgumentException("Cache maximum size and weight must be positive");
+        }
+
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.maximumProtectedSize = (long)(maximumSize * (ProtectedPercentage / 100.0));
+        this.maximumProtectedWeight = (long)(maximumWeight * (ProtectedPercentage / 100.0));
+        this.weigher = weigher;
+    }
+
+    /**
+     * Gets the cached results of a key, parsing them on a miss. Parsing runs outside the cache lock,
+     * so concurrent misses on the same key may parse it more than once.
+     */
+    public List<ModelResult> get(Quintet<String, Type, String, String, Object> key, Supplier<List<ModelResult>> parse) {
+        return get(Collections.singletonList(key), parse, results -> key);
+    }
+
+    /**
+     * Gets the results cached under the first of the keys present, parsing them on a miss and caching them under
+     * the key chosen from the parsed results. This lets a model cache the results only depending on part of a key
+     * under a coarser key, and fall back to a finer one for the others.
+     */
+    public List<ModelResult> get(List<Quintet<String, Type, String, String, Object>> keys, Supplier<List<ModelResult>> parse,
+                                 Function<List<ModelResult>, Quintet<String, Type, String, String, Object>> keyFor) {
+        List<ModelResult> results = getIfPresent(keys);
+        if (results != null) {
+            return results;
+        }
+
+        results = freeze(parse.get());
+        put(keyFor.apply(results), results);
+
+        return results;
+    }
+
+    public List<ModelResult> getIfPresent(Quintet<String, Type, String, String, Object> key) {
+        return getIfPresent(Collections.singletonList(key));
+    }
+
+    /**
+     * Gets the results cached under the first of the keys present, counting a single hit or miss.
+     */
+    public synchronized List<ModelResult> getIfPresent(List<Quintet<String, Type, String, String, Object>> keys) {
+        for (Quintet<String, Type, String, String, Object> key : keys) {
+            Entry entry = lookup(key);
+            if (entry != null) {
+                hitCount++;
+                return entry.results;
+            }
+        }
+
+        missCount++;
+        return null;
+    }
+
+    public synchronized void invalidateAll() {
+        probation.clear();
+        protectedSegment.clear();
+        weight = 0;
+        protectedWeight = 0;
+    }
+
+    public synchronized long size() {
+        return probation.size() + protectedSegment.size();
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double)hitCount / requestCount;
+    }
+
+    private synchronized void put(Quintet<String, Type, String, String, Object> key, List<ModelResult> results) {
+        long entryWeight = weigher.applyAsLong(key.getValue3(), results);
+        if (entryWeight > maximumWeight || probation.containsKey(key) || protectedSegment.containsKey(key)) {
+            return;
+        }
+
+        probation.put(key, new Entry(results, entryWeight));
+        weight += entryWeight;
+
+        while (weight > maximumWeight || size() > maximumSize) {
+            evict();
+        }
+    }
+
+    private Entry lookup(Quintet<String, Type, String, String, Object> key) {
+        Entry entry = protectedSegment.get(key);
+        if (entry == null) {
+            entry = probation.remove(key);
+            if (entry == null) {
+                return null;
+            }
+
+            // Hit again while on probation, promote it
+            protectedSegment.put(key, entry);
+            protectedWeight += entry.weight;
+            demoteProtected();
+        }
+
+        return entry;
+    }
+
+    private void demoteProtected() {
+        Iterator<Map.Entry<Quintet<String, Type, String, String, Object>, Entry>> iterator = protectedSegment.entrySet().iterator();
+        while ((protectedWeight > maximumProtectedWeight || protectedSegment.size() > maximumProtectedSize) && iterator.hasNext()) {
+            Map.Entry<Quintet<String, Type, String, String, Object>, Entry> eldest = iterator.next();
+            iterator.remove();
+            protectedWeight -= eldest.getValue().weight;
+            probation.put(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void evict() {
+        Map<Quintet<String, Type, String, String, Object>, Entry> segment = probation.isEmpty() ? protectedSegment : probation;
+        Iterator<Entry> iterator = segment.values().iterator();
+        Entry eldest = iterator.next();
+        iterator.remove();
+
+        weight -= eldest.weight;
+        if (segment == protectedSegment) {
+            protectedWeight -= eldest.weight;
+        }
+
+        evictionCount++;
+    }
+
+    private static List<ModelResult> freeze(List<ModelResult> results) {
+        List<ModelResult> frozen = new ArrayList<>(results.size());
+        for (ModelResult result : results) {
+            SortedMap<String, Object> resolution = result.resolution != null ? freezeSortedMap(result.resolution) : null;
+            frozen.add(new ModelResult(result.text, result.start, result.end, result.typeName, resolution, result.parentText));
+        }
+
+        return Collections.unmodifiableList(frozen);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object freezeValue(Object value) {
+        if (value instanceof SortedMap) {
+            return freezeSortedMap((SortedMap<Object, Object>)value);
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<Object, Object> entry : ((Map<Object, Object>)value).entrySet()) {
+                map.put(entry.getKey(), freezeValue(entry.getValue()));
+            }
+
+            return Collections.unmodifiableMap(map);
+        } else if (value instanceof List) {
+            List<Object> list = new ArrayList<>();
+            for (Object item : (List<Object>)value) {
+                list.add(freezeValue(item));
+            }
+
+            return Collections.unmodifiableList(list);
+        }
+
+        return value;
+    }
+
+    private static <K> SortedMap<K, Object> freezeSortedMap(SortedMap<K, Object> map) {
+        SortedMap<K, Object> frozen = new TreeMap<>(map.comparator());
+        for (Map.Entry<K, Object> entry : map.entrySet()) {
+            frozen.put(entry.getKey(), freezeValue(entry.getValue()));
+        }
+
+        return Collections.unmodifiableSortedMap(frozen);
+    }
+
+    private static class Entry {
+        private final List<ModelResult> results;
+        private final long weight;
+
+        Entry(List<ModelResult> results, long weight) {
+            this.results = results;
+            this.weight = weight;
+        }
+    }
+}
@@ -3,6 +3,7 @@
 
 package com.microsoft.recognizers.text.utilities;
 
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -156,6 +157,106 @@ public abstract class RegExpUtility {
         return realMatches.toArray(new Match[realMatches.size()]);
     }
 
+    // The matches found within source[start, end). Transparent bounds let lookarounds and word boundaries see
+    // the text around the range, so these are the matches of getMatches lying in the range, provided none of them
+    // can cross its ends.
+    public static Match[] getMatches(Pattern regex, String source, int start, int end) {
+
+        if (regex == null) {
+            return new Match[0];
+        }
+
+        if (regex.pattern().contains("(?<nlbii")) {
+            return Arrays.stream(getMatches(regex, source))
+                    .filter(m -> m.index >= start && m.index + m.length <= end)
+                    .toArray(Match[]::new);
+        }
+
+        List<Match> matches = new ArrayList<>();
+        Matcher match = regex.matcher(source).region(start, end).useTransparentBounds(true).useAnchoringBounds(false);
+        while (match.find()) {
+            matches.add(toMatch(match, source));
+        }
+
+        return matches.toArray(new Match[matches.size()]);
+    }
+
+    // Same as the first element of getMatches, but stops at the first match instead of collecting all of them
+    public static Match getFirstMatch(Pattern regex, String source) {
+
+        if (regex == null) {
+            return null;
+        }
+
+        if (regex.pattern().contains("(?<nlbii")) {
+            return getFirstMatchIndex(regex, source);
+        }
+
+        Matcher match = regex.matcher(source);
+        return match.find() ? toMatch(match, source) : null;
+    }
+
+    // Same as the last element of getMatches(regex, source.substring(0, end)) among the matches from start on, but the
+    // scan only runs over source[start, end). Transparent bounds keep the text before start in sight of lookbehinds
+    // and word boundaries, so the matches are the ones of the prefix unless one of them crosses start. The scan only
+    // keeps the start of the last match; its groups are then built by matching again at that start.
+    public static Match getLastMatch(Pattern regex, String source, int start, int end) {
+
+        if (regex == null) {
+            return null;
+        }
+
+        // The emulated negative lookbehinds need a string of their own, so these only see the range
+        if (regex.pattern().contains("(?<nlbii")) {
+            Match[] matches = getMatches(regex, source.substring(start, end));
+            return matches.length > 0 ? shift(matches[matches.length - 1], start) : null;
+        }
+
+        // The buffer is a view of the prefix, so the text after it is out of sight as in the prefix substring
+        Matcher match = regex.matcher(CharBuffer.wrap(source, 0, end)).region(start, end).useTransparentBounds(true).useAnchoringBounds(false);
+        int lastStart = -1;
+        while (match.find()) {
+            lastStart = match.start();
+        }
+
+        if (lastStart < 0) {
+            return null;
+        }
+
+        match.region(lastStart, end);
+        match.lookingAt();
+
+        return toMatch(match, source);
+    }
+
+    // The match of regex starting at start, within source[0, end) as in the prefix substring. Transparent bounds let
+    // lookbehinds and word boundaries see the text before start, and the region is matched with lookingAt, so this
+    // costs the length of the match instead of a scan of the text.
+    public static Match getMatchAt(Pattern regex, String source, int start, int end) {
+
+        if (regex == null) {
+            return null;
+        }
+
+        // The emulated negative lookbehinds need a string of their own, so these only see source[start, end)
+        if (regex.pattern().contains("(?<nlbii")) {
+            Match match = getFirstMatch(regex, source.substring(start, end));
+            return match != null && match.index == 0 ? shift(match, start) : null;
+        }
+
+        Matcher match = regex.matcher(CharBuffer.wrap(source, 0, end)).region(start, end).useTransparentBounds(true).useAnchoringBounds(false);
+        return match.lookingAt() ? toMatch(match, source) : null;
+    }
+
+    // The match found in a substring of source starting at offset, with its indexes in source
+    private static Match shift(Match match, int offset) {
+        Map<String, MatchGroup> groups = new HashMap<>();
+        match.innerGroups.forEach((key, group) -> groups.put(key, new MatchGroup(group.value, group.index + offset, group.length,
+                Arrays.stream(group.captures).map(c -> new Capture(c.value, c.index + offset, c.length)).toArray(Capture[]::new))));
+
+        return new Match(match.index + offset, match.length, match.value, groups);
+    }
+
     private static String sanitizeGroups(String source) {
 
         String result = source;
@@ -248,77 +349,81 @@ public abstract class RegExpUtility {
 
         Matcher match = regex.matcher(source);
         while (match.find()) {
+            matches.add(toMatch(match, source));
+        }
 
-            List<Pair<String, String>> positiveLookbehinds = new ArrayList<>();
-            Map<String, MatchGroup> groups = new HashMap<>();
-            AtomicReference<String> lastGroup = new AtomicReference<>("");
+        return matches.toArray(new Match[matches.size()]);
+    }
 
-            getNamedGroups(match).forEach((key, groupValue) -> {
+    private static Match toMatch(Matcher match, String source) {
 
-                if (!key.contains(groupNameIndexSep)) {
-                    return;
-                }
+        List<Pair<String, String>> positiveLookbehinds = new ArrayList<>();
+        Map<String, MatchGroup> groups = new HashMap<>();
+        AtomicReference<String> lastGroup = new AtomicReference<>("");
 
-                if (key.startsWith("plb") && !StringUtility.isNullOrEmpty(match.group(key))) {
+        getNamedGroups(match).forEach((key, groupValue) -> {
 
-                    if (match.group(0).indexOf(match.group(key)) != 0 && !StringUtility.isNullOrEmpty(lastGroup.get())) {
+            if (!key.contains(groupNameIndexSep)) {
+                return;
+            }
 
-                        int index = match.start() + match.group(0).indexOf(match.group(key));
-                        int length = match.group(key).length();
-                        String value = source.substring(index, index + length);
+            if (key.startsWith("plb") && !StringUtility.isNullOrEmpty(match.group(key))) {
 
-                        MatchGroup lastMatchGroup = groups.get(lastGroup.get());
-                        groups.replace(lastGroup.get(), new MatchGroup(
-                                lastMatchGroup.value + value,
-                                lastMatchGroup.index,
-                                lastMatchGroup.length,
-                                lastMatchGroup.captures));
-                    }
+                if (match.group(0).indexOf(match.group(key)) != 0 && !StringUtility.isNullOrEmpty(lastGroup.get())) {
 
-                    positiveLookbehinds.add(Pair.with(key, match.group(key)));
-                    return;
+                    int index = match.start() + match.group(0).indexOf(match.group(key));
+                    int length = match.group(key).length();
+                    String value = source.substring(index, index + length);
+
+                    MatchGroup lastMatchGroup = groups.get(lastGroup.get());
+                    groups.replace(lastGroup.get(), new MatchGroup(
+                            lastMatchGroup.value + value,
+                            lastMatchGroup.index,
+                            lastMatchGroup.length,
+                            lastMatchGroup.captures));
                 }
 
-                if (key.startsWith("nlb")) {
-                    return;
-                }
+                positiveLookbehinds.add(Pair.with(key, match.group(key)));
+                return;
+            }
 
-                String groupKey = key.substring(0, key.lastIndexOf(groupNameIndexSep)).replace("ii", "_");
-                lastGroup.set(groupKey);
+            if (key.startsWith("nlb")) {
+                return;
+            }
 
-                if (!groups.containsKey(groupKey)) {
-                    groups.put(groupKey, new MatchGroup("", 0, 0, new Capture[0]));
-                }
+            String groupKey = key.substring(0, key.lastIndexOf(groupNameIndexSep)).replace("ii", "_");
+            lastGroup.set(groupKey);
 
-                if (!StringUtility.isNullOrEmpty(match.group(key))) {
+            if (!groups.containsKey(groupKey)) {
+                groups.put(groupKey, new MatchGroup("", 0, 0, new Capture[0]));
+            }
 
-                    int index = match.start(key);
-                    int length = match.group(key).length();
-                    String value = source.substring(index, match.end(key));
-                    List<Capture> captures = new ArrayList<>(Arrays.asList(groups.get(groupKey).captures));
-                    captures.add(new Capture(value, index, length));
+            if (!StringUtility.isNullOrEmpty(match.group(key))) {
 
-                    groups.replace(groupKey, new MatchGroup(value, index, length, captures.toArray(new Capture[0])));
-                }
-            });
+                int index = match.start(key);
+                int length = match.group(key).length();
+                String value = source.substring(index, match.end(key));
+                List<Capture> captures = new ArrayList<>(Arrays.asList(groups.get(groupKey).captures));
+                captures.add(new Capture(value, index, length));
 
-            String value = match.group(0);
-            int index = match.start();
-            int length = value.length();
-
-            if (positiveLookbehinds.size() > 0 && value.indexOf(positiveLookbehinds.get(0).getValue1()) == 0) {
-                int valueLength = positiveLookbehinds.get(0).getValue1().length();
-                value = source.substring(index, index + length).substring(valueLength);
-                index += valueLength;
-                length -= valueLength;
-            } else {
-                value = source.substring(index, index + length);
+                groups.replace(groupKey, new MatchGroup(value, index, length, captures.toArray(new Capture[0])));
             }
+        });
 
-            matches.add(new Match(index, length, value, groups));
+        String value = match.group(0);
+        int index = match.start();
+        int length = value.length();
+
+        if (positiveLookbehinds.size() > 0 && value.indexOf(positiveLookbehinds.get(0).getValue1()) == 0) {
+            int valueLength = positiveLookbehinds.get(0).getValue1().length();
+            value = source.substring(index, index + length).substring(valueLength);
+            index += valueLength;
+            length -= valueLength;
+        } else {
+            value = source.substring(index, index + length);
         }
 
-        return matches.toArray(new Match[matches.size()]);
+        return new Match(index, length, value, groups);
     }
 
     private static Match getFirstMatchIndex(Pattern regex, String source) {
@@ -381,4 +486,4 @@ public abstract class RegExpUtility {
 
         return resultString.toString();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.javatuples.Quintet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ModelResultCacheTest {
+
+    @Test
+    public void cachedModelParsesEachQueryOnce() {
+        CountingModel model = new CountingModel();
+        ModelResultCache cache = new ModelResultCache(10);
+        IModel cachedModel = new CachedModel(model, "xx-xx", TestOptionsEnum.None, cache);
+
+        cachedModel.parse("one");
+        cachedModel.parse("one");
+        cachedModel.parse("two");
+        List<ModelResult> results = cachedModel.parse("one");
+
+        Assert.assertEquals(2, model.parseCount.get());
+        Assert.assertEquals("one", results.get(0).text);
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals(0.5, cache.getHitRate(), 0);
+    }
+
+    @Test
+    public void keysIncludeCultureAndOptions() {
+        CountingModel model = new CountingModel();
+        ModelResultCache cache = new ModelResultCache(10);
+
+        new CachedModel(model, "xx-xx", TestOptionsEnum.First, cache).parse("one");
+        new CachedModel(model, "xx-xx", TestOptionsEnum.Second, cache).parse("one");
+        new CachedModel(model, "yy-yy", TestOptionsEnum.First, cache).parse("one");
+        new CachedModel(model, "XX-XX", TestOptionsEnum.First, cache).parse("one");
+
+        Assert.assertEquals(3, model.parseCount.get());
+    }
+
+    @Test
+    public void frequentQueriesSurviveOneOffQueries() {
+        CountingModel model = new CountingModel();
+        ModelResultCache cache = new ModelResultCache(10);
+        IModel cachedModel = new CachedModel(model, "xx-xx", TestOptionsEnum.None, cache);
+
+        // Hit twice, moves to the protected segment
+        cachedModel.parse("frequent");
+        cachedModel.parse("frequent");
+
+        for (int i = 0; i < 100; i++) {
+            cachedModel.parse("one-off " + i);
+        }
+
+        int parseCount = model.parseCount.get();
+        cachedModel.parse("frequent");
+
+        Assert.assertEquals(parseCount, model.parseCount.get());
+        Assert.assertEquals(10, cache.size());
+        Assert.assertEquals(91, cache.getEvictionCount());
+    }
+
+    @Test
+    public void weightLimitEvictsEntries() {
+        ModelResultCache cache = new ModelResultCache(100, 10, (query, results) -> query.length());
+        IModel cachedModel = new CachedModel(new CountingModel(), "xx-xx", TestOptionsEnum.None, cache);
+
+        cachedModel.parse("abcd");
+        cachedModel.parse("efgh");
+        cachedModel.parse("ijkl");
+        cachedModel.parse("a query heavier than the whole cache");
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(8, cache.getWeight());
+    }
+
+    @Test
+    public void resultsAreCachedUnderTheKeyChosenForThem() {
+        CountingModel model = new CountingModel();
+        ModelResultCache cache = new ModelResultCache(10);
+        Quintet<String, Type, String, String, Object> coarseKey = ModelResultCache.getKey("xx-xx", CountingModel.class, null, "one", "coarse");
+        Quintet<String, Type, String, String, Object> fineKey = ModelResultCache.getKey("xx-xx", CountingModel.class, null, "one", "fine");
+        List<Quintet<String, Type, String, String, Object>> keys = Arrays.asList(coarseKey, fineKey);
+
+        List<ModelResult> results = cache.get(keys, () -> model.parse("one"), r -> fineKey);
+
+        Assert.assertNull(cache.getIfPresent(coarseKey));
+        Assert.assertSame(results, cache.get(keys, () -> model.parse("one"), r -> fineKey));
+        Assert.assertEquals(1, model.parseCount.get());
+
+        // A single miss per lookup, whatever the number of keys
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void cachedResultsAreImmutable() {
+        IModel cachedModel = new CachedModel(new CountingModel(), "xx-xx", TestOptionsEnum.None, new ModelResultCache(10));
+        cachedModel.parse("one");
+        List<ModelResult> results = cachedModel.parse("one");
+
+        assertThrowsUnsupported(() -> results.clear());
+        assertThrowsUnsupported(() -> results.get(0).resolution.put("value", "other"));
+        assertThrowsUnsupported(() -> ((List<Object>)results.get(0).resolution.get("values")).clear());
+    }
+
+    private static void assertThrowsUnsupported(Runnable action) {
+        try {
+            action.run();
+            Assert.fail("Cached results should not be mutable");
+        } catch (UnsupportedOperationException e) {
+            // Expected
+        }
+    }
+
+    private static class CountingModel implements IModel {
+        private final AtomicInteger parseCount = new AtomicInteger();
+
+        @Override
+        public String getModelTypeName() {
+            return "counting";
+        }
+
+        @Override
+        public List<ModelResult> parse(String query) {
+            parseCount.incrementAndGet();
+
+            SortedMap<String, Object> resolution = new TreeMap<>();
+            resolution.put("value", query);
+            resolution.put("values", new ArrayList<>(Arrays.asList(Collections.singletonMap("value", query))));
+
+            List<ModelResult> results = new ArrayList<>();
+            results.add(new ModelResult(query, 0, query.length() - 1, getModelTypeName(), resolution));
+            return results;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.choice;
+
+import com.microsoft.recognizers.text.ModelResult;
+import com.microsoft.recognizers.text.choice.extractors.OptionsExtractorConfiguration;
+import com.microsoft.recognizers.text.choice.models.OptionsModel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OptionsModelTest {
+
+    private static Map<String, List<String>> menu() {
+        Map<String, List<String>> options = new LinkedHashMap<>();
+        options.put("espresso", Collections.emptyList());
+        options.put("caffe latte", Arrays.asList("latte", "milk coffee"));
+        options.put("green tea", Arrays.asList("matcha"));
+        return options;
+    }
+
+    @Test
+    public void recognizeOptionsAndSynonyms() {
+        OptionsModel model = new OptionsModel(new OptionsExtractorConfiguration(menu()));
+
+        List<ModelResult> results = model.parse("An Espresso and a milk coffee, please");
+
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals("choice", results.get(0).typeName);
+        Assert.assertEquals("Espresso", results.get(0).text);
+        Assert.assertEquals(3, (int)results.get(0).start);
+        Assert.assertEquals(10, (int)results.get(0).end);
+        Assert.assertEquals("espresso", results.get(0).resolution.get("value"));
+        Assert.assertEquals(0, results.get(0).resolution.get("index"));
+
+        Assert.assertEquals("milk coffee", results.get(1).text);
+        Assert.assertEquals("caffe latte", results.get(1).resolution.get("value"));
+        Assert.assertEquals(1, results.get(1).resolution.get("index"));
+        Assert.assertEquals("milk coffee", results.get(1).resolution.get("synonym"));
+    }
+
+    @Test
+    public void recognizeOptionsWithinMaxDistance() {
+        OptionsModel model = new OptionsModel(new OptionsExtractorConfiguration(menu()));
+
+        List<ModelResult> results = model.parse("green iced tea");
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals("green iced tea", results.get(0).text);
+        Assert.assertEquals("green tea", results.get(0).resolution.get("value"));
+        Assert.assertEquals(0.4 + (0.6 * 4 / 9), (double)results.get(0).resolution.get("score"), 1e-9);
+
+        Assert.assertEquals(0, model.parse("green and very hot herbal tea").size());
+    }
+
+    @Test
+    public void recognizePartialMatchesWhenAllowed() {
+        OptionsExtractorConfiguration config = new OptionsExtractorConfiguration(menu());
+        Assert.assertEquals(0, new OptionsModel(config).parse("just tea").size());
+
+        config.allowPartialMatch = true;
+        List<ModelResult> results = new OptionsModel(config).parse("just tea");
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals("tea", results.get(0).text);
+        Assert.assertEquals("green tea", results.get(0).resolution.get("value"));
+    }
+
+    @Test
+    public void recognizeOnlyTopMatch() {
+        OptionsExtractorConfiguration config = new OptionsExtractorConfiguration(menu());
+        config.onlyTopMatch = true;
+
+        List<ModelResult> results = new OptionsModel(config).parse("latte or matcha");
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals("latte", results.get(0).text);
+    }
+
+    @Test
+    public void recognizeEachOptionOnce() {
+        OptionsModel model = new OptionsModel(new OptionsExtractorConfiguration(Arrays.asList("red", "blue")));
+
+        List<ModelResult> results = model.parse("red, blue or red");
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals(0, (int)results.get(0).start);
+        Assert.assertEquals("blue", results.get(1).resolution.get("value"));
+    }
+}
@@ -0,0 +1,136 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.datetime;
+
+import static com.microsoft.recognizers.text.tests.datetime.DateTimeModelTestHelper.describe;
+
+import com.microsoft.recognizers.text.Culture;
+import com.microsoft.recognizers.text.ModelResult;
+import com.microsoft.recognizers.text.ModelResultCache;
+import com.microsoft.recognizers.text.datetime.DateTimeOptions;
+import com.microsoft.recognizers.text.datetime.DateTimeRecognizer;
+import com.microsoft.recognizers.text.datetime.models.CachedDateTimeModel;
+import com.microsoft.recognizers.text.datetime.models.DateTimeModel;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CachedDateTimeModelTest {
+
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2018, 8, 5, 10, 59, 30);
+
+    private final DateTimeModel model = new DateTimeRecognizer().getDateTimeModel(Culture.English, false);
+
+    private final AtomicInteger parses = new AtomicInteger();
+
+    // The English model, counting the queries that reach it
+    private final DateTimeModel countingModel = new DateTimeModel(null, null) {
+        @Override
+        public List<ModelResult> parse(String query, LocalDateTime reference) {
+            parses.incrementAndGet();
+            return model.parse(query, reference);
+        }
+    };
+
+    @Test
+    public void repeatedQueriesAreServedFromTheCache() {
+        ModelResultCache cache = new ModelResultCache(100);
+        DateTimeModel cachedModel = new CachedDateTimeModel(countingModel, Culture.English, DateTimeOptions.None, cache, ChronoUnit.DAYS);
+
+        List<ModelResult> first = cachedModel.parse("see you tomorrow", REFERENCE);
+        List<ModelResult> second = cachedModel.parse("see you tomorrow", REFERENCE.plusHours(5));
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, parses.get());
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void cachedResultsAreTheResultsOfTheModel() {
+        DateTimeModel cachedModel = new CachedDateTimeModel(model, Culture.English, DateTimeOptions.None, new ModelResultCache(100), ChronoUnit.DAYS);
+        String[] queries = {"in 2 hours", "see you tomorrow at 5pm", "right now", "see you tomorrow", "next week", "every day", "for 3 days"};
+
+        // Parsed, then served from the cache, for references of the same day
+        for (LocalDateTime reference : new LocalDateTime[]{REFERENCE, REFERENCE.plusMinutes(7), REFERENCE.plusSeconds(1), REFERENCE}) {
+            for (String query : queries) {
+                Assert.assertEquals(query + " " + reference, describe(model.parse(query, reference)), describe(cachedModel.parse(query, reference)));
+            }
+        }
+    }
+
+    @Test
+    public void timeDependentResultsAreCachedPerReference() {
+        ModelResultCache cache = new ModelResultCache(100);
+        DateTimeModel cachedModel = new CachedDateTimeModel(countingModel, Culture.English, DateTimeOptions.None, cache, ChronoUnit.DAYS);
+
+        String inTwoHours = describe(cachedModel.parse("in 2 hours", REFERENCE)).toString();
+        String laterInTwoHours = describe(cachedModel.parse("in 2 hours", REFERENCE.plusSeconds(30))).toString();
+        cachedModel.parse("in 2 hours", REFERENCE);
+
+        Assert.assertNotEquals(inTwoHours, laterInTwoHours);
+        Assert.assertEquals(2, parses.get());
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void otherQueriesAndDaysMiss() {
+        ModelResultCache cache = new ModelResultCache(100);
+        DateTimeModel cachedModel = new CachedDateTimeModel(countingModel, Culture.English, DateTimeOptions.None, cache, ChronoUnit.DAYS);
+
+        String tomorrow = cachedModel.parse("see you tomorrow", REFERENCE).get(0).resolution.toString();
+        cachedModel.parse("see you next week", REFERENCE);
+        String dayAfter = cachedModel.parse("see you tomorrow", REFERENCE.plusDays(1)).get(0).resolution.toString();
+
+        Assert.assertNotEquals(tomorrow, dayAfter);
+        Assert.assertEquals(3, parses.get());
+        Assert.assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void queriesAreNormalized() {
+        DateTimeModel cachedModel = new CachedDateTimeModel(countingModel, Culture.English, DateTimeOptions.None, new ModelResultCache(100), ChronoUnit.DAYS);
+
+        List<ModelResult> results = cachedModel.parse("See you TOMORROW", REFERENCE);
+
+        Assert.assertSame(results, cachedModel.parse("see you tomorrow", REFERENCE));
+        Assert.assertEquals(1, parses.get());
+        Assert.assertEquals(describe(model.parse("See you TOMORROW", REFERENCE)), describe(results));
+    }
+
+    @Test
+    public void granularityIsAtMostADay() {
+        Assert.assertThrows(IllegalArgumentException.class,
+            () -> new CachedDateTimeModel(model, Culture.English, DateTimeOptions.None, new ModelResultCache(100), ChronoUnit.WEEKS));
+    }
+
+    @Test
+    public void cultureAndOptionsArePartOfTheKey() {
+        ModelResultCache cache = new ModelResultCache(100);
+        new CachedDateTimeModel(countingModel, Culture.English, DateTimeOptions.None, cache, ChronoUnit.DAYS).parse("tomorrow", REFERENCE);
+        new CachedDateTimeModel(countingModel, Culture.Spanish, DateTimeOptions.None, cache, ChronoUnit.DAYS).parse("tomorrow", REFERENCE);
+        new CachedDateTimeModel(countingModel, Culture.English, DateTimeOptions.SplitDateAndTime, cache, ChronoUnit.DAYS).parse("tomorrow", REFERENCE);
+
+        Assert.assertEquals(3, parses.get());
+        Assert.assertEquals(3, cache.size());
+
+        new CachedDateTimeModel(countingModel, Culture.English, DateTimeOptions.None, cache, ChronoUnit.DAYS).parse("tomorrow", REFERENCE);
+        Assert.assertEquals(3, parses.get());
+    }
+
+    @Test
+    public void cachedResultsAreImmutable() {
+        DateTimeModel cachedModel = new CachedDateTimeModel(model, Culture.English, DateTimeOptions.None, new ModelResultCache(100), ChronoUnit.DAYS);
+        List<ModelResult> results = cachedModel.parse("see you tomorrow", REFERENCE);
+
+        Assert.assertThrows(UnsupportedOperationException.class, () -> results.remove(0));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> results.get(0).resolution.put("values", null));
+        Assert.assertEquals(results.get(0).resolution.toString(), cachedModel.parse("see you tomorrow", REFERENCE).get(0).resolution.toString());
+    }
+}
@@ -0,0 +1,115 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.datetime;
+
+import static com.microsoft.recognizers.text.tests.datetime.DateTimeModelTestHelper.describe;
+
+import com.microsoft.recognizers.text.ExtractResult;
+import com.microsoft.recognizers.text.datetime.DateTimeEntityType;
+import com.microsoft.recognizers.text.datetime.DateTimeOptions;
+import com.microsoft.recognizers.text.datetime.english.extractors.EnglishMergedExtractorConfiguration;
+import com.microsoft.recognizers.text.datetime.english.parsers.EnglishMergedParserConfiguration;
+import com.microsoft.recognizers.text.datetime.extractors.BaseMergedDateTimeExtractor;
+import com.microsoft.recognizers.text.datetime.models.DateTimeExtraction;
+import com.microsoft.recognizers.text.datetime.models.DateTimeExtractionCache;
+import com.microsoft.recognizers.text.datetime.models.DateTimeModel;
+import com.microsoft.recognizers.text.datetime.parsers.BaseMergedDateTimeParser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DateTimeExtractionTest {
+
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2016, 6, 10, 8, 0);
+
+    private final AtomicInteger extractions = new AtomicInteger();
+
+    // The English model, counting the extractions it runs
+    private final DateTimeModel model = new DateTimeModel(
+            new BaseMergedDateTimeParser(new EnglishMergedParserConfiguration(DateTimeOptions.None)),
+            new BaseMergedDateTimeExtractor(new EnglishMergedExtractorConfiguration(DateTimeOptions.None)) {
+                @Override
+                public List<ExtractResult> extract(String input, LocalDateTime reference, Set<DateTimeEntityType> types) {
+                    extractions.incrementAndGet();
+                    return super.extract(input, reference, types);
+                }
+            });
+
+    @Test
+    public void resolvingAnExtractionMatchesParsing() {
+        String[] queries = {
+            "see you tomorrow at 5pm",
+            "I'll go back at 8pm today, every week for 3 days",
+            "I'll be out from the 10th to the 15th of next month",
+            "the meeting is between 2 and 4pm on Friday",
+        };
+
+        for (String query : queries) {
+            DateTimeExtraction extraction = model.extract(query, REFERENCE);
+
+            Assert.assertEquals(query, describe(model.parse(query, REFERENCE)), describe(model.resolve(extraction, REFERENCE)));
+        }
+
+        // One extraction per query for extract, one per query for parse
+        Assert.assertEquals(2 * queries.length, extractions.get());
+    }
+
+    @Test
+    public void anExtractionIsReusedWithinTheMonth() {
+        String query = "I'll go back at 8pm today, every week for 3 days";
+        DateTimeExtraction extraction = model.extract(query, REFERENCE);
+
+        // Parsers update the results they are given, resolving the same extraction twice must not be affected
+        for (LocalDateTime reference : new LocalDateTime[]{REFERENCE.withDayOfMonth(1), REFERENCE.withDayOfMonth(30), REFERENCE.withDayOfMonth(1)}) {
+            int count = extractions.get();
+            List<String> resolved = describe(model.resolve(extraction, reference));
+
+            Assert.assertEquals(count, extractions.get());
+            Assert.assertEquals(reference.toString(), describe(model.parse(query, reference)), resolved);
+        }
+
+        // The extraction, then one per parse
+        Assert.assertEquals(4, extractions.get());
+    }
+
+    @Test
+    public void anExtractionIsRedoneForAnotherMonth() {
+        // The 21st is a Tuesday in June 2016, but not in July
+        String query = "let's meet on Tuesday the 21st";
+        LocalDateTime july = REFERENCE.plusMonths(1);
+        DateTimeExtraction extraction = model.extract(query, REFERENCE);
+
+        Assert.assertTrue(extraction.isValidFor(REFERENCE.withDayOfMonth(30)));
+        Assert.assertFalse(extraction.isValidFor(july));
+
+        List<String> resolved = describe(model.resolve(extraction, july));
+
+        Assert.assertEquals(2, extractions.get());
+        Assert.assertEquals(describe(model.parse(query, july)), resolved);
+        Assert.assertNotEquals(describe(model.parse(query, REFERENCE)), resolved);
+    }
+
+    @Test
+    public void extractionCacheSkipsExtractionWithinTheSameMonth() {
+        DateTimeExtractionCache cache = new DateTimeExtractionCache(100);
+        LocalDateTime reference = LocalDateTime.of(2018, 8, 25, 8, 0);
+
+        for (int day = 0; day < 10; day++) {
+            LocalDateTime dayReference = reference.plusDays(day);
+            DateTimeExtraction extraction = cache.extract(model, "see you tomorrow at 5pm", dayReference);
+
+            Assert.assertEquals(
+                    describe(model.parse("see you tomorrow at 5pm", dayReference)),
+                    describe(model.resolve(extraction, dayReference)));
+        }
+
+        // August, then September from the 1st
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals(8, cache.getHitCount());
+    }
+}
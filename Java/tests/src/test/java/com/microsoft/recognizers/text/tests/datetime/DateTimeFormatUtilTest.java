@@ -0,0 +1,39 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.datetime;
+
+import com.microsoft.recognizers.text.datetime.Constants;
+import com.microsoft.recognizers.text.datetime.utilities.DateTimeFormatUtil;
+import com.microsoft.recognizers.text.datetime.utilities.DateUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+public class DateTimeFormatUtilTest {
+
+    @Test
+    public void datesArePaddedLikeFormat() {
+        Assert.assertEquals("2016-01-05", DateTimeFormatUtil.luisDate(2016, 1, 5));
+        Assert.assertEquals("XXXX-XX-05", DateTimeFormatUtil.luisDate(-1, -1, 5));
+        Assert.assertEquals("XXXX-11", DateTimeFormatUtil.luisDate(Constants.InvalidYear, 11));
+        Assert.assertEquals("-012-03", DateTimeFormatUtil.luisDate(-12, 3));
+        Assert.assertEquals("12345", DateTimeFormatUtil.luisDate(12345));
+        Assert.assertEquals("0001-01-01", DateTimeFormatUtil.formatDate(DateUtil.minValue()));
+        Assert.assertEquals("0001-01-01 00:00:00", DateTimeFormatUtil.formatDateTime(DateUtil.minValue()));
+        Assert.assertEquals("2016-W53", DateTimeFormatUtil.toIsoWeekTimex(LocalDateTime.of(2016, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void timesArePaddedLikeFormat() {
+        LocalDateTime time = LocalDateTime.of(2016, 11, 7, 8, 5, 9);
+
+        Assert.assertEquals("2016-11-07T08:05:09", DateTimeFormatUtil.luisDateTime(time));
+        Assert.assertEquals("2016-11-07 08:05:09", DateTimeFormatUtil.formatDateTime(time));
+        Assert.assertEquals("08:05", DateTimeFormatUtil.luisTime(8, 5));
+        Assert.assertEquals("T08", DateTimeFormatUtil.shortTime(8));
+        Assert.assertEquals("T08:05:09", DateTimeFormatUtil.shortTime(8, 5, 9));
+        Assert.assertEquals("T20:30", DateTimeFormatUtil.toPm("T08:30"));
+    }
+}
@@ -0,0 +1,254 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.datetime;
+
+import com.microsoft.recognizers.text.ExtractResult;
+import com.microsoft.recognizers.text.IExtractor;
+import com.microsoft.recognizers.text.ModelResult;
+import com.microsoft.recognizers.text.datetime.DateTimeOptions;
+import com.microsoft.recognizers.text.datetime.extractors.IDateTimeExtractor;
+import com.microsoft.recognizers.text.datetime.extractors.IDateTimeListExtractor;
+import com.microsoft.recognizers.text.datetime.extractors.IDateTimeZoneExtractor;
+import com.microsoft.recognizers.text.datetime.extractors.config.IMergedExtractorConfiguration;
+import com.microsoft.recognizers.text.matcher.StringMatcher;
+import com.microsoft.recognizers.text.tests.AbstractTest;
+import com.microsoft.recognizers.text.tests.TestCase;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.javatuples.Pair;
+
+/**
+ * Shared by the tests checking that a variant of the English DateTimeModel gives the same results as the plain model.
+ */
+final class DateTimeModelTestHelper {
+
+    private DateTimeModelTestHelper() {
+    }
+
+    /**
+     * Gets the English DateTimeModel cases of the specs.
+     */
+    static List<TestCase> englishDateTimeModelCases() {
+        return AbstractTest.enumerateTestCases("DateTime", "Model").stream()
+                .filter(t -> t.language.equals("English") && t.modelName.equals("DateTimeModel"))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Describes each result by all of its fields, for comparing results of different models.
+     */
+    static List<String> describe(List<ModelResult> results) {
+        return results.stream()
+                .map(r -> String.join("|", r.text, String.valueOf(r.start), String.valueOf(r.end), r.typeName, String.valueOf(r.resolution), String.valueOf(r.parentText)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Wraps a sub-extractor to run the given action before each extraction, e.g. to count, delay or fail them.
+     */
+    static IDateTimeExtractor runningFirst(Runnable action, IDateTimeExtractor extractor) {
+        return runningFirst(input -> action.run(), extractor);
+    }
+
+    /**
+     * Wraps a sub-extractor to run the given action on the input of each extraction before it, e.g. to record them.
+     */
+    static IDateTimeExtractor runningFirst(Consumer<String> action, IDateTimeExtractor extractor) {
+        return new IDateTimeExtractor() {
+            @Override
+            public String getExtractorName() {
+                return extractor.getExtractorName();
+            }
+
+            @Override
+            public List<ExtractResult> extract(String input, LocalDateTime reference) {
+                action.accept(input);
+                return extractor.extract(input, reference);
+            }
+
+            @Override
+            public List<ExtractResult> extract(String input) {
+                return this.extract(input, LocalDateTime.now());
+            }
+        };
+    }
+
+    /**
+     * Merged extractor configuration replacing the sub-extractors of another one. The function gets the name of each
+     * sub-extractor (Date, Time, DatePeriod, Duration, TimePeriod, DateTimePeriod, DateTime, Set or Holiday) and the
+     * sub-extractor itself, and returns the one to use instead.
+     */
+    static class SubExtractorConfiguration implements IMergedExtractorConfiguration {
+
+        private final IMergedExtractorConfiguration config;
+
+        private final Map<String, IDateTimeExtractor> extractors = new HashMap<>();
+
+        SubExtractorConfiguration(IMergedExtractorConfiguration config, BiFunction<String, IDateTimeExtractor, IDateTimeExtractor> replace) {
+            this.config = config;
+            extractors.put("Date", replace.apply("Date", config.getDateExtractor()));
+            extractors.put("Time", replace.apply("Time", config.getTimeExtractor()));
+            extractors.put("DatePeriod", replace.apply("DatePeriod", config.getDatePeriodExtractor()));
+            extractors.put("Duration", replace.apply("Duration", config.getDurationExtractor()));
+            extractors.put("TimePeriod", replace.apply("TimePeriod", config.getTimePeriodExtractor()));
+            extractors.put("DateTimePeriod", replace.apply("DateTimePeriod", config.getDateTimePeriodExtractor()));
+            extractors.put("DateTime", replace.apply("DateTime", config.getDateTimeExtractor()));
+            extractors.put("Set", replace.apply("Set", config.getSetExtractor()));
+            extractors.put("Holiday", replace.apply("Holiday", config.getHolidayExtractor()));
+        }
+
+        @Override
+        public IDateTimeExtractor getDateExtractor() {
+            return extractors.get("Date");
+        }
+
+        @Override
+        public IDateTimeExtractor getTimeExtractor() {
+            return extractors.get("Time");
+        }
+
+        @Override
+        public IDateTimeExtractor getDateTimeExtractor() {
+            return extractors.get("DateTime");
+        }
+
+        @Override
+        public IDateTimeExtractor getDatePeriodExtractor() {
+            return extractors.get("DatePeriod");
+        }
+
+        @Override
+        public IDateTimeExtractor getTimePeriodExtractor() {
+            return extractors.get("TimePeriod");
+        }
+
+        @Override
+        public IDateTimeExtractor getDateTimePeriodExtractor() {
+            return extractors.get("DateTimePeriod");
+        }
+
+        @Override
+        public IDateTimeExtractor getDurationExtractor() {
+            return extractors.get("Duration");
+        }
+
+        @Override
+        public IDateTimeExtractor getSetExtractor() {
+            return extractors.get("Set");
+        }
+
+        @Override
+        public IDateTimeExtractor getHolidayExtractor() {
+            return extractors.get("Holiday");
+        }
+
+        @Override
+        public IDateTimeZoneExtractor getTimeZoneExtractor() {
+            return config.getTimeZoneExtractor();
+        }
+
+        @Override
+        public IDateTimeListExtractor getDateTimeAltExtractor() {
+            return config.getDateTimeAltExtractor();
+        }
+
+        @Override
+        public IExtractor getIntegerExtractor() {
+            return config.getIntegerExtractor();
+        }
+
+        @Override
+        public Iterable<Pattern> getFilterWordRegexList() {
+            return config.getFilterWordRegexList();
+        }
+
+        @Override
+        public Pattern getAfterRegex() {
+            return config.getAfterRegex();
+        }
+
+        @Override
+        public Pattern getBeforeRegex() {
+            return config.getBeforeRegex();
+        }
+
+        @Override
+        public Pattern getSinceRegex() {
+            return config.getSinceRegex();
+        }
+
+        @Override
+        public Pattern getAroundRegex() {
+            return config.getAroundRegex();
+        }
+
+        @Override
+        public Pattern getFromToRegex() {
+            return config.getFromToRegex();
+        }
+
+        @Override
+        public Pattern getSingleAmbiguousMonthRegex() {
+            return config.getSingleAmbiguousMonthRegex();
+        }
+
+        @Override
+        public Pattern getAmbiguousRangeModifierPrefix() {
+            return config.getAmbiguousRangeModifierPrefix();
+        }
+
+        @Override
+        public Pattern getPotentialAmbiguousRangeRegex() {
+            return config.getPotentialAmbiguousRangeRegex();
+        }
+
+        @Override
+        public Pattern getPrepositionSuffixRegex() {
+            return config.getPrepositionSuffixRegex();
+        }
+
+        @Override
+        public Pattern getNumberEndingPattern() {
+            return config.getNumberEndingPattern();
+        }
+
+        @Override
+        public Pattern getSuffixAfterRegex() {
+            return config.getSuffixAfterRegex();
+        }
+
+        @Override
+        public Pattern getUnspecificDatePeriodRegex() {
+            return config.getUnspecificDatePeriodRegex();
+        }
+
+        @Override
+        public StringMatcher getSuperfluousWordMatcher() {
+            return config.getSuperfluousWordMatcher();
+        }
+
+        @Override
+        public Iterable<Pair<Pattern, Pattern>> getAmbiguityFiltersDict() {
+            return config.getAmbiguityFiltersDict();
+        }
+
+        @Override
+        public DateTimeOptions getOptions() {
+            return config.getOptions();
+        }
+
+        @Override
+        public boolean getDmyDateFormat() {
+            return config.getDmyDateFormat();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.datetime;
+
+import com.microsoft.recognizers.text.ExtractResult;
+import com.microsoft.recognizers.text.IExtractor;
+import com.microsoft.recognizers.text.datetime.utilities.ExtractionMemo;
+import com.microsoft.recognizers.text.number.english.extractors.IntegerExtractor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ExtractionMemoTest {
+
+    @Test
+    public void extractionsAreOnlyRememberedWhileRunning() {
+        CountingExtractor extractor = new CountingExtractor();
+
+        ExtractionMemo.extract(extractor, "3 apples and 4 pears");
+        ExtractionMemo.extract(extractor, "3 apples and 4 pears");
+        Assert.assertEquals(2, extractor.calls.get());
+
+        ExtractionMemo.run(() -> {
+            List<ExtractResult> first = ExtractionMemo.extract(extractor, "3 apples and 4 pears");
+            first.get(0).setStart(42);
+            first.clear();
+
+            List<ExtractResult> second = ExtractionMemo.extract(extractor, "3 apples and 4 pears");
+            Assert.assertEquals(2, second.size());
+            Assert.assertEquals(0, (int)second.get(0).getStart());
+
+            ExtractionMemo.extract(extractor, "4 pears");
+            return null;
+        });
+
+        Assert.assertEquals(4, extractor.calls.get());
+    }
+
+    @Test
+    public void sharedActionsUseTheMemoOfTheCallingThread() {
+        CountingExtractor extractor = new CountingExtractor();
+
+        ExtractionMemo.run(() -> {
+            ExtractionMemo.extract(extractor, "3 apples");
+            return CompletableFuture.supplyAsync(ExtractionMemo.share(() -> ExtractionMemo.extract(extractor, "3 apples"))).join();
+        });
+
+        Assert.assertEquals(1, extractor.calls.get());
+    }
+
+    private static class CountingExtractor implements IExtractor {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public List<ExtractResult> extract(String input) {
+            calls.incrementAndGet();
+            return IntegerExtractor.getInstance().extract(input);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.datetime;
+
+import com.microsoft.recognizers.text.datetime.english.parsers.EnglishHolidayParserConfiguration;
+import com.microsoft.recognizers.text.datetime.utilities.HolidayTable;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+public class HolidayTableTest {
+
+    private final EnglishHolidayParserConfiguration config = new EnglishHolidayParserConfiguration();
+    private final HolidayTable table = new HolidayTable(config);
+
+    @Test
+    public void holidayKeysAreFoundByName() {
+        Assert.assertEquals("easterday", table.getHolidayKey("eastersunday"));
+        Assert.assertEquals("thanksgiving", table.getHolidayKey("thanksgivingday"));
+        Assert.assertNull(table.getHolidayKey("easter sunday"));
+    }
+
+    @Test
+    public void datesAreComputedOncePerYear() {
+        LocalDateTime mothersDay = table.getDate("mothers", 2024);
+
+        Assert.assertEquals(LocalDateTime.of(2024, 5, 12, 0, 0), mothersDay);
+        Assert.assertSame(mothersDay, table.getDate("mothers", 2024));
+        Assert.assertEquals(config.getHolidayFuncDictionary().get("thanksgiving").apply(2019), table.getDate("thanksgiving", 2019));
+        Assert.assertNull(table.getDate("unknown", 2019));
+    }
+}
@@ -0,0 +1,156 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.datetime;
+
+import static com.microsoft.recognizers.text.tests.datetime.DateTimeModelTestHelper.describe;
+import static com.microsoft.recognizers.text.tests.datetime.DateTimeModelTestHelper.runningFirst;
+
+import com.microsoft.recognizers.text.datetime.DateTimeOptions;
+import com.microsoft.recognizers.text.datetime.english.extractors.EnglishMergedExtractorConfiguration;
+import com.microsoft.recognizers.text.datetime.english.parsers.EnglishMergedParserConfiguration;
+import com.microsoft.recognizers.text.datetime.extractors.BaseMergedDateTimeExtractor;
+import com.microsoft.recognizers.text.datetime.extractors.config.IMergedExtractorConfiguration;
+import com.microsoft.recognizers.text.datetime.models.DateTimeModel;
+import com.microsoft.recognizers.text.datetime.parsers.BaseMergedDateTimeParser;
+import com.microsoft.recognizers.text.tests.TestCase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class ParallelMergedDateTimeExtractorTest {
+
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2016, 11, 7, 0, 0);
+
+    private static final String QUERY = "I'll go back at 8pm today, every week for 3 days";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private final EnglishMergedExtractorConfiguration config = new EnglishMergedExtractorConfiguration(DateTimeOptions.None);
+
+    private final BaseMergedDateTimeParser parser = new BaseMergedDateTimeParser(new EnglishMergedParserConfiguration(DateTimeOptions.None));
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void parallelExtractionMatchesSequentialExtraction() {
+        List<TestCase> testCases = DateTimeModelTestHelper.englishDateTimeModelCases();
+        Assert.assertFalse(testCases.isEmpty());
+
+        for (DateTimeOptions options : new DateTimeOptions[]{DateTimeOptions.None, DateTimeOptions.EnablePreview}) {
+            EnglishMergedExtractorConfiguration optionsConfig = new EnglishMergedExtractorConfiguration(options);
+            BaseMergedDateTimeParser optionsParser = new BaseMergedDateTimeParser(new EnglishMergedParserConfiguration(options));
+            DateTimeModel sequential = new DateTimeModel(optionsParser, new BaseMergedDateTimeExtractor(optionsConfig));
+            DateTimeModel parallel = new DateTimeModel(optionsParser, new BaseMergedDateTimeExtractor(optionsConfig, executor));
+
+            // A sample of the cases, the tests below cover the scheduling itself
+            for (int i = 0; i < testCases.size(); i += 10) {
+                TestCase testCase = testCases.get(i);
+                LocalDateTime reference = testCase.getReferenceDateTime();
+                Assert.assertEquals(testCase.toString(),
+                        describe(sequential.parse(testCase.input, reference)),
+                        describe(parallel.parse(testCase.input, reference)));
+            }
+        }
+    }
+
+    @Test
+    public void subExtractorsRunConcurrently() {
+        // Each of the date and time extractors waits for the other to start, which never happens if they run one by one
+        CountDownLatch started = new CountDownLatch(2);
+        IMergedExtractorConfiguration waitingConfig = new DateTimeModelTestHelper.SubExtractorConfiguration(config, (name, extractor) ->
+                name.equals("Date") || name.equals("Time") ? runningFirst(() -> awaitOthers(started), extractor) : extractor);
+
+        DateTimeModel parallel = new DateTimeModel(parser, new BaseMergedDateTimeExtractor(waitingConfig, executor));
+
+        Assert.assertEquals(describe(sequentialModel().parse(QUERY, REFERENCE)), describe(parallel.parse(QUERY, REFERENCE)));
+        Assert.assertEquals(0, started.getCount());
+    }
+
+    @Test
+    public void slowSubExtractorsKeepTheirOrder() {
+        // The first sub-extractors finish last
+        IMergedExtractorConfiguration slowConfig = new DateTimeModelTestHelper.SubExtractorConfiguration(config, (name, extractor) -> {
+            switch (name) {
+                case "Date":
+                    return runningFirst(() -> sleep(300), extractor);
+                case "Time":
+                    return runningFirst(() -> sleep(200), extractor);
+                case "DatePeriod":
+                    return runningFirst(() -> sleep(100), extractor);
+                default:
+                    return extractor;
+            }
+        });
+
+        DateTimeModel parallel = new DateTimeModel(parser, new BaseMergedDateTimeExtractor(slowConfig, executor));
+
+        for (String query : new String[]{QUERY, "see you tomorrow at 5pm", "I'll be out from the 10th to the 15th of next month"}) {
+            Assert.assertEquals(query, describe(sequentialModel().parse(query, REFERENCE)), describe(parallel.parse(query, REFERENCE)));
+        }
+    }
+
+    @Test
+    public void failingSubExtractorsFailTheExtraction() {
+        // A slow sub-extractor first, then one failing right away
+        IMergedExtractorConfiguration failingConfig = new DateTimeModelTestHelper.SubExtractorConfiguration(config, (name, extractor) -> {
+            switch (name) {
+                case "Date":
+                    return runningFirst(() -> sleep(200), extractor);
+                case "Duration":
+                    return runningFirst(() -> {
+                        throw new IllegalStateException("Duration extractor failed");
+                    }, extractor);
+                default:
+                    return extractor;
+            }
+        });
+
+        BaseMergedDateTimeExtractor sequential = new BaseMergedDateTimeExtractor(failingConfig);
+        BaseMergedDateTimeExtractor parallel = new BaseMergedDateTimeExtractor(failingConfig, executor);
+
+        IllegalStateException expected = Assert.assertThrows(IllegalStateException.class, () -> sequential.extract(QUERY, REFERENCE));
+        IllegalStateException actual = Assert.assertThrows(IllegalStateException.class, () -> parallel.extract(QUERY, REFERENCE));
+        Assert.assertEquals(expected.getMessage(), actual.getMessage());
+
+        // The model recovers from it as it does for sequential extraction, and the executor is still usable
+        Assert.assertTrue(new DateTimeModel(parser, parallel).parse(QUERY, REFERENCE).isEmpty());
+        Assert.assertEquals(
+                describe(sequentialModel().parse(QUERY, REFERENCE)),
+                describe(new DateTimeModel(parser, new BaseMergedDateTimeExtractor(config, executor)).parse(QUERY, REFERENCE)));
+    }
+
+    private DateTimeModel sequentialModel() {
+        return new DateTimeModel(parser, new BaseMergedDateTimeExtractor(config));
+    }
+
+    private static void awaitOthers(CountDownLatch started) {
+        started.countDown();
+        try {
+            if (!started.await(10, TimeUnit.SECONDS)) {
+                throw new AssertionError("Sub-extractors did not run concurrently");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
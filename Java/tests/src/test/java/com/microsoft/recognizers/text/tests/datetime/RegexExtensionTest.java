@@ -0,0 +1,103 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.datetime;
+
+import com.microsoft.recognizers.text.datetime.english.extractors.EnglishDateExtractorConfiguration;
+import com.microsoft.recognizers.text.datetime.utilities.ConditionalMatch;
+import com.microsoft.recognizers.text.datetime.utilities.RegexExtension;
+import com.microsoft.recognizers.text.utilities.Match;
+import com.microsoft.recognizers.text.utilities.RegExpUtility;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+public class RegexExtensionTest {
+
+    private static final String[] Inputs = {
+        "this 5/12",
+        "i'll go back next friday 5/12 ",
+        "not the last, the previous one and this",
+        "this\tthis  ",
+        "coming up next",
+        "this is a long way ahead of the end of the text, well beyond the window matchEnd looks into, next friday 5/12",
+        "",
+    };
+
+    private static final Pattern[] Patterns = {
+        EnglishDateExtractorConfiguration.StrictRelativeRegex,
+        RegExpUtility.getSafeRegExp("\\b(?<order>next|this|last)\\b", Pattern.CASE_INSENSITIVE),
+        EnglishDateExtractorConfiguration.WeekDayRegex,
+        RegExpUtility.getSafeRegExp("(?<!next )\\bfriday\\b", Pattern.CASE_INSENSITIVE),
+    };
+
+    @Test
+    public void firstMatchesAndMatchesAtAgreeWithGetMatches() {
+        for (Pattern regex : Patterns) {
+            for (String input : Inputs) {
+                Match[] matches = RegExpUtility.getMatches(regex, input);
+                assertSameMatch(matches.length > 0 ? matches[0] : null, RegExpUtility.getFirstMatch(regex, input));
+
+                for (Match match : matches) {
+                    assertSameMatch(match, RegExpUtility.getMatchAt(regex, input, match.index, input.length()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void matchBeginFromIndexAgreesWithSubstring() {
+        for (Pattern regex : Patterns) {
+            for (String input : Inputs) {
+                // Word boundaries and lookbehinds see the text before the index, so only from the start of words
+                for (int start = 0; start <= input.length(); start++) {
+                    if (start > 0 && !Character.isWhitespace(input.charAt(start - 1))) {
+                        continue;
+                    }
+
+                    for (boolean trim : new boolean[] { true, false }) {
+                        ConditionalMatch expected = RegexExtension.matchBegin(regex, input.substring(start), trim);
+                        ConditionalMatch actual = RegexExtension.matchBegin(regex, input, start, trim);
+
+                        Assert.assertEquals(input + " [" + start + ", )", expected.getSuccess(), actual.getSuccess());
+                        if (expected.getSuccess()) {
+                            Assert.assertEquals(expected.getMatch().get().index + start, actual.getMatch().get().index);
+                            Assert.assertEquals(expected.getMatch().get().value, actual.getMatch().get().value);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void matchEndOverPrefixAgreesWithSubstring() {
+        for (Pattern regex : Patterns) {
+            for (String input : Inputs) {
+                for (int end = 0; end <= input.length(); end++) {
+                    for (boolean trim : new boolean[] { true, false }) {
+                        ConditionalMatch expected = RegexExtension.matchEnd(regex, input.substring(0, end), trim);
+                        ConditionalMatch actual = RegexExtension.matchEnd(regex, input, end, trim);
+
+                        Assert.assertEquals(input + " [0, " + end + ")", expected.getSuccess(), actual.getSuccess());
+                        assertSameMatch(expected.getMatch().orElse(null), actual.getMatch().orElse(null));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertSameMatch(Match expected, Match actual) {
+        if (expected == null || actual == null) {
+            Assert.assertSame(expected, actual);
+            return;
+        }
+
+        Assert.assertEquals(expected.index, actual.index);
+        Assert.assertEquals(expected.length, actual.length);
+        Assert.assertEquals(expected.value, actual.value);
+        Assert.assertEquals(expected.getGroup("order").value, actual.getGroup("order").value);
+        Assert.assertEquals(expected.getGroup("weekday").value, actual.getGroup("weekday").value);
+    }
+}
@@ -0,0 +1,130 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.datetime;
+
+import static com.microsoft.recognizers.text.tests.datetime.DateTimeModelTestHelper.describe;
+import static com.microsoft.recognizers.text.tests.datetime.DateTimeModelTestHelper.runningFirst;
+
+import com.microsoft.recognizers.text.Culture;
+import com.microsoft.recognizers.text.ModelResult;
+import com.microsoft.recognizers.text.datetime.DateTimeEntityType;
+import com.microsoft.recognizers.text.datetime.DateTimeOptions;
+import com.microsoft.recognizers.text.datetime.DateTimeRecognizer;
+import com.microsoft.recognizers.text.datetime.english.extractors.EnglishMergedExtractorConfiguration;
+import com.microsoft.recognizers.text.datetime.english.parsers.EnglishMergedParserConfiguration;
+import com.microsoft.recognizers.text.datetime.extractors.BaseMergedDateTimeExtractor;
+import com.microsoft.recognizers.text.datetime.models.DateTimeModel;
+import com.microsoft.recognizers.text.datetime.parsers.BaseMergedDateTimeParser;
+import com.microsoft.recognizers.text.tests.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class SelectiveDateTimeModelTest {
+
+    @Test
+    public void selectiveParsingMatchesFilteredParsing() {
+        DateTimeModel model = new DateTimeRecognizer().getDateTimeModel(Culture.English, false);
+
+        List<TestCase> testCases = DateTimeModelTestHelper.englishDateTimeModelCases();
+        Assert.assertFalse(testCases.isEmpty());
+
+        List<Set<DateTimeEntityType>> typeSets = new ArrayList<>();
+        for (DateTimeEntityType type : DateTimeEntityType.values()) {
+            typeSets.add(EnumSet.of(type));
+        }
+
+        typeSets.add(EnumSet.of(DateTimeEntityType.Date, DateTimeEntityType.Time));
+
+        // A sample of the cases, each one parsed for every entity type
+        for (int i = 0; i < testCases.size(); i += 20) {
+            TestCase testCase = testCases.get(i);
+            LocalDateTime reference = testCase.getReferenceDateTime();
+            List<ModelResult> results = model.parse(testCase.input, reference);
+
+            for (Set<DateTimeEntityType> types : typeSets) {
+                List<ModelResult> expected = results.stream()
+                        .filter(r -> types.contains(DateTimeEntityType.fromTypeName(r.typeName)))
+                        .collect(Collectors.toList());
+
+                Assert.assertEquals(testCase.toString() + " " + types, describe(expected), describe(model.parse(testCase.input, reference, types)));
+            }
+        }
+    }
+
+    @Test
+    public void selectiveParsingSkipsUnrequestedEntities() {
+        DateTimeModel model = new DateTimeRecognizer().getDateTimeModel(Culture.English, false);
+        LocalDateTime reference = LocalDateTime.of(2016, 11, 7, 0, 0);
+
+        List<ModelResult> results = model.parse("I'll go back at 8pm today, every week for 3 days", reference, EnumSet.of(DateTimeEntityType.Duration));
+
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals("3 days", results.get(0).text);
+        Assert.assertTrue(model.parse("I'll go back at 8pm today", reference, EnumSet.of(DateTimeEntityType.Set)).isEmpty());
+    }
+
+    @Test
+    public void selectiveParsingSkipsUnrequestedSubExtractors() {
+        Map<String, AtomicInteger> runs = new TreeMap<>();
+        DateTimeModel model = new DateTimeModel(
+                new BaseMergedDateTimeParser(new EnglishMergedParserConfiguration(DateTimeOptions.None)),
+                new BaseMergedDateTimeExtractor(new DateTimeModelTestHelper.SubExtractorConfiguration(
+                        new EnglishMergedExtractorConfiguration(DateTimeOptions.None),
+                        (name, extractor) -> runningFirst(runs.computeIfAbsent(name, n -> new AtomicInteger())::incrementAndGet, extractor))));
+        LocalDateTime reference = LocalDateTime.of(2016, 11, 7, 0, 0);
+
+        // No duration, so only the duration extractor runs
+        Assert.assertTrue(model.parse("see you tomorrow at 5pm", reference, EnumSet.of(DateTimeEntityType.Duration)).isEmpty());
+        Assert.assertEquals("{Date=0, DatePeriod=0, DateTime=0, DateTimePeriod=0, Duration=1, Holiday=0, Set=0, Time=0, TimePeriod=0}", runs.toString());
+
+        // Times ending with a number are looked for after date times, so these run as well
+        runs.values().forEach(count -> count.set(0));
+        Assert.assertTrue(model.parse("I'll be out for 3 days", reference, EnumSet.of(DateTimeEntityType.Time)).isEmpty());
+        Assert.assertEquals("{Date=0, DatePeriod=0, DateTime=1, DateTimePeriod=0, Duration=0, Holiday=0, Set=0, Time=1, TimePeriod=0}", runs.toString());
+
+        // Once the requested ones find something, the others run around it to resolve overlaps
+        runs.values().forEach(count -> count.set(0));
+        Assert.assertEquals(1, model.parse("I'll be out for 3 days", reference, EnumSet.of(DateTimeEntityType.Duration)).size());
+        Assert.assertTrue(runs.values().stream().allMatch(count -> count.get() == 1));
+    }
+
+    @Test
+    public void selectiveParsingRunsOtherSubExtractorsAroundRequestedEntitiesOnly() {
+        Map<String, List<String>> inputs = new TreeMap<>();
+        DateTimeModel model = new DateTimeModel(
+                new BaseMergedDateTimeParser(new EnglishMergedParserConfiguration(DateTimeOptions.None)),
+                new BaseMergedDateTimeExtractor(new DateTimeModelTestHelper.SubExtractorConfiguration(
+                        new EnglishMergedExtractorConfiguration(DateTimeOptions.None),
+                        (name, extractor) -> runningFirst(inputs.computeIfAbsent(name, n -> new ArrayList<>())::add, extractor))));
+        LocalDateTime reference = LocalDateTime.of(2016, 11, 7, 0, 0);
+
+        String filler = String.join(", ", Collections.nCopies(20, "nothing to see here"));
+        String query = "I'll be out for 3 days, " + filler + ", and away for 2 weeks";
+
+        List<ModelResult> results = model.parse(query, reference, EnumSet.of(DateTimeEntityType.Duration));
+        Assert.assertEquals(Arrays.asList("3 days", "2 weeks"), results.stream().map(r -> r.text).collect(Collectors.toList()));
+
+        // The duration extractor runs on the whole query, the others once around each duration
+        Assert.assertEquals(Collections.singletonList(query.length()), inputs.get("Duration").stream().map(String::length).collect(Collectors.toList()));
+        for (Map.Entry<String, List<String>> entry : inputs.entrySet()) {
+            if (!entry.getKey().equals("Duration")) {
+                Assert.assertEquals(entry.getKey(), 2, entry.getValue().size());
+                Assert.assertTrue(entry.getKey(), entry.getValue().get(0).startsWith("i'll be out for 3 days") && !entry.getValue().get(0).contains("2 weeks"));
+                Assert.assertTrue(entry.getKey(), entry.getValue().get(1).endsWith("away for 2 weeks") && !entry.getValue().get(1).contains("3 days"));
+            }
+        }
+    }
+}
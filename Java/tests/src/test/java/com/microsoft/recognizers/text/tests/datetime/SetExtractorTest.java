@@ -0,0 +1,75 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.datetime;
+
+import com.microsoft.recognizers.text.ExtractResult;
+import com.microsoft.recognizers.text.datetime.DateTimeOptions;
+import com.microsoft.recognizers.text.datetime.config.BaseOptionsConfiguration;
+import com.microsoft.recognizers.text.datetime.english.extractors.EnglishDateExtractorConfiguration;
+import com.microsoft.recognizers.text.datetime.english.extractors.EnglishSetExtractorConfiguration;
+import com.microsoft.recognizers.text.datetime.extractors.BaseDateExtractor;
+import com.microsoft.recognizers.text.datetime.extractors.BaseSetExtractor;
+import com.microsoft.recognizers.text.datetime.extractors.IDateTimeExtractor;
+import com.microsoft.recognizers.text.datetime.utilities.Token;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class SetExtractorTest {
+
+    private static final LocalDateTime Reference = LocalDateTime.of(2016, 11, 7, 0, 0);
+
+    private final BaseSetExtractor extractor = new BaseSetExtractor(new EnglishSetExtractorConfiguration(DateTimeOptions.None));
+
+    @Test
+    public void eachMarkersAreExtractedInOnePass() {
+        CountingExtractor dates = new CountingExtractor();
+        String input = "every monday, every tuesday and every other friday";
+
+        List<Token> tokens = extractor.matchEach(dates, input, Reference);
+
+        Assert.assertEquals(1, dates.calls.get());
+        Assert.assertEquals(
+                "[every monday, every tuesday, every other friday]",
+                tokens.stream().map(t -> input.substring(t.getStart(), t.getEnd())).collect(Collectors.toList()).toString());
+    }
+
+    @Test
+    public void pluralWeekdaysAreExtractedInOnePass() {
+        CountingExtractor dates = new CountingExtractor();
+        String input = "on mondays and fridays";
+
+        List<Token> tokens = extractor.matchEach(dates, input, Reference);
+
+        Assert.assertEquals(1, dates.calls.get());
+        Assert.assertEquals(
+                "[on mondays, fridays]",
+                tokens.stream().map(t -> input.substring(t.getStart(), t.getEnd())).collect(Collectors.toList()).toString());
+    }
+
+    private static class CountingExtractor implements IDateTimeExtractor {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final BaseDateExtractor inner = new BaseDateExtractor(new EnglishDateExtractorConfiguration(new BaseOptionsConfiguration()));
+
+        @Override
+        public String getExtractorName() {
+            return inner.getExtractorName();
+        }
+
+        @Override
+        public List<ExtractResult> extract(String input) {
+            return extract(input, Reference);
+        }
+
+        @Override
+        public List<ExtractResult> extract(String input, LocalDateTime reference) {
+            calls.incrementAndGet();
+            return inner.extract(input, reference);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.number;
+
+import com.microsoft.recognizers.text.Culture;
+import com.microsoft.recognizers.text.CultureInfo;
+import com.microsoft.recognizers.text.number.parsers.NumberFormatUtility;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumberFormatUtilityTest {
+
+    private static final CultureInfo English = new CultureInfo(Culture.English);
+    private static final CultureInfo Spanish = new CultureInfo(Culture.Spanish);
+
+    @Test
+    public void formatPlainValues() {
+        Assert.assertEquals("0", NumberFormatUtility.format(0.0, English));
+        Assert.assertEquals("0", NumberFormatUtility.format(-0.0, English));
+        Assert.assertEquals("12345", NumberFormatUtility.format(12345.0, English));
+        Assert.assertEquals("-2.5", NumberFormatUtility.format(-2.5, English));
+        Assert.assertEquals("1234.5678", NumberFormatUtility.format(1234.5678, English));
+        Assert.assertEquals("0.0001", NumberFormatUtility.format(1E-4, English));
+        Assert.assertEquals("999999999999999", NumberFormatUtility.format(999999999999999.0, English));
+    }
+
+    @Test
+    public void formatRoundsTo15SignificantDigits() {
+        Assert.assertEquals("0.3", NumberFormatUtility.format(0.1 + 0.2, English));
+        Assert.assertEquals("0.333333333333333", NumberFormatUtility.format(1.0 / 3, English));
+        Assert.assertEquals("0.666666666666667", NumberFormatUtility.format(2.0 / 3, English));
+    }
+
+    @Test
+    public void formatExponentialValues() {
+        Assert.assertEquals("1.5E-05", NumberFormatUtility.format(1.5E-5, English));
+    }
+
+    @Test
+    public void formatUsesCultureDecimalsMark() {
+        Assert.assertEquals("1234,5678", NumberFormatUtility.format(1234.5678, Spanish));
+        Assert.assertEquals("0,3", NumberFormatUtility.format(0.1 + 0.2, Spanish));
+    }
+}
@@ -0,0 +1,63 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.numberwithunit;
+
+import com.microsoft.recognizers.text.IModel;
+import com.microsoft.recognizers.text.ModelResult;
+import com.microsoft.recognizers.text.numberwithunit.NumberWithUnitOptions;
+import com.microsoft.recognizers.text.numberwithunit.NumberWithUnitRecognizer;
+import com.microsoft.recognizers.text.numberwithunit.models.CombinedUnitModel;
+import com.microsoft.recognizers.text.tests.AbstractTest;
+import com.microsoft.recognizers.text.tests.TestCase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class CombinedUnitModelTest {
+
+    @Test
+    public void combinedUnitModelMatchesSeparateModels() {
+        NumberWithUnitRecognizer recognizer = new NumberWithUnitRecognizer(NumberWithUnitOptions.None);
+        Collection<TestCase> testCases = AbstractTest.enumerateTestCases("NumberWithUnit", "Model");
+        Assert.assertFalse(testCases.isEmpty());
+
+        for (TestCase testCase : testCases) {
+            String culture = AbstractTest.getCultureCode(testCase.language);
+            CombinedUnitModel combinedModel = recognizer.getCombinedUnitModel(culture, false);
+            List<IModel> separateModels = Arrays.asList(
+                    recognizer.getCurrencyModel(culture, false),
+                    recognizer.getDimensionModel(culture, false),
+                    recognizer.getTemperatureModel(culture, false),
+                    recognizer.getAgeModel(culture, false));
+
+            List<ModelResult> expected = new ArrayList<>();
+            for (IModel model : separateModels) {
+                expected.addAll(model.parse(testCase.input));
+            }
+
+            List<ModelResult> actual = combinedModel.parse(testCase.input);
+
+            Assert.assertEquals(testCase.toString(), describe(expected), describe(actual));
+        }
+    }
+
+    @Test
+    public void combinedUnitModelFindsAllUnitTypes() {
+        List<ModelResult> results = NumberWithUnitRecognizer.recognizeUnits("I am 30 years old, it is 25 degrees celsius and I walked 3 miles for $5", "en-us");
+
+        List<String> typeNames = results.stream().map(r -> r.typeName).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("currency", "dimension", "temperature", "age"), typeNames);
+    }
+
+    private static List<String> describe(List<ModelResult> results) {
+        return results.stream()
+                .map(r -> String.join("|", r.text, String.valueOf(r.start), String.valueOf(r.end), r.typeName, String.valueOf(r.resolution)))
+                .collect(Collectors.toList());
+    }
+}
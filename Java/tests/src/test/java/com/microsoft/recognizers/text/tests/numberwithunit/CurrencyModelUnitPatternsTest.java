@@ -0,0 +1,67 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.numberwithunit;
+
+import com.google.common.collect.ImmutableMap;
+import com.microsoft.recognizers.text.IModel;
+import com.microsoft.recognizers.text.numberwithunit.english.extractors.CurrencyExtractorConfiguration;
+import com.microsoft.recognizers.text.numberwithunit.english.parsers.CurrencyParserConfiguration;
+import com.microsoft.recognizers.text.numberwithunit.extractors.BaseMergedUnitExtractor;
+import com.microsoft.recognizers.text.numberwithunit.models.CurrencyModel;
+import com.microsoft.recognizers.text.numberwithunit.parsers.BaseMergedUnitParser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CurrencyModelUnitPatternsTest {
+
+    private static final List<String> Queries = Arrays.asList(
+            "it costs $5",
+            "I paid 10 dollars and 50 cents for it",
+            "the price went from 1,000 euros to 2 thousand pounds",
+            "send me 3 bitcoin",
+            "nothing to see here");
+
+    private static final int Iterations = 20;
+
+    @Test
+    public void currencyModelDoesNotRebuildUnitPatternsPerQuery() {
+        CountingCurrencyExtractorConfiguration config = new CountingCurrencyExtractorConfiguration();
+        IModel model = new CurrencyModel(ImmutableMap.of(
+                new BaseMergedUnitExtractor(config),
+                new BaseMergedUnitParser(new CurrencyParserConfiguration())));
+
+        int unitListReadsAtConstruction = config.unitListReads.get();
+        Assert.assertTrue(unitListReadsAtConstruction > 0);
+
+        for (int i = 0; i < Iterations; i++) {
+            for (String query : Queries) {
+                model.parse(query);
+            }
+        }
+
+        // Unit lists are only read while the unit patterns get built
+        Assert.assertEquals(unitListReadsAtConstruction, config.unitListReads.get());
+    }
+
+    private static class CountingCurrencyExtractorConfiguration extends CurrencyExtractorConfiguration {
+        private final AtomicInteger unitListReads = new AtomicInteger();
+
+        @Override
+        public Map<String, String> getSuffixList() {
+            unitListReads.incrementAndGet();
+            return super.getSuffixList();
+        }
+
+        @Override
+        public Map<String, String> getPrefixList() {
+            unitListReads.incrementAndGet();
+            return super.getPrefixList();
+        }
+    }
+}
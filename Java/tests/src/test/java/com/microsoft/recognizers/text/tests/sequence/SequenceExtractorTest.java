@@ -0,0 +1,117 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.recognizers.text.tests.sequence;
+
+import com.microsoft.recognizers.text.ExtractResult;
+import com.microsoft.recognizers.text.sequence.Constants;
+import com.microsoft.recognizers.text.sequence.SequenceOptions;
+import com.microsoft.recognizers.text.sequence.english.extractors.EnglishIpExtractorConfiguration;
+import com.microsoft.recognizers.text.sequence.english.extractors.EnglishPhoneNumberExtractorConfiguration;
+import com.microsoft.recognizers.text.sequence.english.extractors.MentionExtractor;
+import com.microsoft.recognizers.text.sequence.extractors.BaseIpExtractor;
+import com.microsoft.recognizers.text.sequence.extractors.BasePhoneNumberExtractor;
+import com.microsoft.recognizers.text.sequence.extractors.SequenceScanner;
+import com.microsoft.recognizers.text.sequence.resources.BaseGUID;
+import com.microsoft.recognizers.text.sequence.resources.BaseIp;
+import com.microsoft.recognizers.text.utilities.Match;
+import com.microsoft.recognizers.text.utilities.RegExpUtility;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+public class SequenceExtractorTest {
+
+    @Test
+    public void extractedDataComesFromTheMatchOfEachResult() {
+        BaseIpExtractor extractor = new BaseIpExtractor(new EnglishIpExtractorConfiguration(SequenceOptions.None));
+
+        List<ExtractResult> results = extractor.extract("route 10.0.0.1 through fe80::1 or 192.168.1.1");
+
+        Assert.assertEquals(3, results.size());
+        Assert.assertEquals("10.0.0.1", results.get(0).getText());
+        Assert.assertEquals(Constants.IP_REGEX_IPV4, results.get(0).getData());
+        Assert.assertEquals("fe80::1", results.get(1).getText());
+        Assert.assertEquals(Constants.IP_REGEX_IPV6, results.get(1).getData());
+        Assert.assertEquals("192.168.1.1", results.get(2).getText());
+        Assert.assertEquals(Constants.IP_REGEX_IPV4, results.get(2).getData());
+    }
+
+    @Test
+    public void matchesKeepTheirContextOutsideTheScannedWindows() {
+        MentionExtractor extractor = new MentionExtractor();
+
+        // "@b.c" is left out by the lookahead of the mention regex, which sees past the characters a mention is made of
+        List<ExtractResult> results = extractor.extract("ping @a_b, not @b.c");
+
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals("@a_b", results.get(0).getText());
+        Assert.assertEquals(5, (int)results.get(0).getStart());
+    }
+
+    @Test
+    public void phoneNumbersAreFoundInTheWindowsHoldingThem() {
+        BasePhoneNumberExtractor extractor = new BasePhoneNumberExtractor(new EnglishPhoneNumberExtractorConfiguration(SequenceOptions.None));
+
+        List<ExtractResult> results = extractor.extract("dial 00 44 20 7946 0958 or (425) 555-1234, not 123-45-6789");
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals("00 44 20 7946 0958", results.get(0).getText());
+        Assert.assertEquals("(425) 555-1234", results.get(1).getText());
+        Assert.assertEquals(27, (int)results.get(1).getStart());
+
+        // The extension is part of the window of the number
+        results = extractor.extract("tel:4255551234 and ext 4255551234 x123");
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals("4255551234", results.get(0).getText());
+        Assert.assertEquals("4255551234 x123", results.get(1).getText());
+    }
+
+    @Test
+    public void phoneNumbersMatchedBySeveralRegexesComeFromTheFirstOne() {
+        // The regexes are tried in the order they are added, on every new extractor
+        for (int i = 0; i < 5; i++) {
+            BasePhoneNumberExtractor extractor = new BasePhoneNumberExtractor(new EnglishPhoneNumberExtractorConfiguration(SequenceOptions.None));
+
+            // Matched by the UK, US and special regexes
+            List<ExtractResult> results = extractor.extract("call 425-555-1234");
+            Assert.assertEquals(1, results.size());
+            Assert.assertEquals(Constants.PHONE_NUMBER_REGEX_UK, results.get(0).getData());
+
+            // Matched by the general regex and by most of the national ones
+            results = extractor.extract("call 020 7946 0958");
+            Assert.assertEquals(1, results.size());
+            Assert.assertEquals(Constants.PHONE_NUMBER_REGEX_GENERAL, results.get(0).getData());
+        }
+    }
+
+    @Test
+    public void scannersFindTheMatchesOfTheRegexes() {
+        String[] texts = {
+            "10.0.0.1, 255.255.255.255 and 01.002.3.04 but not 256.1.1.1, 1.2.3 or 1.2.3.4a; 1.2.3.4.5 and x_1.2.3.4",
+            "2001:db8:85a3:0:0:8a2e:370:7334, fe80::1, ::1, ::, 1::, 1:2:3:4:5:6:7::, 1:2:3:4:5:6:7::x, a::b::c and 12345::1",
+            "::ffff:1.2.3.4 and 1::2:3x, then :: alone, :1 and 1:2::",
+            "123e4567-e89b-12d3-a456-426655440000, {123e4567e89b12d3a456426655440000}, urn:uuid:123e4567-e89b-12d3-a456-426655440000",
+            "%7b123e4567-e89b-12d3-a456-426655440000%7d x'123e4567e89b12d3a456426655440000' 123E4567-e89b-12d3-a456-426655440000",
+        };
+
+        for (String text : texts) {
+            assertSameMatches(Pattern.compile(BaseIp.Ipv4Regex), SequenceScanner::scanIpv4, text);
+            assertSameMatches(Pattern.compile(BaseIp.Ipv6Regex), SequenceScanner::scanIpv6, text);
+            assertSameMatches(Pattern.compile(BaseGUID.GUIDRegex), SequenceScanner::scanGUID, text);
+        }
+    }
+
+    private static void assertSameMatches(Pattern regex, Function<String, List<Match>> scanner, String text) {
+        Match[] expected = RegExpUtility.getMatches(regex, text);
+        List<Match> actual = scanner.apply(text);
+
+        Assert.assertEquals(text, expected.length, actual.size());
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(text, expected[i].index, actual.get(i).index);
+            Assert.assertEquals(text, expected[i].value, actual.get(i).value);
+        }
+    }
+}